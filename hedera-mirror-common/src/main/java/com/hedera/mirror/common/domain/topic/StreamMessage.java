@@ -20,5 +20,8 @@ import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
-@JsonSubTypes({@JsonSubTypes.Type(value = TopicMessage.class, name = "TopicMessage")})
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = TopicMessage.class, name = "TopicMessage"),
+    @JsonSubTypes.Type(value = TopicMessageRange.class, name = "TopicMessageRange")
+})
 public interface StreamMessage {}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.topic;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A pointer to the topic messages of the given topics within an inclusive range of consensus timestamps. It is sent
+ * instead of the messages themselves so that a notification stays small and the messages can be read with one query.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE) // For builder
+@Builder
+@Data
+@JsonTypeName("TopicMessageRange")
+@NoArgsConstructor
+public class TopicMessageRange implements StreamMessage {
+
+    private long consensusEnd;
+
+    private long consensusStart;
+
+    private List<Long> topicIds;
+}
@@ -22,9 +22,15 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.hedera.mirror.common.converter.EntityIdDeserializer;
 import com.hedera.mirror.common.converter.EntityIdSerializer;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageRange;
 import com.hedera.mirror.grpc.DbProperties;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -33,12 +39,12 @@ import io.vertx.pgclient.pubsub.PgChannel;
 import io.vertx.pgclient.pubsub.PgSubscriber;
 import jakarta.inject.Named;
 import java.time.Duration;
-import java.util.Objects;
 import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.retry.Retry;
 
 @Named
@@ -48,16 +54,25 @@ public class NotifyingTopicListener extends SharedTopicListener {
     private final Mono<PgChannel> channel;
     private final JdbcConnectionDetails connectionDetails;
     private final DbProperties dbProperties;
+    private final Counter rangeErrorsMetric;
+    private final TopicMessageRepository topicMessageRepository;
     private final Flux<TopicMessage> topicMessages;
 
     public NotifyingTopicListener(
             JdbcConnectionDetails connectionDetails,
             DbProperties dbProperties,
             ListenerProperties listenerProperties,
-            ObservationRegistry observationRegistry) {
-        super(listenerProperties);
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry,
+            TopicMessageCache topicMessageCache,
+            TopicMessageRepository topicMessageRepository) {
+        super(listenerProperties, topicMessageCache);
         this.connectionDetails = connectionDetails;
         this.dbProperties = dbProperties;
+        this.topicMessageRepository = topicMessageRepository;
+        this.rangeErrorsMetric = Counter.builder("hedera.mirror.grpc.listener.range.errors")
+                .description("The number of topic message range notifications whose messages couldn't be queried")
+                .register(meterRegistry);
 
         // use EntityIdDeserializer/EntityIdSerializer for EntityIds (e.g. payer_account_id)
         var module = new SimpleModule();
@@ -70,8 +85,8 @@ public class NotifyingTopicListener extends SharedTopicListener {
         channel = Mono.defer(this::createChannel).cache();
         Duration interval = listenerProperties.getInterval();
         topicMessages = Flux.defer(this::listen)
-                .map(this::toTopicMessage)
-                .filter(Objects::nonNull)
+                .concatMap(this::toTopicMessages)
+                .doOnNext(topicMessageCache::add)
                 .name(METRIC)
                 .tag(METRIC_TAG, "notify")
                 .tap(Micrometer.observation(observationRegistry))
@@ -120,13 +135,32 @@ public class NotifyingTopicListener extends SharedTopicListener {
                 .thenReturn(subscriber.channel("topic_message"));
     }
 
-    private TopicMessage toTopicMessage(String payload) {
+    private Flux<TopicMessage> toTopicMessages(String payload) {
         try {
-            return objectMapper.readValue(payload, TopicMessage.class);
+            var streamMessage = objectMapper.readValue(payload, StreamMessage.class);
+            if (streamMessage instanceof TopicMessageRange range) {
+                return findByRange(range);
+            }
+
+            return Flux.just((TopicMessage) streamMessage);
         } catch (Exception ex) {
             // Discard invalid messages. No need to propagate error and cause a reconnect.
             log.error("Error parsing message {}", payload, ex);
-            return null;
+            return Flux.empty();
         }
     }
+
+    // Resolve a notification of a range of topic messages with a single query instead of a payload per message
+    private Flux<TopicMessage> findByRange(TopicMessageRange range) {
+        return Flux.defer(() -> Flux.fromIterable(topicMessageRepository.findByRange(
+                        range.getConsensusStart(), range.getConsensusEnd(), range.getTopicIds())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    // Dropping the range keeps the shared listener connected. Each subscriber retrieves the dropped
+                    // messages from the database once the gap in sequence numbers is seen with its next message.
+                    log.error("Error querying messages in range {}", range, e);
+                    rangeErrorsMetric.increment();
+                    return Flux.empty();
+                });
+    }
 }
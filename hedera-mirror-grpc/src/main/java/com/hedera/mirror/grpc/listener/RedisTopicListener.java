@@ -18,6 +18,7 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
@@ -52,8 +53,9 @@ public class RedisTopicListener extends SharedTopicListener {
             ListenerProperties listenerProperties,
             ObservationRegistry observationRegistry,
             ReactiveRedisConnectionFactory connectionFactory,
-            RedisSerializer<TopicMessage> redisSerializer) {
-        super(listenerProperties);
+            RedisSerializer<TopicMessage> redisSerializer,
+            TopicMessageCache topicMessageCache) {
+        super(listenerProperties, topicMessageCache);
         this.channelSerializer = SerializationPair.fromSerializer(RedisSerializer.string());
         this.messageSerializer = SerializationPair.fromSerializer(redisSerializer);
         this.topicMessages = new ConcurrentHashMap<>();
@@ -87,6 +89,7 @@ public class RedisTopicListener extends SharedTopicListener {
         return container
                 .flatMapMany(r -> r.receive(Collections.singletonList(topic), channelSerializer, messageSerializer))
                 .map(Message::getMessage)
+                .doOnNext(topicMessageCache::add)
                 .doOnCancel(() -> unsubscribe(topic))
                 .doOnComplete(() -> unsubscribe(topic))
                 .doOnError(t -> log.error("Error listening for messages", t))
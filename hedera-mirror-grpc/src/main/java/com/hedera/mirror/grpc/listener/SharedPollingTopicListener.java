@@ -21,6 +21,7 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
@@ -44,8 +45,9 @@ public class SharedPollingTopicListener extends SharedTopicListener {
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
             ObservationRegistry observationRegistry,
+            TopicMessageCache topicMessageCache,
             TopicMessageRepository topicMessageRepository) {
-        super(listenerProperties);
+        super(listenerProperties, topicMessageCache);
         this.topicMessageRepository = topicMessageRepository;
 
         Scheduler scheduler = Schedulers.newSingle("shared-poll", true);
@@ -57,6 +59,7 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .name(METRIC)
                 .tag(METRIC_TAG, "shared poll")
                 .tap(Micrometer.observation(observationRegistry))
+                .doOnNext(topicMessageCache::add)
                 .doOnCancel(() -> log.info("Cancelled polling"))
                 .doOnError(t -> log.error("Error polling the database", t))
                 .doOnSubscribe(context::onStart)
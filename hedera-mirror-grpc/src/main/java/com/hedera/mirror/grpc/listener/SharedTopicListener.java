@@ -18,6 +18,7 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.retriever.TopicMessageCache;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +33,7 @@ public abstract class SharedTopicListener implements TopicListener {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
+    protected final TopicMessageCache topicMessageCache;
 
     @Override
     @SuppressWarnings("deprecation")
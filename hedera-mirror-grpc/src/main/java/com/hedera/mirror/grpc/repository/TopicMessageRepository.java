@@ -17,6 +17,7 @@
 package com.hedera.mirror.grpc.repository;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -40,4 +41,15 @@ public interface TopicMessageRepository extends CrudRepository<TopicMessage, Lon
        """,
             nativeQuery = true)
     List<TopicMessage> findLatest(long consensusTimestamp, int limit);
+
+    @Query(
+            value =
+                    """
+       select *
+       from topic_message
+       where consensus_timestamp >= ?1 and consensus_timestamp <= ?2 and topic_id in (?3)
+       order by consensus_timestamp
+       """,
+            nativeQuery = true)
+    List<TopicMessage> findByRange(long consensusStart, long consensusEnd, Collection<Long> topicIds);
 }
@@ -25,4 +25,14 @@ public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Streams the messages matching the filter from a server-side cursor that fetches at most fetchSize rows at a time.
+     * The cursor holds a dedicated read-only transaction and connection until the returned stream is closed.
+     *
+     * @param filter    the topic message filter
+     * @param fetchSize the number of rows to fetch from the cursor at a time
+     * @return the lazily fetched messages
+     */
+    Stream<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize);
 }
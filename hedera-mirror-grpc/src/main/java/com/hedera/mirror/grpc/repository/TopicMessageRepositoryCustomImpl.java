@@ -28,6 +28,8 @@ import jakarta.persistence.criteria.Root;
 import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.hibernate.jpa.HibernateHints;
 
 @CustomLog
@@ -45,21 +47,7 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
     @Override
     public Stream<TopicMessage> findByFilter(TopicMessageFilter filter) {
-        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
-        CriteriaQuery<TopicMessage> query = cb.createQuery(TopicMessage.class);
-        Root<TopicMessage> root = query.from(TopicMessage.class);
-
-        Predicate predicate = cb.and(
-                cb.equal(root.get(TOPIC_ID), filter.getTopicId()),
-                cb.greaterThanOrEqualTo(root.get(CONSENSUS_TIMESTAMP), filter.getStartTime()));
-
-        if (filter.getEndTime() != null) {
-            predicate = cb.and(predicate, cb.lessThan(root.get(CONSENSUS_TIMESTAMP), filter.getEndTime()));
-        }
-
-        query = query.select(root).where(predicate).orderBy(cb.asc(root.get(CONSENSUS_TIMESTAMP)));
-
-        TypedQuery<TopicMessage> typedQuery = entityManager.createQuery(query);
+        TypedQuery<TopicMessage> typedQuery = entityManager.createQuery(criteriaQuery(filter));
         typedQuery.setHint(HibernateHints.HINT_READ_ONLY, true);
 
         if (filter.hasLimit()) {
@@ -73,4 +61,54 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    public Stream<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize) {
+        // The cursor outlives the caller's transaction, so it's given its own session that is closed with the stream
+        var sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class);
+        StatelessSession session = sessionFactory.openStatelessSession();
+
+        try {
+            // PostgreSQL only uses a cursor to honor the fetch size when auto-commit is disabled
+            var transaction = session.beginTransaction();
+
+            if (filter.getLimit() != 1) {
+                session.createNativeMutationQuery(TOPIC_MESSAGES_BY_ID_QUERY_HINT).executeUpdate();
+            }
+
+            var query =
+                    session.createQuery(criteriaQuery(filter)).setFetchSize(fetchSize).setReadOnly(true);
+
+            if (filter.hasLimit()) {
+                query.setMaxResults((int) filter.getLimit());
+            }
+
+            return query.getResultStream().onClose(() -> {
+                try {
+                    transaction.rollback();
+                } finally {
+                    session.close();
+                }
+            });
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
+    }
+
+    private CriteriaQuery<TopicMessage> criteriaQuery(TopicMessageFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TopicMessage> query = cb.createQuery(TopicMessage.class);
+        Root<TopicMessage> root = query.from(TopicMessage.class);
+
+        Predicate predicate = cb.and(
+                cb.equal(root.get(TOPIC_ID), filter.getTopicId()),
+                cb.greaterThanOrEqualTo(root.get(CONSENSUS_TIMESTAMP), filter.getStartTime()));
+
+        if (filter.getEndTime() != null) {
+            predicate = cb.and(predicate, cb.lessThan(root.get(CONSENSUS_TIMESTAMP), filter.getEndTime()));
+        }
+
+        return query.select(root).where(predicate).orderBy(cb.asc(root.get(CONSENSUS_TIMESTAMP)));
+    }
 }
@@ -20,16 +20,22 @@ import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.Data;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Jitter;
@@ -40,21 +46,46 @@ import reactor.util.retry.Retry;
 @CustomLog
 public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
+    private static final String MODE_POLL = "poll";
+    private static final String MODE_STREAM = "stream";
+
+    private final Timer.Builder durationMetric;
+    private final Timer.Builder firstMessageMetric;
+    private final MeterRegistry meterRegistry;
+    private final Counter.Builder messagesMetric;
     private final ObservationRegistry observationRegistry;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageCache topicMessageCache;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
+    private final Semaphore cursors;
 
     public PollingTopicMessageRetriever(
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
+            TopicMessageCache topicMessageCache,
             TopicMessageRepository topicMessageRepository) {
+        this.meterRegistry = meterRegistry;
         this.observationRegistry = observationRegistry;
         this.retrieverProperties = retrieverProperties;
+        this.topicMessageCache = topicMessageCache;
         this.topicMessageRepository = topicMessageRepository;
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
         scheduler = Schedulers.newParallel("retriever", threadCount, true);
+        cursors = new Semaphore(retrieverProperties.getStream().getMaxConcurrent());
+
+        var type = TopicMessage.class.getSimpleName();
+        durationMetric = Timer.builder("hedera.mirror.grpc.retriever.duration")
+                .description("The time it took to retrieve all historical messages of a subscriber")
+                .tag("type", type);
+        firstMessageMetric = Timer.builder("hedera.mirror.grpc.retriever.first")
+                .description("The time it took to retrieve the first historical message of a subscriber")
+                .tag("type", type);
+        messagesMetric = Counter.builder("hedera.mirror.grpc.retriever.messages")
+                .description("The number of historical messages retrieved")
+                .tag("type", type);
     }
 
     @Override
@@ -63,7 +94,55 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return Flux.empty();
         }
 
-        PollingContext context = new PollingContext(filter, throttled);
+        var cached = topicMessageCache.get(filter);
+        if (cached.isEmpty()) {
+            return retrieveFromDatabase(filter, throttled);
+        }
+
+        // Only query the database for the messages after the last buffered message
+        var last = cached.get(cached.size() - 1);
+        long startTime = last.getConsensusTimestamp() + 1;
+        long limit = filter.hasLimit() ? filter.getLimit() - cached.size() : 0;
+        var endTime = filter.getEndTime();
+
+        if ((filter.hasLimit() && limit <= 0) || (endTime != null && startTime >= endTime)) {
+            return Flux.fromIterable(cached);
+        }
+
+        var newFilter = filter.toBuilder().limit(limit).startTime(startTime).build();
+        return Flux.fromIterable(cached).concatWith(Flux.defer(() -> retrieveFromDatabase(newFilter, throttled)));
+    }
+
+    private Flux<TopicMessage> retrieveFromDatabase(TopicMessageFilter filter, boolean throttled) {
+        // A cursor avoids re-executing the query for every page of a throttled retrieval, but each one holds a
+        // connection until it's closed so their number is capped and any retrieval past that falls back to polling
+        return Flux.defer(() -> throttled && retrieverProperties.getStream().isEnabled() && cursors.tryAcquire()
+                ? stream(filter)
+                : poll(filter, throttled));
+    }
+
+    private Flux<TopicMessage> stream(TopicMessageFilter filter) {
+        PollingContext context = new PollingContext(filter, true, MODE_STREAM);
+        int fetchSize = retrieverProperties.getStream().getFetchSize();
+
+        log.debug("Streaming query: {}", filter);
+        // The stream is closed on completion, error or cancellation to release the cursor and its connection
+        return Flux.using(
+                        () -> topicMessageRepository.streamByFilter(filter, fetchSize), Flux::fromStream, Stream::close)
+                .subscribeOn(scheduler)
+                .name(METRIC)
+                .tap(Micrometer.observation(observationRegistry))
+                // Only the time until the first row is bounded since the rest are paced by the subscriber's demand
+                .timeout(Mono.delay(retrieverProperties.getTimeout(), scheduler), t -> Mono.never())
+                .doOnNext(context::onNext)
+                .doFinally(s -> {
+                    cursors.release();
+                    context.onComplete();
+                });
+    }
+
+    private Flux<TopicMessage> poll(TopicMessageFilter filter, boolean throttled) {
+        PollingContext context = new PollingContext(filter, throttled, MODE_POLL);
         return Flux.defer(() -> poll(context))
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
                         .fixedBackoff(context.getFrequency())
@@ -99,6 +178,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
         private final TopicMessageFilter filter;
         private final boolean throttled;
+        private final String mode;
         private final Duration frequency;
         private final AtomicReference<TopicMessage> last = new AtomicReference<>();
         private final int maxPageSize;
@@ -107,9 +187,10 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         private final Stopwatch stopwatch = Stopwatch.createStarted();
         private final AtomicLong total = new AtomicLong(0L);
 
-        private PollingContext(TopicMessageFilter filter, boolean throttled) {
+        private PollingContext(TopicMessageFilter filter, boolean throttled, String mode) {
             this.filter = filter;
             this.throttled = throttled;
+            this.mode = mode;
 
             if (throttled) {
                 numRepeats = Long.MAX_VALUE;
@@ -145,18 +226,29 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         }
 
         void onNext(TopicMessage topicMessage) {
+            if (last.get() == null) {
+                firstMessageMetric
+                        .tag("mode", mode)
+                        .register(meterRegistry)
+                        .record(stopwatch.elapsed(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            }
+
             last.set(topicMessage);
             total.incrementAndGet();
             pageSize.incrementAndGet();
         }
 
         void onComplete() {
+            durationMetric.tag("mode", mode).register(meterRegistry).record(stopwatch.elapsed());
+            messagesMetric.tag("mode", mode).register(meterRegistry).increment(total.get());
+
             var elapsed = stopwatch.elapsed(TimeUnit.MILLISECONDS);
             var rate = elapsed > 0 ? (int) (1000.0 * total.get() / elapsed) : 0;
             log.info(
-                    "[{}] Finished retrieving {} messages in {} ({}/s)",
+                    "[{}] Finished retrieving {} messages via {} in {} ({}/s)",
                     filter.getSubscriberId(),
                     total,
+                    mode,
                     stopwatch,
                     rate);
         }
@@ -22,6 +22,7 @@ import java.time.Duration;
 import lombok.Data;
 import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -29,6 +30,9 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
 
     @Min(32)
@@ -37,6 +41,9 @@ public class RetrieverProperties {
     @NotNull
     private Duration pollingFrequency = Duration.ofSeconds(2L);
 
+    @NotNull
+    private StreamProperties stream = new StreamProperties();
+
     @Min(1)
     private int threadMultiplier = 4;
 
@@ -46,6 +53,35 @@ public class RetrieverProperties {
     @NotNull
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int maxMessages = 1000;
+
+        @NotNull
+        private DataSize maxSize = DataSize.ofMegabytes(100L);
+
+        @Min(1)
+        private long maxTopics = 1000;
+    }
+
+    @Data
+    @Validated
+    public static class StreamProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int fetchSize = 1000;
+
+        @Min(1)
+        private int maxConcurrent = 16;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -0,0 +1,232 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Buffers the most recent messages of recently retrieved topics as they are received by the shared topic listener so
+ * that the historical retrieval of a recent window can be served from memory instead of the database. Each topic buffer
+ * only ever holds a contiguous range of sequence numbers, so a retrieval starting within that range is guaranteed to
+ * see every message up to the last buffered one. A retrieval only marks its topic as recently retrieved, and the buffer
+ * is created by the listener once a message of that topic is received. The buffers are bounded in total by the
+ * estimated size of their messages, evicting the least recently used topics, and the number of buffered messages per
+ * topic is bounded by overwriting the oldest ones.
+ */
+@Named
+public class TopicMessageCache {
+
+    private final Cache<EntityId, TopicBuffer> buffers;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final RetrieverProperties.CacheProperties properties;
+    private final Cache<EntityId, Boolean> retrieved;
+
+    public TopicMessageCache(MeterRegistry meterRegistry, RetrieverProperties retrieverProperties) {
+        this.properties = retrieverProperties.getCache();
+        this.buffers = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .recordStats()
+                .weigher((EntityId topicId, TopicBuffer buffer) -> buffer.weight())
+                .build();
+        this.retrieved = Caffeine.newBuilder().maximumSize(properties.getMaxTopics()).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buffers, "topicMessageCache");
+
+        var counter = Counter.builder("hedera.mirror.grpc.retriever.cache")
+                .description("The number of historical retrievals that were served from the topic message cache")
+                .tag("type", TopicMessage.class.getSimpleName());
+        this.hitCounter = counter.tag("result", "hit").register(meterRegistry);
+        this.missCounter = counter.tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * Buffers the message if its topic has been retrieved recently.
+     *
+     * @param topicMessage the message received by the listener
+     */
+    public void add(TopicMessage topicMessage) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        var topicId = topicMessage.getTopicId();
+        if (!buffers.asMap().containsKey(topicId) && !retrieved.asMap().containsKey(topicId)) {
+            return;
+        }
+
+        // Replace the buffer so that the cache weighs it again with the added message
+        buffers.asMap().compute(topicId, (id, buffer) -> {
+            if (buffer == null) {
+                if (!retrieved.asMap().containsKey(id)) {
+                    return null;
+                }
+
+                buffer = new TopicBuffer(properties.getMaxMessages());
+            }
+
+            buffer.add(topicMessage);
+            return buffer;
+        });
+    }
+
+    /**
+     * Gets the buffered messages matching the filter if the start time falls within the buffered window of the topic.
+     * Marks the topic as recently retrieved so that its messages are buffered as they're received and subsequent
+     * retrievals can be served from memory.
+     *
+     * @param filter the retrieval filter
+     * @return the matching messages in consensus order, or an empty list if the window doesn't cover the start time
+     */
+    public List<TopicMessage> get(TopicMessageFilter filter) {
+        if (!properties.isEnabled()) {
+            return List.of();
+        }
+
+        retrieved.put(filter.getTopicId(), Boolean.TRUE);
+        var buffer = buffers.getIfPresent(filter.getTopicId());
+        var topicMessages = buffer != null ? buffer.get(filter) : List.<TopicMessage>of();
+        (topicMessages.isEmpty() ? missCounter : hitCounter).increment();
+        return topicMessages;
+    }
+
+    private static class TopicBuffer {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        // The approximate size of a message excluding its byte arrays
+        private static final int MESSAGE_OVERHEAD = 160;
+
+        private final int capacity;
+        private long bytes;
+        private int head; // The index of the oldest message
+        private int size;
+        private TopicMessage[] topicMessages;
+
+        private TopicBuffer(int capacity) {
+            this.capacity = capacity;
+            topicMessages = new TopicMessage[Math.min(capacity, INITIAL_CAPACITY)];
+        }
+
+        synchronized void add(TopicMessage topicMessage) {
+            if (size > 0) {
+                var last = at(size - 1);
+
+                // Already buffered from another subscription of the shared listener
+                if (topicMessage.getConsensusTimestamp() <= last.getConsensusTimestamp()) {
+                    return;
+                }
+
+                // Restart the window on a gap so that it stays contiguous
+                if (topicMessage.getSequenceNumber() != last.getSequenceNumber() + 1) {
+                    Arrays.fill(topicMessages, null);
+                    bytes = 0;
+                    head = 0;
+                    size = 0;
+                }
+            }
+
+            if (size == topicMessages.length && size < capacity) {
+                grow();
+            }
+
+            bytes += size(topicMessage);
+
+            if (size < topicMessages.length) {
+                topicMessages[(head + size) % topicMessages.length] = topicMessage;
+                size++;
+            } else {
+                bytes -= size(topicMessages[head]);
+                topicMessages[head] = topicMessage;
+                head = (head + 1) % topicMessages.length;
+            }
+        }
+
+        synchronized List<TopicMessage> get(TopicMessageFilter filter) {
+            long startTime = filter.getStartTime();
+            if (size == 0 || startTime < at(0).getConsensusTimestamp()) {
+                return List.of();
+            }
+
+            // Binary search for the first message at or after the start time
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (at(mid).getConsensusTimestamp() < startTime) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            var endTime = filter.getEndTime();
+            long limit = filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE;
+            var result = new ArrayList<TopicMessage>(size - low);
+
+            for (int i = low; i < size && result.size() < limit; i++) {
+                var topicMessage = at(i);
+                if (endTime != null && topicMessage.getConsensusTimestamp() >= endTime) {
+                    break;
+                }
+
+                result.add(topicMessage);
+            }
+
+            return result;
+        }
+
+        synchronized int weight() {
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        private TopicMessage at(int index) {
+            return topicMessages[(head + index) % topicMessages.length];
+        }
+
+        private void grow() {
+            var grown = new TopicMessage[Math.min(capacity, topicMessages.length * 2)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = at(i);
+            }
+
+            topicMessages = grown;
+            head = 0;
+        }
+
+        private static long size(TopicMessage topicMessage) {
+            return MESSAGE_OVERHEAD
+                    + length(topicMessage.getInitialTransactionId())
+                    + length(topicMessage.getMessage())
+                    + length(topicMessage.getRunningHash());
+        }
+
+        private static int length(byte[] bytes) {
+            return bytes != null ? bytes.length : 0;
+        }
+    }
+}
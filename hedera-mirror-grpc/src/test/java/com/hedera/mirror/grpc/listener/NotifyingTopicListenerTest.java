@@ -17,9 +17,12 @@
 package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageRange;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import java.time.Duration;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -105,6 +108,31 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void range() {
+        var topicMessage1 = domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1001L))).block();
+        var topicMessage2 = domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1002L))).block();
+        var topicMessage3 = domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1001L))).block();
+        var range = TopicMessageRange.builder()
+                .consensusEnd(topicMessage3.getConsensusTimestamp())
+                .consensusStart(topicMessage1.getConsensusTimestamp())
+                .topicIds(List.of(1001L, 1002L))
+                .build();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(EntityId.of(1001L))
+                .build();
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", toJson(range)))
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNext(topicMessage1, topicMessage3)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
     @Test
     void jsonError() {
         TopicMessageFilter filter = TopicMessageFilter.builder().startTime(0).build();
@@ -129,9 +157,9 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .blockLast();
     }
 
-    private String toJson(TopicMessage topicMessage) {
+    private String toJson(StreamMessage streamMessage) {
         try {
-            return topicListener.objectMapper.writeValueAsString(topicMessage);
+            return topicListener.objectMapper.writeValueAsString(streamMessage);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
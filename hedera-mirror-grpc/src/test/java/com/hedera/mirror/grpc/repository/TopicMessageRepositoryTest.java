@@ -26,6 +26,7 @@ import com.hedera.mirror.grpc.GrpcIntegrationTest;
 import com.hedera.mirror.grpc.domain.ReactiveDomainBuilder;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import java.time.Instant;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 
@@ -120,6 +121,21 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void findByRange() {
+        var topicMessage1 = domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1))).block();
+        var topicMessage2 = domainBuilder.topicMessage(t -> t.topicId(EntityId.of(2))).block();
+        var topicMessage3 = domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1))).block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1))).block();
+
+        assertThat(topicMessageRepository.findByRange(
+                        topicMessage1.getConsensusTimestamp(), topicMessage3.getConsensusTimestamp(), List.of(1L, 2L)))
+                .containsExactly(topicMessage1, topicMessage2, topicMessage3);
+        assertThat(topicMessageRepository.findByRange(
+                        topicMessage1.getConsensusTimestamp(), topicMessage3.getConsensusTimestamp(), List.of(1L)))
+                .containsExactly(topicMessage1, topicMessage3);
+    }
+
     @Test
     void findLatest() {
         // given
@@ -140,4 +156,21 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findLatest(topicMessage2.getConsensusTimestamp(), 10))
                 .isEmpty();
     }
+
+    @Test
+    void streamByFilter() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage3 = domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .endTime(topicMessage3.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        try (var stream = topicMessageRepository.streamByFilter(filter, 1)) {
+            assertThat(stream).containsExactly(topicMessage1, topicMessage2);
+        }
+    }
 }
@@ -16,12 +16,17 @@
 
 package com.hedera.mirror.grpc.retriever;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.GrpcIntegrationTest;
 import com.hedera.mirror.grpc.domain.ReactiveDomainBuilder;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import java.time.Duration;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -43,6 +48,8 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
     private final ReactiveDomainBuilder domainBuilder;
     private final PollingTopicMessageRetriever pollingTopicMessageRetriever;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageCache topicMessageCache;
+    private final TopicMessageRepository topicMessageRepository;
     private final long now = DomainUtils.now();
 
     private long unthrottledMaxPolls;
@@ -81,6 +88,126 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
         retrieverProperties.setEnabled(true);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void cached(boolean throttled) {
+        retrieverProperties.getCache().setEnabled(true);
+
+        try {
+            var topicMessages = domainBuilder.topicMessages(3, now).collectList().block();
+            var sequenceNumbers = topicMessages.stream()
+                    .map(TopicMessage::getSequenceNumber)
+                    .toArray(Long[]::new);
+            TopicMessageFilter filter =
+                    TopicMessageFilter.builder().startTime(now).topicId(TOPIC_ID).build();
+
+            // The first two messages are served from the cache and the last one from the database
+            topicMessageCache.get(filter);
+            topicMessageCache.add(topicMessages.get(0));
+            topicMessageCache.add(topicMessages.get(1));
+
+            StepVerifier.withVirtualTime(() -> pollingTopicMessageRetriever
+                            .retrieve(filter, throttled)
+                            .map(TopicMessage::getSequenceNumber))
+                    .thenAwait(WAIT)
+                    .expectNext(sequenceNumbers)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            retrieverProperties.getCache().setEnabled(false);
+        }
+    }
+
+    @Test
+    void stream() {
+        var stream = retrieverProperties.getStream();
+        stream.setEnabled(true);
+        stream.setFetchSize(2);
+
+        try {
+            domainBuilder.topicMessages(3, now).blockLast();
+            TopicMessageFilter filter =
+                    TopicMessageFilter.builder().startTime(now).topicId(TOPIC_ID).build();
+
+            StepVerifier.create(
+                            pollingTopicMessageRetriever.retrieve(filter, true).map(TopicMessage::getSequenceNumber))
+                    .expectNext(1L, 2L, 3L)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            stream.setEnabled(false);
+            stream.setFetchSize(1000);
+        }
+    }
+
+    @Test
+    void streamSlowSubscriber() {
+        var stream = retrieverProperties.getStream();
+        var timeout = retrieverProperties.getTimeout();
+        stream.setEnabled(true);
+        stream.setFetchSize(1);
+        retrieverProperties.setTimeout(Duration.ofMillis(200L));
+
+        try {
+            domainBuilder.topicMessages(3, now).blockLast();
+            TopicMessageFilter filter =
+                    TopicMessageFilter.builder().startTime(now).topicId(TOPIC_ID).build();
+
+            // The timeout doesn't apply to the rows after the first one
+            StepVerifier.create(
+                            pollingTopicMessageRetriever.retrieve(filter, true).map(TopicMessage::getSequenceNumber),
+                            1L)
+                    .expectNext(1L)
+                    .thenAwait(Duration.ofMillis(500L))
+                    .thenRequest(2L)
+                    .expectNext(2L, 3L)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            stream.setEnabled(false);
+            stream.setFetchSize(1000);
+            retrieverProperties.setTimeout(timeout);
+        }
+    }
+
+    @Test
+    void streamCancel() {
+        var stream = retrieverProperties.getStream();
+        stream.setEnabled(true);
+        stream.setFetchSize(1);
+        stream.setMaxConcurrent(1);
+        var meterRegistry = new SimpleMeterRegistry();
+        var retriever = new PollingTopicMessageRetriever(
+                meterRegistry,
+                ObservationRegistry.NOOP,
+                retrieverProperties,
+                topicMessageCache,
+                topicMessageRepository);
+
+        try {
+            domainBuilder.topicMessages(3, now).blockLast();
+            TopicMessageFilter filter =
+                    TopicMessageFilter.builder().startTime(now).topicId(TOPIC_ID).build();
+
+            // Cancelling releases the cursor so the next retrieval can stream again
+            for (int i = 0; i < 2; i++) {
+                StepVerifier.create(retriever.retrieve(filter, true), 1L)
+                        .expectNextCount(1L)
+                        .thenCancel()
+                        .verify(WAIT);
+            }
+
+            assertThat(meterRegistry
+                            .timer("hedera.mirror.grpc.retriever.duration", "mode", "stream", "type", "TopicMessage")
+                            .count())
+                    .isEqualTo(2L);
+        } finally {
+            stream.setEnabled(false);
+            stream.setFetchSize(1000);
+            stream.setMaxConcurrent(16);
+        }
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void noMessages(boolean throttled) {
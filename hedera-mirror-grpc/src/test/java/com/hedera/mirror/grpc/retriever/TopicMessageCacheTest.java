@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.awaitility.Durations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    private MeterRegistry meterRegistry;
+    private RetrieverProperties retrieverProperties;
+    private TopicMessageCache topicMessageCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrieverProperties = new RetrieverProperties();
+        retrieverProperties.getCache().setEnabled(true);
+        retrieverProperties.getCache().setMaxMessages(3);
+        topicMessageCache = new TopicMessageCache(meterRegistry, retrieverProperties);
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.getCache().setEnabled(false);
+        topicMessageCache.get(filter(1L));
+        topicMessageCache.add(topicMessage(1L));
+        assertThat(topicMessageCache.get(filter(1L))).isEmpty();
+        assertThat(count("hit") + count("miss")).isZero();
+    }
+
+    @Test
+    void notRetrieved() {
+        topicMessageCache.add(topicMessage(1L));
+        assertThat(topicMessageCache.get(filter(1L))).isEmpty();
+        assertThat(count("miss")).isOne();
+    }
+
+    @Test
+    void hit() {
+        topicMessageCache.get(filter(1L));
+        topicMessageCache.add(topicMessage(1L));
+        topicMessageCache.add(topicMessage(2L));
+        topicMessageCache.add(topicMessage(2L));
+        topicMessageCache.add(topicMessage(3L));
+
+        assertThat(topicMessageCache.get(filter(2L)))
+                .extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(2L, 3L);
+        assertThat(topicMessageCache.get(filter(1L).toBuilder().limit(1L).build()))
+                .extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(1L);
+        assertThat(topicMessageCache.get(filter(1L).toBuilder().endTime(3L).build()))
+                .extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(1L, 2L);
+        assertThat(count("hit")).isEqualTo(3);
+    }
+
+    @Test
+    void outsideWindow() {
+        topicMessageCache.get(filter(1L));
+        topicMessageCache.add(topicMessage(2L));
+        topicMessageCache.add(topicMessage(3L));
+
+        assertThat(topicMessageCache.get(filter(1L))).isEmpty();
+        assertThat(topicMessageCache.get(filter(4L))).isEmpty();
+        assertThat(count("miss")).isEqualTo(3);
+    }
+
+    @Test
+    void overwriteOldest() {
+        topicMessageCache.get(filter(1L));
+        for (long i = 1; i <= 5; i++) {
+            topicMessageCache.add(topicMessage(i));
+        }
+
+        assertThat(topicMessageCache.get(filter(2L))).isEmpty();
+        assertThat(topicMessageCache.get(filter(3L)))
+                .extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void restartOnGap() {
+        topicMessageCache.get(filter(1L));
+        topicMessageCache.add(topicMessage(1L));
+        topicMessageCache.add(topicMessage(2L));
+        topicMessageCache.add(topicMessage(4L));
+
+        assertThat(topicMessageCache.get(filter(1L))).isEmpty();
+        assertThat(topicMessageCache.get(filter(3L)))
+                .extracting(TopicMessage::getSequenceNumber)
+                .containsExactly(4L);
+    }
+
+    @Test
+    void bufferedOnAdd() {
+        topicMessageCache.get(filter(1L));
+        assertThat(size()).isZero();
+
+        topicMessageCache.add(topicMessage(1L));
+        assertThat(size()).isOne();
+    }
+
+    @Test
+    void maxSize() {
+        retrieverProperties.getCache().setMaxSize(DataSize.ofKilobytes(2L));
+        topicMessageCache = new TopicMessageCache(meterRegistry, retrieverProperties);
+        var otherTopicId = EntityId.of(101L);
+        var otherFilter = filter(1L).toBuilder().topicId(otherTopicId).build();
+        topicMessageCache.get(filter(1L));
+        topicMessageCache.get(otherFilter);
+
+        topicMessageCache.add(topicMessage(1L).toBuilder().message(new byte[1000]).build());
+        topicMessageCache.add(
+                topicMessage(1L).toBuilder().message(new byte[1000]).topicId(otherTopicId).build());
+
+        // A topic is evicted once the buffered messages exceed the maximum size
+        await().atMost(Durations.ONE_SECOND).until(() -> size() == 1);
+        assertThat(List.of(topicMessageCache.get(filter(1L)), topicMessageCache.get(otherFilter)))
+                .filteredOn(List::isEmpty)
+                .hasSize(1);
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .get("hedera.mirror.grpc.retriever.cache")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private double size() {
+        return meterRegistry
+                .get("cache.size")
+                .tag("cache", "topicMessageCache")
+                .gauge()
+                .value();
+    }
+
+    private TopicMessageFilter filter(long startTime) {
+        return TopicMessageFilter.builder().startTime(startTime).topicId(TOPIC_ID).build();
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+}
@@ -16,7 +16,10 @@
 
 description = "Hedera Mirror Node Importer"
 
-plugins { id("spring-conventions") }
+plugins {
+    id("me.champeau.jmh")
+    id("spring-conventions")
+}
 
 dependencies {
     implementation(platform("com.google.cloud:spring-cloud-gcp-dependencies"))
@@ -55,6 +58,8 @@ dependencies {
         name = "netty-resolver-dns-native-macos",
         classifier = "osx-aarch_64"
     )
+    jmhImplementation(project(path = ":common", configuration = "testClasses"))
+    jmhImplementation("org.mockito:mockito-core")
     testImplementation(project(path = ":common", configuration = "testClasses"))
     testImplementation("com.github.vertical-blank:sql-formatter")
     testImplementation("com.playtika.testcontainers:embedded-google-pubsub")
@@ -67,3 +72,17 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
 }
+
+// Microbenchmarks of the parsing hot path that run without a database. Run a subset with
+// ./gradlew :importer:jmh -PjmhIncludes=ProtoRecordFileReaderBenchmark
+jmh {
+    val jmhIncludes: String? by project
+    fork = 1
+    includeTests = true
+    includes = listOfNotNull(jmhIncludes)
+    iterations = 5
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    warmupIterations = 3
+}
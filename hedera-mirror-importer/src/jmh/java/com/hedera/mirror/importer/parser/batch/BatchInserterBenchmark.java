@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+/**
+ * Measures the CSV serialization of the rows BatchInserter copies to the database. The COPY is sent to a connection
+ * stub that discards the bytes so only the serialization is measured. The throughput is in rows per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BatchInserterBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"ContractLog", "CryptoTransfer", "Transaction"})
+    private String table;
+
+    private Connection connection;
+    private BatchInserter batchInserter;
+    private List<Object> items;
+
+    @Setup
+    public void setup() throws Exception {
+        var domainBuilder = new DomainBuilder();
+        var properties = new CommonParserProperties();
+        var stubOnly = withSettings().stubOnly();
+        var copyIn = mock(CopyIn.class, stubOnly);
+        var copyManager = mock(CopyManager.class, stubOnly);
+        var pgConnection = mock(PGConnection.class, stubOnly);
+        connection = mock(Connection.class, stubOnly);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+
+        Supplier<?> supplier =
+                switch (table) {
+                    case "ContractLog" -> () -> domainBuilder.contractLog().get();
+                    case "CryptoTransfer" -> () -> domainBuilder.cryptoTransfer().get();
+                    case "Transaction" -> () -> domainBuilder.transaction().get();
+                    default -> throw new IllegalArgumentException("Unsupported table " + table);
+                };
+        items = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            items.add(supplier.get());
+        }
+
+        var dataSource = mock(DataSource.class, stubOnly);
+        var entityClass = items.get(0).getClass();
+        batchInserter = new BatchInserter(entityClass, dataSource, new SimpleMeterRegistry(), properties);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void persistItems() throws Exception {
+        batchInserter.persistItems(items, connection);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.domain.ContractResultServiceImpl;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.contractlog.SyntheticContractLogService;
+import com.hedera.mirror.importer.parser.contractresult.SyntheticContractResultService;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandler;
+import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+
+/**
+ * Measures EntityRecordItemListener.onItem with the real transaction handlers for RecordItems generated by the
+ * RecordItemBuilder, one per transaction type unless a single type is given. The handlers are wired without Spring or a
+ * database: the EntityListener discards the domain objects, the EntityIdService resolves ids from their protobuf
+ * numbers, properties have their defaults and any other collaborator is a stub. Transaction types whose handler can't
+ * process its RecordItem with these stubs are excluded with a warning. The throughput is in RecordItems per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@CustomLog
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EntityRecordItemListenerBenchmark {
+
+    private static final String HANDLER_PACKAGE = TransactionHandler.class.getPackageName();
+
+    @Param({"ALL"})
+    private String type;
+
+    private final Map<Class<?>, Object> components = new HashMap<>();
+    private int index;
+    private EntityRecordItemListener entityRecordItemListener;
+    private List<RecordItem> recordItems;
+
+    @Setup
+    public void setup() throws Exception {
+        components.put(EntityIdService.class, new NumberEntityIdService());
+        components.put(EntityListener.class, new EntityListener() {});
+        components.put(List.class, getTransactionHandlers());
+        var transactionHandlerFactory = getComponent(TransactionHandlerFactory.class);
+        entityRecordItemListener = new EntityRecordItemListener(
+                getComponent(CommonParserProperties.class),
+                getComponent(ContractResultServiceImpl.class),
+                getComponent(EntityIdService.class),
+                getComponent(EntityListener.class),
+                getComponent(EntityProperties.class),
+                transactionHandlerFactory,
+                getComponent(SyntheticContractLogService.class),
+                getComponent(SyntheticContractResultService.class));
+
+        var recordItemBuilder = new RecordItemBuilder();
+        recordItems = new ArrayList<>();
+
+        for (var transactionType : TransactionType.values()) {
+            var builder = recordItemBuilder.lookup(transactionType);
+            if (builder == null || (!"ALL".equals(type) && !transactionType.name().equals(type))) {
+                continue;
+            }
+
+            var recordItem = builder.get().build();
+            try {
+                entityRecordItemListener.onItem(recordItem);
+                recordItems.add(recordItem);
+            } catch (Exception e) {
+                log.warn("Excluding {} since it can't be processed with stubs: {}", transactionType, e.getMessage());
+            }
+        }
+
+        if (recordItems.isEmpty()) {
+            throw new IllegalArgumentException("No record items for transaction type " + type);
+        }
+
+        log.warn("Benchmarking {} transaction types", recordItems.size());
+    }
+
+    @Benchmark
+    public void onItem() {
+        entityRecordItemListener.onItem(recordItems.get(index));
+        if (++index == recordItems.size()) {
+            index = 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getComponent(Class<T> type) throws Exception {
+        var component = components.get(type);
+        if (component != null) {
+            return (T) component;
+        }
+
+        if (type.getSimpleName().endsWith("Properties")) {
+            component = type.getDeclaredConstructor().newInstance();
+        } else if ((type.getPackageName().equals(HANDLER_PACKAGE) && !type.isInterface())
+                || type == ContractResultServiceImpl.class) {
+            component = create(type);
+        } else {
+            component = mock(type, withSettings().stubOnly());
+        }
+
+        components.put(type, component);
+        return (T) component;
+    }
+
+    private <T> T create(Class<T> type) throws Exception {
+        var constructor = Arrays.stream(type.getDeclaredConstructors())
+                .max(Comparator.comparingInt(Constructor::getParameterCount))
+                .orElseThrow();
+        constructor.setAccessible(true);
+        var args = new Object[constructor.getParameterCount()];
+
+        for (int i = 0; i < args.length; i++) {
+            args[i] = getComponent(constructor.getParameterTypes()[i]);
+        }
+
+        return type.cast(constructor.newInstance(args));
+    }
+
+    private List<TransactionHandler> getTransactionHandlers() throws Exception {
+        var scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(TransactionHandler.class));
+        var transactionHandlers = new ArrayList<TransactionHandler>();
+
+        for (var beanDefinition : scanner.findCandidateComponents(HANDLER_PACKAGE)) {
+            var handlerClass = Class.forName(beanDefinition.getBeanClassName());
+            if (!handlerClass.getSimpleName().endsWith("Test")) {
+                transactionHandlers.add((TransactionHandler) getComponent(handlerClass));
+            }
+        }
+
+        return transactionHandlers;
+    }
+
+    /**
+     * Resolves the ids of accounts and contracts from their shard, realm and number like the cache of the real service
+     * would after its first lookup.
+     */
+    private static class NumberEntityIdService implements EntityIdService {
+
+        @Override
+        public Optional<EntityId> lookup(AccountID accountId) {
+            return Optional.of(EntityId.of(accountId));
+        }
+
+        @Override
+        public Optional<EntityId> lookup(AccountID... accountIds) {
+            return accountIds.length > 0 ? lookup(accountIds[0]) : Optional.empty();
+        }
+
+        @Override
+        public Optional<EntityId> lookup(ContractID contractId) {
+            return Optional.of(EntityId.of(contractId));
+        }
+
+        @Override
+        public Optional<EntityId> lookup(ContractID... contractIds) {
+            return contractIds.length > 0 ? lookup(contractIds[0]) : Optional.empty();
+        }
+
+        @Override
+        public void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds) {
+            // Nothing to preload
+        }
+
+        @Override
+        public void notify(Entity entity) {
+            // Nothing to cache
+        }
+    }
+}
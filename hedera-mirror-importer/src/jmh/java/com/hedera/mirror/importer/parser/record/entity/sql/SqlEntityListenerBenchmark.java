@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.entity.CryptoAllowance;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.record.RecordFilePipeline;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker;
+import com.hedera.mirror.importer.repository.NftRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures merging the domain objects of a record file into the ParserContext via the SqlEntityListener. The number of
+ * distinct keys controls how many of the objects are merged into a previous one instead of being inserted. The
+ * throughput is in domain objects per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SqlEntityListenerBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"100", "10000"})
+    private int keys;
+
+    private final ParserContext context = new ParserContext();
+    private List<ContractStateChange> contractStateChanges;
+    private List<CryptoAllowance> cryptoAllowances;
+    private List<Entity> entities;
+    private SqlEntityListener sqlEntityListener;
+    private List<TokenAccount> tokenAccounts;
+
+    @Setup
+    public void setup() {
+        var domainBuilder = new DomainBuilder();
+        var stubOnly = withSettings().stubOnly();
+        sqlEntityListener = new SqlEntityListener(
+                mock(BalanceChangeTracker.class, stubOnly),
+                mock(BatchPersister.class, stubOnly),
+                context,
+                mock(EntityIdService.class, stubOnly),
+                new EntityProperties(),
+                mock(NftRepository.class, stubOnly),
+                mock(ParallelBatchPersister.class, stubOnly),
+                mock(RecordFilePipeline.class, stubOnly),
+                new SqlProperties());
+
+        contractStateChanges = new ArrayList<>(ROWS);
+        cryptoAllowances = new ArrayList<>(ROWS);
+        entities = new ArrayList<>(ROWS);
+        tokenAccounts = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            long id = 1000L + i % keys;
+            contractStateChanges.add(domainBuilder
+                    .contractStateChange()
+                    .customize(c -> c.contractId(id).slot(new byte[] {(byte) id}))
+                    .get());
+            cryptoAllowances.add(domainBuilder
+                    .cryptoAllowance()
+                    .customize(c -> c.owner(id).spender(id + 1))
+                    .get());
+            entities.add(domainBuilder.entity().customize(e -> e.id(id)).get());
+            tokenAccounts.add(domainBuilder
+                    .tokenAccount()
+                    .customize(t -> t.accountId(id).tokenId(id + 1))
+                    .get());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void onContractStateChange() {
+        contractStateChanges.forEach(sqlEntityListener::onContractStateChange);
+        context.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void onCryptoAllowance() {
+        cryptoAllowances.forEach(sqlEntityListener::onCryptoAllowance);
+        context.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void onEntity() {
+        entities.forEach(sqlEntityListener::onEntity);
+        context.clear();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void onTokenAccount() {
+        tokenAccounts.forEach(sqlEntityListener::onTokenAccount);
+        context.clear();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reader.record;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.TestUtils;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures reading a v6 record file from its compressed bytes into a RecordFile with all of its RecordItems.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ProtoRecordFileReaderBenchmark {
+
+    @Param({"2022-07-13T08_46_11.304284003Z.rcd.gz"})
+    private String filename;
+
+    private final ProtoRecordFileReader reader = new ProtoRecordFileReader();
+    private StreamFileData streamFileData;
+
+    @Setup
+    public void setup() {
+        var file = TestUtils.getResource("data/recordstreams/v6/record0.0.3/" + filename);
+        streamFileData = StreamFileData.from(file);
+    }
+
+    @Benchmark
+    public RecordFile read() {
+        return reader.read(streamFileData);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.util;
+
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the protobuf to domain conversions done for nearly every field of every transaction.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DomainUtilsBenchmark {
+
+    private byte[] bytes;
+    private ByteString byteString;
+    private EntityId entityId;
+    private byte[] key;
+    private byte[] slot;
+    private Timestamp timestamp;
+
+    @Setup
+    public void setup() {
+        var random = ThreadLocalRandom.current();
+        bytes = new byte[32];
+        random.nextBytes(bytes);
+        byteString = ByteString.copyFrom(bytes);
+        entityId = EntityId.of(0L, 0L, 1_000_000L);
+        key = Key.newBuilder().setEd25519(byteString).build().toByteArray();
+        slot = new byte[] {1, 2, 3};
+        timestamp = Timestamp.newBuilder()
+                .setSeconds(1_700_000_000L)
+                .setNanos(123_456_789)
+                .build();
+    }
+
+    @Benchmark
+    public String bytesToHex() {
+        return DomainUtils.bytesToHex(bytes);
+    }
+
+    @Benchmark
+    public ByteString fromBytes() {
+        return DomainUtils.fromBytes(bytes);
+    }
+
+    @Benchmark
+    public String getPublicKey() {
+        return DomainUtils.getPublicKey(key);
+    }
+
+    @Benchmark
+    public byte[] leftPadBytes() {
+        return DomainUtils.leftPadBytes(slot, 32);
+    }
+
+    @Benchmark
+    public Long timeStampInNanos() {
+        return DomainUtils.timeStampInNanos(timestamp);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return DomainUtils.toBytes(byteString);
+    }
+
+    @Benchmark
+    public byte[] toEvmAddress() {
+        return DomainUtils.toEvmAddress(entityId);
+    }
+}
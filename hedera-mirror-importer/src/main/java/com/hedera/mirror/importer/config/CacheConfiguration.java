@@ -34,6 +34,7 @@ public class CacheConfiguration {
 
     public static final String CACHE_ADDRESS_BOOK = "addressBook";
     public static final String CACHE_ALIAS = "alias";
+    public static final String CACHE_ALIAS_MISS = "aliasMiss";
     public static final String CACHE_TIME_PARTITION_OVERLAP = "timePartitionOverlap";
     public static final String CACHE_TIME_PARTITION = "timePartition";
     public static final String CACHE_NAME = "default";
@@ -52,6 +53,11 @@ public class CacheConfiguration {
         return cacheManager(cacheProperties.getAlias());
     }
 
+    @Bean(CACHE_ALIAS_MISS)
+    CacheManager cacheManagerAliasMiss() {
+        return cacheManager(cacheProperties.getAliasMiss());
+    }
+
     @Bean(CACHE_TIME_PARTITION)
     CacheManager cacheManagerTimePartition() {
         return cacheManager(cacheProperties.getTimePartition());
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.importer.config;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -32,6 +33,12 @@ public class CacheProperties {
     @NotBlank
     private String alias = "maximumSize=100000,expireAfterAccess=30m,recordStats";
 
+    @NotBlank
+    private String aliasMiss = "maximumSize=100000,expireAfterWrite=1m,recordStats";
+
+    @Min(0)
+    private int aliasWarmup = 0;
+
     private boolean enabled = true;
 
     @NotBlank
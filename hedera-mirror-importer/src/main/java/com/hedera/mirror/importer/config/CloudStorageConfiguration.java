@@ -22,6 +22,7 @@ import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProperties;
 import com.hedera.mirror.importer.downloader.provider.LocalStreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.S3StreamFileProvider;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -52,6 +53,7 @@ class CloudStorageConfiguration {
 
     private final CommonDownloaderProperties commonDownloaderProperties;
     private final LocalStreamFileProperties localProperties;
+    private final MeterRegistry meterRegistry;
     private final MetricsExecutionInterceptor metricsExecutionInterceptor;
 
     @Bean
@@ -63,7 +65,8 @@ class CloudStorageConfiguration {
             var provider =
                     switch (source.getType()) {
                         case LOCAL -> new LocalStreamFileProvider(commonDownloaderProperties, localProperties);
-                        case GCP, S3 -> new S3StreamFileProvider(commonDownloaderProperties, s3Client(source));
+                        case GCP, S3 -> new S3StreamFileProvider(
+                                commonDownloaderProperties, s3Client(source), meterRegistry);
                     };
 
             providers.add(provider);
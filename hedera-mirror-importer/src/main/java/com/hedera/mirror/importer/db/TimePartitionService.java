@@ -19,6 +19,15 @@ package com.hedera.mirror.importer.db;
 import java.util.List;
 
 public interface TimePartitionService {
+
+    /**
+     * Evicts the cached time partitions of a table so that they're queried again after partitions have been created or
+     * dropped.
+     *
+     * @param tableName The table name
+     */
+    void evict(String tableName);
+
     /**
      * Get the time partitions overlapping the range [fromTimestamp, toTimestamp]
      *
@@ -56,6 +56,13 @@ public class TimePartitionServiceImpl implements TimePartitionService {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Override
+    public void evict(String tableName) {
+        cacheTimePartition.evict(tableName);
+        // The overlapping partitions are cached per range, so evict all of them
+        cacheTimePartitionOverlap.clear();
+    }
+
     @Override
     public List<TimePartition> getOverlappingTimePartitions(String tableName, long fromTimestamp, long toTimestamp) {
         String cacheKey = tableName + "-" + fromTimestamp + "-" + toTimestamp;
@@ -20,6 +20,7 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -62,6 +63,16 @@ public interface EntityIdService {
      */
     Optional<EntityId> lookup(ContractID... contractIds);
 
+    /**
+     * Resolves the aliases and EVM addresses of the given IDs that aren't already cached with a single query for each
+     * kind so that their subsequent lookups are served from the cache. The IDs not found are briefly remembered so that
+     * their lookup skips the query but still reports them as not found.
+     *
+     * @param accountIds The protobuf account IDs
+     * @param contractIds The protobuf contract IDs
+     */
+    void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds);
+
     /**
      * Used to notify the system of new aliases / evm addresses for potential use in future lookups.
      *
@@ -19,28 +19,36 @@ package com.hedera.mirror.importer.domain;
 import static com.hedera.mirror.common.util.DomainUtils.fromBytes;
 import static com.hedera.mirror.common.util.DomainUtils.toBytes;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_ALIAS;
+import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_ALIAS_MISS;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static com.hedera.mirror.importer.util.Utility.aliasToEvmAddress;
 
+import com.google.common.base.Stopwatch;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessageV3;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.config.CacheProperties;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.util.Utility;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 import lombok.CustomLog;
 import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 
 @CustomLog
 @Named
@@ -49,11 +57,19 @@ public class EntityIdServiceImpl implements EntityIdService {
     private static final Optional<EntityId> EMPTY = Optional.of(EntityId.EMPTY);
 
     private final Cache cache;
+    private final CacheProperties cacheProperties;
     private final EntityRepository entityRepository;
+    private final Cache missCache;
 
-    public EntityIdServiceImpl(@Qualifier(CACHE_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+    public EntityIdServiceImpl(
+            @Qualifier(CACHE_ALIAS) CacheManager cacheManager,
+            @Qualifier(CACHE_ALIAS_MISS) CacheManager missCacheManager,
+            CacheProperties cacheProperties,
+            EntityRepository entityRepository) {
         this.cache = cacheManager.getCache(CACHE_NAME);
+        this.cacheProperties = cacheProperties;
         this.entityRepository = entityRepository;
+        this.missCache = missCacheManager.getCache(CACHE_NAME);
     }
 
     @Override
@@ -108,6 +124,79 @@ public class EntityIdServiceImpl implements EntityIdService {
         return doLookups(contractIds, this::lookup);
     }
 
+    @Override
+    public void preload(Collection<AccountID> accountIds, Collection<ContractID> contractIds) {
+        var aliases = new HashMap<ByteString, byte[]>();
+        var evmAddresses = new HashMap<ByteString, byte[]>();
+
+        for (var accountId : accountIds) {
+            if (accountId.getAccountCase() == AccountID.AccountCase.ALIAS) {
+                var alias = accountId.getAlias();
+                var target = alias.size() == DomainUtils.EVM_ADDRESS_LENGTH ? evmAddresses : aliases;
+                addUncached(target, alias);
+            }
+        }
+
+        for (var contractId : contractIds) {
+            if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+                addUncached(evmAddresses, contractId.getEvmAddress());
+            }
+        }
+
+        log.debug("Preloading {} aliases and {} EVM addresses", aliases.size(), evmAddresses.size());
+
+        // The misses are kept apart from the entities found so that their lookup skips the query but still falls back
+        // to the EVM address derived from a public key alias and handles an entity not found as a recoverable error
+        if (!aliases.isEmpty()) {
+            entityRepository.findByAliasIn(aliases.values()).forEach(entity -> {
+                aliases.remove(fromBytes(entity.getAlias()));
+                notify(entity);
+            });
+            aliases.keySet().forEach(alias -> missCache.put(alias, Boolean.TRUE));
+        }
+
+        if (!evmAddresses.isEmpty()) {
+            entityRepository.findByEvmAddressIn(evmAddresses.values()).forEach(entity -> {
+                evmAddresses.remove(fromBytes(entity.getEvmAddress()));
+                notify(entity);
+            });
+            evmAddresses.keySet().forEach(evmAddress -> missCache.put(evmAddress, Boolean.TRUE));
+        }
+    }
+
+    /**
+     * Loads the aliases and EVM addresses of the most recently modified accounts and contracts into the cache so that
+     * the first record files parsed after a restart don't have to look them up one at a time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmup() {
+        int size = cacheProperties.getAliasWarmup();
+        if (size <= 0) {
+            return;
+        }
+
+        try {
+            var stopwatch = Stopwatch.createStarted();
+            var entities = entityRepository.findLatestWithAlias(size);
+            entities.forEach(this::notify);
+            log.info("Warmed up alias cache with {} entities in {}", entities.size(), stopwatch);
+        } catch (Exception e) {
+            log.warn("Unable to warm up alias cache", e);
+        }
+    }
+
+    private void addUncached(Map<ByteString, byte[]> keys, ByteString key) {
+        // Addresses in the 'shard.realm.num' form are resolved without the database
+        if (keys.containsKey(key)
+                || cache.get(key) != null
+                || missCache.get(key) != null
+                || (key.size() == DomainUtils.EVM_ADDRESS_LENGTH && DomainUtils.fromEvmAddress(toBytes(key)) != null)) {
+            return;
+        }
+
+        keys.put(key, toBytes(key));
+    }
+
     private Optional<EntityId> cacheLookup(ByteString key, Callable<Optional<EntityId>> loader) {
         try {
             return cache.get(key, loader);
@@ -161,7 +250,9 @@ public class EntityIdServiceImpl implements EntityIdService {
         var id = Optional.ofNullable(DomainUtils.fromEvmAddress(evmAddress))
                 // Verify shard and realm match when assuming evmAddress is in the 'shard.realm.num' form
                 .filter(e -> e.getShard() == shardNum && e.getRealm() == realmNum)
-                .or(() -> entityRepository.findByEvmAddress(evmAddress).map(EntityId::of));
+                .or(() -> isMiss(evmAddress)
+                        ? Optional.empty()
+                        : entityRepository.findByEvmAddress(evmAddress).map(EntityId::of));
 
         if (id.isEmpty()) {
             Utility.handleRecoverableError("Entity not found for EVM address {}", Hex.encodeHexString(evmAddress));
@@ -171,7 +262,7 @@ public class EntityIdServiceImpl implements EntityIdService {
     }
 
     private Optional<EntityId> findByPublicKeyAlias(byte[] alias, long shardNum, long realmNum) {
-        var encodedId = entityRepository.findByAlias(alias);
+        var encodedId = isMiss(alias) ? Optional.<Long>empty() : entityRepository.findByAlias(alias);
         if (encodedId.isPresent()) {
             return Optional.ofNullable(EntityId.of(encodedId.get()));
         }
@@ -193,4 +284,8 @@ public class EntityIdServiceImpl implements EntityIdService {
         // Check cache first in case the 20-byte evm address hasn't persisted to db
         return cache.get(fromBytes(evmAddress), () -> findByEvmAddress(evmAddress, shardNum, realmNum));
     }
+
+    private boolean isMiss(byte[] key) {
+        return missCache.get(fromBytes(key)) != null;
+    }
 }
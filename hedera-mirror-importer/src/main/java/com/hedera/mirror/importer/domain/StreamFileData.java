@@ -23,10 +23,12 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.CustomLog;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -54,6 +56,21 @@ public class StreamFileData {
 
     private final Instant lastModified;
 
+    @Getter(AccessLevel.NONE)
+    private final ByteBuffer buffer;
+
+    public StreamFileData(StreamFilename streamFilename, Supplier<byte[]> bytes, Instant lastModified) {
+        this(streamFilename, bytes, lastModified, null);
+    }
+
+    private StreamFileData(
+            StreamFilename streamFilename, Supplier<byte[]> bytes, Instant lastModified, ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.bytes = bytes;
+        this.lastModified = lastModified;
+        this.streamFilename = streamFilename;
+    }
+
     private static StreamFileData readStreamFileData(File file, StreamFilename streamFilename) {
         if (!file.exists() || !file.canRead() || !file.isFile()) {
             throw new FileOperationException("Unable to read file " + file);
@@ -84,6 +101,27 @@ public class StreamFileData {
         return readStreamFileData(streamFile, streamFilename);
     }
 
+    /**
+     * Creates the stream file data backed by a buffer that may be off heap, like a memory mapped file. The contents are
+     * only copied to the heap if {@link #getBytes()} is called, while {@link #getInputStream()} reads from the buffer
+     * and {@link #getSize()} returns its size.
+     *
+     * @param streamFilename the stream filename
+     * @param buffer         the contents of the stream file
+     * @param lastModified   the last modified time of the stream file
+     * @return the stream file data
+     */
+    public static StreamFileData from(
+            @NonNull StreamFilename streamFilename, @NonNull ByteBuffer buffer, Instant lastModified) {
+        var readOnlyBuffer = buffer.asReadOnlyBuffer();
+        Supplier<byte[]> bytes = Suppliers.memoize(() -> {
+            var contents = new byte[readOnlyBuffer.remaining()];
+            readOnlyBuffer.duplicate().get(contents);
+            return contents;
+        });
+        return new StreamFileData(streamFilename, bytes, lastModified, readOnlyBuffer);
+    }
+
     // Used for testing String based files like CSVs
     public static StreamFileData from(@NonNull String filename, @NonNull String contents) {
         return new StreamFileData(
@@ -99,8 +137,35 @@ public class StreamFileData {
         return bytes.get();
     }
 
+    /**
+     * Gets the size of the stream file without copying a stream file backed by a buffer to the heap.
+     *
+     * @return the size of the stream file in bytes
+     */
+    public int getSize() {
+        return buffer != null ? buffer.remaining() : getBytes().length;
+    }
+
+    /**
+     * Opens a new input stream that decompresses the stream file as it's read. Unlike {@link #getDecompressedBytes()},
+     * the decompressed bytes are not retained in memory.
+     *
+     * @return the decompressed input stream
+     */
     public InputStream getInputStream() {
-        return new ByteArrayInputStream(getDecompressedBytes());
+        var compressor = streamFilename.getCompressor();
+        var inputStream = getRawInputStream();
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            var filename = streamFilename.getFilename();
+            log.error("Failed to decompress stream file {}", filename);
+            throw new InvalidStreamFileException(filename, e);
+        }
     }
 
     public String getFilename() {
@@ -122,7 +187,7 @@ public class StreamFileData {
             return getBytes();
         }
 
-        try (var inputStream = new ByteArrayInputStream(getBytes());
+        try (var inputStream = getRawInputStream();
                 var compressorInputStream =
                         compressorStreamFactory.createCompressorInputStream(compressor, inputStream)) {
             return compressorInputStream.readAllBytes();
@@ -132,4 +197,49 @@ public class StreamFileData {
             throw new InvalidStreamFileException(filename, e);
         }
     }
+
+    private InputStream getRawInputStream() {
+        return buffer != null ? new ByteBufferInputStream(buffer.duplicate()) : new ByteArrayInputStream(getBytes());
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+    }
 }
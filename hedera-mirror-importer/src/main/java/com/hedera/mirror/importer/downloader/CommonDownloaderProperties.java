@@ -26,6 +26,7 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -58,6 +59,9 @@ public class CommonDownloaderProperties {
 
     private SourceType cloudProvider = SourceType.S3;
 
+    @NotNull
+    private ConcurrencyProperties concurrency = new ConcurrencyProperties();
+
     @NotNull
     @Max(1)
     @Min(0)
@@ -81,6 +85,9 @@ public class CommonDownloaderProperties {
     @NotNull
     private PathType pathType = PathType.ACCOUNT_ID;
 
+    @NotNull
+    private PrefetchProperties prefetch = new PrefetchProperties();
+
     private String region = "us-east-1";
 
     private String secretKey;
@@ -88,10 +95,16 @@ public class CommonDownloaderProperties {
     @NotNull
     private List<StreamSourceProperties> sources = new ArrayList<>();
 
+    @NotNull
+    private SpoolProperties spool = new SpoolProperties();
+
     @DurationMin(seconds = 1)
     @NotNull
     private Duration timeout = Duration.ofSeconds(30L);
 
+    @NotNull
+    private VerificationProperties verification = new VerificationProperties();
+
     @PostConstruct
     public void init() {
         if (StringUtils.isBlank(bucketName)
@@ -146,6 +159,56 @@ public class CommonDownloaderProperties {
                 : HederaNetwork.isAllowAnonymousAccess(importerProperties.getNetwork());
     }
 
+    @Data
+    public static class ConcurrencyProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int initial = 32;
+
+        @DurationMin(millis = 1)
+        @NotNull
+        private Duration latencyTarget = Duration.ofSeconds(1L);
+
+        @Min(1)
+        private int max = 256;
+
+        @Min(1)
+        private int min = 1;
+    }
+
+    @Data
+    public static class PrefetchProperties {
+
+        @Min(1)
+        private int depth = 2;
+
+        private boolean enabled = false;
+    }
+
+    @Data
+    public static class SpoolProperties {
+
+        private boolean enabled = false;
+
+        @Min(0)
+        private long minSize = 1024L * 1024L; // 1 MiB
+
+        @NotNull
+        private Path path = Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    @Data
+    public static class VerificationProperties {
+
+        private boolean earlyStop = false;
+
+        @Max(64)
+        @Min(1)
+        private int parallelism = 1;
+    }
+
     public enum PathType {
         ACCOUNT_ID,
         AUTO,
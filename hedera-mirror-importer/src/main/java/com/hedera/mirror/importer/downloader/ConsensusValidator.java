@@ -20,5 +20,16 @@ import com.hedera.mirror.importer.domain.StreamFileSignature;
 import java.util.Collection;
 
 public interface ConsensusValidator {
+
+    /**
+     * Whether the combined stake of the nodes whose verified signatures have the same file hash is enough to reach
+     * consensus.
+     *
+     * @param stake      the combined stake of the nodes
+     * @param totalStake the total stake of all nodes
+     * @return true if consensus can be reached
+     */
+    boolean canReachConsensus(long stake, long totalStake);
+
     void validate(Collection<StreamFileSignature> signatures);
 }
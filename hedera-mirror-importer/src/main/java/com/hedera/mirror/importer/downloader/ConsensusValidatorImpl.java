@@ -35,6 +35,11 @@ public class ConsensusValidatorImpl implements ConsensusValidator {
 
     private final CommonDownloaderProperties commonDownloaderProperties;
 
+    @Override
+    public boolean canReachConsensus(long stake, long totalStake) {
+        return canReachConsensus(stake, getStakeRequiredForConsensus(totalStake));
+    }
+
     /**
      * Validates that the signature files satisfy the consensus requirement:
      * <ol>
@@ -44,6 +44,7 @@ import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.ShutdownHelper;
 import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
@@ -54,12 +55,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -67,6 +72,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -100,13 +106,18 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     protected final AtomicReference<Optional<T>> lastStreamFile = new AtomicReference<>(Optional.empty());
 
     private final ConsensusNodeService consensusNodeService;
+    private final Deque<PendingStreamFile> pendingStreamFiles = new ConcurrentLinkedDeque<>();
     private final StreamType streamType;
+    private PendingSignatures pendingSignatures;
 
     // Metrics
     private final MeterRegistry meterRegistry;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
+    private final Timer notifyWaitMetric;
+    private final Timer prefetchDataWaitMetric;
+    private final Timer prefetchSignatureWaitMetric;
     private final Timer streamCloseMetric;
     private final Timer.Builder streamVerificationMetric;
 
@@ -155,6 +166,19 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamVerificationMetric = Timer.builder("hedera.mirror.download.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        Gauge.builder("hedera.mirror.download.prefetch.queue", pendingStreamFiles, Deque::size)
+                .description("The number of stream files whose data files are being downloaded ahead of verification")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
+        var waitMetric = Timer.builder("hedera.mirror.download.prefetch.wait")
+                .description("The time spent waiting on downloads ahead of verification or on the parser to accept "
+                        + "a verified stream file")
+                .tag("type", streamType.toString());
+        notifyWaitMetric = waitMetric.tag("stage", "notify").register(meterRegistry);
+        prefetchDataWaitMetric = waitMetric.tag("stage", "data").register(meterRegistry);
+        prefetchSignatureWaitMetric = waitMetric.tag("stage", "signature").register(meterRegistry);
     }
 
     public abstract void download();
@@ -215,28 +239,15 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * @return a multi-map of signature file objects from different nodes, grouped by filename
      */
     private Multimap<StreamFilename, StreamFileSignature> downloadAndParseSigFiles() {
-        // Limit to 1 signature file if downloader is disabled
-        long listLimit = downloaderProperties.isEnabled() ? Long.MAX_VALUE : 1;
         var stopwatch = Stopwatch.createStarted();
-        var nodes = partialCollection(consensusNodeService.getNodes());
         var startAfterFilename = getStartAfterFilename();
-        log.debug("Asking for new signature files created after file: {}", startAfterFilename);
+        var prefetched = getPrefetchedSignatures(startAfterFilename);
+        final var signatures = prefetched.orElseGet(() -> {
+            log.debug("Asking for new signature files created after file: {}", startAfterFilename);
+            return Objects.requireNonNull(listSignatures(startAfterFilename).block());
+        });
 
-        final var signatures = Objects.requireNonNull(Flux.fromIterable(nodes)
-                .flatMap(node -> streamFileProvider
-                        .list(node, startAfterFilename)
-                        .take(listLimit)
-                        .map(s -> {
-                            var streamFileSignature = signatureFileReader.read(s);
-                            streamFileSignature.setNode(node);
-                            streamFileSignature.setStreamType(streamType);
-                            return streamFileSignature;
-                        })
-                        .onErrorContinue((e, s) -> log.error("Error downloading signature files for node {}", node, e)))
-                .timeout(downloaderProperties.getCommon().getTimeout())
-                .collect(this::getStreamFileSignatureMultiMap, (map, s) -> map.put(s.getFilename(), s))
-                .subscribeOn(Schedulers.parallel())
-                .block());
+        prefetchSignatures(signatures);
 
         long total = signatures.size();
         if (total > 0) {
@@ -256,6 +267,79 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return signatures;
     }
 
+    private Mono<Multimap<StreamFilename, StreamFileSignature>> listSignatures(StreamFilename startAfterFilename) {
+        // Limit to 1 signature file if downloader is disabled
+        long listLimit = downloaderProperties.isEnabled() ? Long.MAX_VALUE : 1;
+        var nodes = partialCollection(consensusNodeService.getNodes());
+
+        return Flux.fromIterable(nodes)
+                .flatMap(node -> streamFileProvider
+                        .list(node, startAfterFilename)
+                        .take(listLimit)
+                        .map(s -> {
+                            var streamFileSignature = signatureFileReader.read(s);
+                            streamFileSignature.setNode(node);
+                            streamFileSignature.setStreamType(streamType);
+                            return streamFileSignature;
+                        })
+                        .onErrorContinue((e, s) -> log.error("Error downloading signature files for node {}", node, e)))
+                .timeout(downloaderProperties.getCommon().getTimeout())
+                .collect(this::getStreamFileSignatureMultiMap, (map, s) -> map.put(s.getFilename(), s))
+                .subscribeOn(Schedulers.parallel());
+    }
+
+    /**
+     * Returns the signature files listed ahead of time if they were listed after the same file, otherwise discards
+     * them. An empty listing is discarded as well since new files may have been uploaded since.
+     *
+     * @param startAfterFilename the filename to list signature files after
+     * @return the prefetched signature files, if usable
+     */
+    private Optional<Multimap<StreamFilename, StreamFileSignature>> getPrefetchedSignatures(
+            StreamFilename startAfterFilename) {
+        var pending = pendingSignatures;
+        pendingSignatures = null;
+
+        if (pending == null) {
+            return Optional.empty();
+        }
+
+        if (!pending.startAfterFilename().getFilenameAfter().equals(startAfterFilename.getFilenameAfter())) {
+            pending.signatures().cancel(true);
+            return Optional.empty();
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        try {
+            var signatures = pending.signatures().join();
+            prefetchSignatureWaitMetric.record(stopwatch.elapsed());
+            return signatures.isEmpty() ? Optional.empty() : Optional.of(signatures);
+        } catch (Exception e) {
+            log.warn("Unable to prefetch signature files after file {}: {}", startAfterFilename, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Starts listing the signature files of the next batch while the current batch is verified. The next batch is
+     * expected to start after the last signature file of the current batch, which holds as long as it's verified.
+     *
+     * @param signatures the signature files of the current batch
+     */
+    private void prefetchSignatures(Multimap<StreamFilename, StreamFileSignature> signatures) {
+        if (!isPrefetchEnabled() || !downloaderProperties.isEnabled() || signatures.isEmpty()) {
+            return;
+        }
+
+        var startAfterFilename = Collections.max(signatures.keySet());
+        log.debug("Prefetching signature files created after file: {}", startAfterFilename);
+        pendingSignatures = new PendingSignatures(startAfterFilename, listSignatures(startAfterFilename).toFuture());
+    }
+
+    private boolean isPrefetchEnabled() {
+        return downloaderProperties.getCommon().getPrefetch().isEnabled();
+    }
+
     /**
      * Returns the file name in between the last signature file name that was successfully verified and the next stream
      * file to process in the cloud bucket. On startup, the last signature file name will be the last file successfully
@@ -292,41 +376,91 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        var prefetch = downloaderProperties.getCommon().getPrefetch();
+        boolean download = prefetch.isEnabled();
+        // The stream file being verified counts towards the depth
+        int depth = download ? prefetch.getDepth() : 1;
+        var sigFilenameIter = sigFilesMap.keySet().iterator();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            while (sigFilenameIter.hasNext() || !pendingStreamFiles.isEmpty()) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
+
+                // Verify the signatures of up to depth files and start downloading their data files
+                while (pendingStreamFiles.size() < depth && sigFilenameIter.hasNext()) {
+                    var signatures = sigFilesMap.get(sigFilenameIter.next());
+                    pendingStreamFiles.add(prefetch(signatures, download));
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                var pendingStreamFile = pendingStreamFiles.remove();
+                var signatures = pendingStreamFile.signatures();
+                var exception = pendingStreamFile.exception();
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
-                    continue;
+                if (exception != null) {
+                    var statusMapMessage = statusMap(signatures, nodeIds);
+                    if (sigFilenameIter.hasNext() || !pendingStreamFiles.isEmpty()) {
+                        log.warn("{}. Trying next group: {}", exception.getMessage(), statusMapMessage);
+                        continue;
+                    }
+
+                    throw new SignatureVerificationException(exception.getMessage() + ": " + statusMapMessage);
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
-            }
+                Instant startTime = Instant.now();
+                boolean valid = verifySignatures(pendingStreamFile);
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
+                }
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()).plus(pendingStreamFile.elapsed()));
             }
+        } finally {
+            pendingStreamFiles.forEach(PendingStreamFile::cancel);
+            pendingStreamFiles.clear();
+        }
+    }
+
+    /**
+     * Verifies the node signatures of a stream file and, if enabled, starts downloading its data file from the first
+     * node that reached consensus so that it's likely available by the time the stream file is verified.
+     *
+     * @param signatures the signatures of the stream file
+     * @param download   whether to download the data file ahead of time
+     * @return the pending stream file
+     */
+    private PendingStreamFile prefetch(Collection<StreamFileSignature> signatures, boolean download) {
+        var stopwatch = Stopwatch.createStarted();
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException e) {
+            return new PendingStreamFile(signatures, e, null, null, stopwatch.elapsed());
+        }
+
+        if (!download) {
+            return new PendingStreamFile(signatures, null, null, null, stopwatch.elapsed());
         }
+
+        var signature = signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .findFirst()
+                .orElse(null);
+        var data = signature != null
+                ? streamFileProvider
+                        .get(signature.getNode(), signature.getDataFilename())
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .toFuture()
+                : null;
+        return new PendingStreamFile(signatures, null, signature, data, stopwatch.elapsed());
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    private boolean verifySignatures(PendingStreamFile pendingStreamFile) {
+        var signatures = pendingStreamFile.signatures();
         Instant endDate = importerProperties.getEndDate();
 
         for (var signature : signatures) {
@@ -340,16 +474,18 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
+                var streamFileData = signature == pendingStreamFile.signature()
+                        ? getPrefetchedData(pendingStreamFile.data())
+                        : streamFileProvider.get(node, dataFilename).block();
+                Objects.requireNonNull(streamFileData);
                 T streamFile = streamFileReader.read(streamFileData);
                 streamFile.setNodeId(nodeId);
 
                 verify(streamFile, signature);
 
                 if (downloaderProperties.isWriteFiles()) {
-                    Utility.archiveFile(
-                            streamFileData.getFilePath(), streamFile.getBytes(), importerProperties.getStreamPath());
+                    var streamPath = importerProperties.getStreamPath();
+                    Utility.archiveFile(streamFileData.getFilePath(), streamFileData.getBytes(), streamPath);
                 }
 
                 if (downloaderProperties.isWriteSignatures()) {
@@ -358,9 +494,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                             s -> Utility.archiveFile(s.getFilename().getFilePath(), s.getBytes(), destination));
                 }
 
-                if (!downloaderProperties.isPersistBytes()) {
-                    streamFile.setBytes(null);
-                }
+                // Only copy the raw bytes to the heap when they're persisted
+                streamFile.setBytes(downloaderProperties.isPersistBytes() ? streamFileData.getBytes() : null);
 
                 if (dataFilename.getInstant().isAfter(endDate)) {
                     downloaderProperties.setEnabled(false);
@@ -388,10 +523,21 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    private StreamFileData getPrefetchedData(CompletableFuture<StreamFileData> data) {
+        var stopwatch = Stopwatch.createStarted();
+        try {
+            return data.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } finally {
+            prefetchDataWaitMetric.record(stopwatch.elapsed());
+        }
+    }
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
-        streamFileNotifier.verified(streamFile);
+        notifyWaitMetric.record(() -> streamFileNotifier.verified(streamFile));
 
         lastStreamFile.get().ifPresent(last -> {
             long latency = streamFile.getConsensusStart() - last.getConsensusStart();
@@ -532,4 +678,22 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private record PendingSignatures(
+            StreamFilename startAfterFilename,
+            CompletableFuture<Multimap<StreamFilename, StreamFileSignature>> signatures) {}
+
+    private record PendingStreamFile(
+            Collection<StreamFileSignature> signatures,
+            SignatureVerificationException exception,
+            StreamFileSignature signature,
+            CompletableFuture<StreamFileData> data,
+            Duration elapsed) {
+
+        void cancel() {
+            if (data != null) {
+                data.cancel(true);
+            }
+        }
+    }
 }
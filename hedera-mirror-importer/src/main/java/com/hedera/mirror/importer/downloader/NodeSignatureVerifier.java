@@ -18,19 +18,66 @@ package com.hedera.mirror.importer.downloader;
 
 import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus;
+import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureType;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
 import java.security.Signature;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 
+/**
+ * Verifies the signatures of stream files against the public keys of the nodes. Initialized {@link Signature} objects
+ * are cached per thread and per node key since a signature object returns to its initialized state after each
+ * verification, avoiding the provider lookup and key setup per signature file. The signatures of a stream file can be
+ * verified in parallel and, optionally, verification can stop early once the verified signatures of a file hash have
+ * enough stake to reach consensus.
+ */
 @Named
 @CustomLog
-@RequiredArgsConstructor
 public class NodeSignatureVerifier {
 
+    static final String VERIFY_COUNT_METRIC = "hedera.mirror.download.signature.verify.count";
+    static final String VERIFY_METRIC = "hedera.mirror.download.signature.verify";
+
+    private static final int MAX_CACHED_VERIFIERS = 1024;
+    private static final ThreadLocal<Map<VerifierKey, Signature>> VERIFIERS = ThreadLocal.withInitial(HashMap::new);
+
+    private final CommonDownloaderProperties commonDownloaderProperties;
     private final ConsensusValidator consensusValidator;
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final Map<VerifyMetricKey, Counter> verifyCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> verifyTimers = new ConcurrentHashMap<>();
+
+    public NodeSignatureVerifier(
+            CommonDownloaderProperties commonDownloaderProperties,
+            ConsensusValidator consensusValidator,
+            MeterRegistry meterRegistry) {
+        this.commonDownloaderProperties = commonDownloaderProperties;
+        this.consensusValidator = consensusValidator;
+        // Concurrency is bounded per stream file by the parallelism property
+        this.executor = Executors.newCachedThreadPool(
+                Thread.ofPlatform().daemon().name("signature-verifier-", 0).factory());
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
      * Verifies that the signature files satisfy the consensus requirement:
@@ -48,13 +95,32 @@ public class NodeSignatureVerifier {
      * @throws SignatureVerificationException
      */
     public void verify(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        var properties = commonDownloaderProperties.getVerification();
+        var pending = List.copyOf(signatures);
+        var verification = new Verification(pending, properties.isEarlyStop());
+        int workers = Math.min(properties.getParallelism(), pending.size());
+        var futures = new ArrayList<CompletableFuture<Void>>(workers);
+        long start = System.nanoTime();
 
-        for (StreamFileSignature streamFileSignature : signatures) {
-            if (verifySignature(streamFileSignature)) {
-                streamFileSignature.setStatus(SignatureStatus.VERIFIED);
-            }
+        for (int i = 1; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(verification::run, executor));
         }
 
+        verification.run();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        var type = pending.stream()
+                .map(StreamFileSignature::getStreamType)
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .findFirst()
+                .orElse("UNKNOWN");
+        getVerifyTimer(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        int skipped = pending.size() - verification.verified.get() - verification.invalid.get();
+        getVerifyCounter(type, "valid").increment(verification.verified.get());
+        getVerifyCounter(type, "invalid").increment(verification.invalid.get());
+        getVerifyCounter(type, "skipped").increment(skipped);
+
         consensusValidator.validate(signatures);
     }
 
@@ -77,13 +143,13 @@ public class NodeSignatureVerifier {
             return false;
         }
 
+        var key = new VerifierKey(publicKey, streamFileSignature.getSignatureType());
+
         try {
             log.trace("Verifying signature: {}", streamFileSignature);
 
-            Signature sig = Signature.getInstance(
-                    streamFileSignature.getSignatureType().getAlgorithm(),
-                    streamFileSignature.getSignatureType().getProvider());
-            sig.initVerify(publicKey);
+            // The signature object is reset to its initialized state after each call to verify()
+            Signature sig = getVerifier(key);
             sig.update(streamFileSignature.getFileHash());
 
             if (!sig.verify(streamFileSignature.getFileHashSignature())) {
@@ -97,8 +163,95 @@ public class NodeSignatureVerifier {
 
             return true;
         } catch (Exception e) {
+            // The state of the signature object is unknown after an exception
+            VERIFIERS.get().remove(key);
             log.error("Failed to verify signature with public key {}: {}", publicKey, streamFileSignature, e);
         }
         return false;
     }
+
+    private Signature getVerifier(VerifierKey key) throws GeneralSecurityException {
+        var verifiers = VERIFIERS.get();
+        var verifier = verifiers.get(key);
+
+        if (verifier == null) {
+            // Bound the cache in case the node keys change over time
+            if (verifiers.size() >= MAX_CACHED_VERIFIERS) {
+                verifiers.clear();
+            }
+
+            var signatureType = key.signatureType();
+            verifier = Signature.getInstance(signatureType.getAlgorithm(), signatureType.getProvider());
+            verifier.initVerify(key.publicKey());
+            verifiers.put(key, verifier);
+        }
+
+        return verifier;
+    }
+
+    private Counter getVerifyCounter(String type, String result) {
+        var key = new VerifyMetricKey(type, result);
+        return verifyCounters.computeIfAbsent(key, k -> Counter.builder(VERIFY_COUNT_METRIC)
+                .description("The number of signatures verified by result")
+                .tag("result", result)
+                .tag("type", type)
+                .register(meterRegistry));
+    }
+
+    private Timer getVerifyTimer(String type) {
+        return verifyTimers.computeIfAbsent(type, t -> Timer.builder(VERIFY_METRIC)
+                .description("The time it took to verify the node signatures of a stream file")
+                .tag("type", type)
+                .register(meterRegistry));
+    }
+
+    /**
+     * Shared state of the verification of the signatures of a stream file. Each worker takes the next unverified
+     * signature until all are verified or, if early stop is enabled, consensus is reached.
+     */
+    private class Verification implements Runnable {
+
+        private final boolean earlyStop;
+        private final AtomicInteger index = new AtomicInteger();
+        private final AtomicInteger invalid = new AtomicInteger();
+        private final AtomicBoolean reached = new AtomicBoolean();
+        private final List<StreamFileSignature> signatures;
+        private final Map<String, AtomicLong> stakes = new ConcurrentHashMap<>();
+        private final long totalStake;
+        private final AtomicInteger verified = new AtomicInteger();
+
+        private Verification(List<StreamFileSignature> signatures, boolean earlyStop) {
+            this.earlyStop = earlyStop;
+            this.signatures = signatures;
+            this.totalStake = signatures.isEmpty() ? 0L : signatures.get(0).getNode().getTotalStake();
+        }
+
+        @Override
+        public void run() {
+            int i;
+            while (!reached.get() && (i = index.getAndIncrement()) < signatures.size()) {
+                var signature = signatures.get(i);
+
+                if (!verifySignature(signature)) {
+                    invalid.incrementAndGet();
+                    continue;
+                }
+
+                signature.setStatus(SignatureStatus.VERIFIED);
+                verified.incrementAndGet();
+
+                if (earlyStop && totalStake > 0) {
+                    long stake = stakes.computeIfAbsent(signature.getFileHashAsHex(), k -> new AtomicLong())
+                            .addAndGet(signature.getNode().getStake());
+                    if (consensusValidator.canReachConsensus(stake, totalStake)) {
+                        reached.set(true);
+                    }
+                }
+            }
+        }
+    }
+
+    private record VerifierKey(PublicKey publicKey, SignatureType signatureType) {}
+
+    private record VerifyMetricKey(String type, String result) {}
 }
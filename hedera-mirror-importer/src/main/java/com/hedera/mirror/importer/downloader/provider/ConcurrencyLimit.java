@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.ConcurrencyProperties;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.CustomLog;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.HttpStatusCode;
+
+/**
+ * An additive increase, multiplicative decrease (AIMD) limit on the number of concurrent requests to the cloud storage
+ * bucket of a node. Each request completing within the latency target grows the limit by the inverse of the limit so
+ * that it increases by about one per window of requests. A request that is throttled, times out, fails or exceeds the
+ * latency target halves the limit, at most once per latency target so that a burst of failures from the same window
+ * only counts once. When disabled, the limit is fixed at the default concurrency of Reactor.
+ */
+@CustomLog
+class ConcurrencyLimit {
+
+    private static final double DECREASE_RATIO = 0.5;
+
+    private final String name;
+    private final ConcurrencyProperties properties;
+
+    private long lastDecrease;
+    private double limit;
+
+    ConcurrencyLimit(String name, ConcurrencyProperties properties) {
+        this.name = name;
+        this.properties = properties;
+        this.limit = clamp(properties.getInitial());
+    }
+
+    synchronized int get() {
+        return properties.isEnabled() ? (int) limit : Queues.SMALL_BUFFER_SIZE;
+    }
+
+    /**
+     * Observes the outcome and latency of the request to adjust the limit.
+     *
+     * @param request the request
+     * @return the request with the observation applied
+     */
+    <T> Mono<T> observe(Mono<T> request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request.doOnSuccess(v -> onSuccess(Duration.ofNanos(System.nanoTime() - start)))
+                    .doOnError(this::onError);
+        });
+    }
+
+    synchronized void onSuccess(Duration latency) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        if (latency.compareTo(properties.getLatencyTarget()) > 0) {
+            decrease("latency " + latency);
+        } else {
+            limit = clamp(limit + 1.0 / limit);
+        }
+    }
+
+    synchronized void onError(Throwable throwable) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // Other errors like a missing file or access denied are not a sign of overload
+        if (isThrottled(throwable)
+                || throwable instanceof SdkClientException
+                || throwable instanceof TimeoutException) {
+            decrease(throwable.getClass().getSimpleName());
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.min(Math.max(value, properties.getMin()), properties.getMax());
+    }
+
+    private void decrease(String reason) {
+        long now = System.nanoTime();
+        if (lastDecrease != 0 && now - lastDecrease < properties.getLatencyTarget().toNanos()) {
+            return;
+        }
+
+        int previous = (int) limit;
+        lastDecrease = now;
+        limit = clamp(limit * DECREASE_RATIO);
+        log.debug("Decreased concurrency limit of {} from {} to {} due to {}", name, previous, (int) limit, reason);
+    }
+
+    private boolean isThrottled(Throwable throwable) {
+        return throwable instanceof AwsServiceException e
+                && (e.isThrottlingException() || e.statusCode() == HttpStatusCode.SERVICE_UNAVAILABLE);
+    }
+}
@@ -27,17 +27,19 @@ import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.PathType;
 import com.hedera.mirror.importer.exception.InvalidDatasetException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.CustomLog;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -49,17 +51,28 @@ import software.amazon.awssdk.services.s3.model.RequestPayer;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 @CustomLog
-@RequiredArgsConstructor
 public final class S3StreamFileProvider implements StreamFileProvider {
 
     public static final String SEPARATOR = "/";
+    static final String CONCURRENCY_METRIC = "hedera.mirror.importer.download.concurrency";
+    static final String SIZE_METRIC = "hedera.mirror.importer.download.size";
     private static final String RANGE_PREFIX = "bytes=0-";
     private static final String TEMPLATE_ACCOUNT_ID_PREFIX = "%s/%s%s/";
     private static final String TEMPLATE_NODE_ID_PREFIX = "%s/%d/%d/%s/";
 
+    private final Map<PathKey, ConcurrencyLimit> concurrencyLimits = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
     private final CommonDownloaderProperties properties;
     private final Map<PathKey, PathResult> paths = new ConcurrentHashMap<>();
     private final S3AsyncClient s3Client;
+    private final Map<SizeKey, DistributionSummary> sizeMetrics = new ConcurrentHashMap<>();
+
+    public S3StreamFileProvider(
+            CommonDownloaderProperties properties, S3AsyncClient s3Client, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.s3Client = s3Client;
+    }
 
     public Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename) {
 
@@ -71,9 +84,7 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .range(RANGE_PREFIX + (properties.getMaxSize() - 1))
                 .build();
 
-        var responseFuture = s3Client.getObject(request, AsyncResponseTransformer.toBytes());
-        return Mono.fromFuture(responseFuture)
-                .map(r -> toStreamFileData(streamFilename, r))
+        return getObject(request, streamFilename)
                 .timeout(properties.getTimeout())
                 .onErrorMap(NoSuchKeyException.class, TransientProviderException::new)
                 .doOnSuccess(s -> log.debug("Finished downloading {}", s3Key));
@@ -98,8 +109,10 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .requestPayer(RequestPayer.REQUESTER)
                 .build();
 
+        var concurrencyLimit = getConcurrencyLimit(key);
         return Mono.fromFuture(s3Client.listObjectsV2(listRequest))
                 .timeout(properties.getTimeout())
+                .transform(concurrencyLimit::observe)
                 .doOnNext(l -> {
                     pathResult.update(!l.contents().isEmpty());
                     log.debug("Returned {} s3 objects", l.contents().size());
@@ -108,7 +121,9 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .filter(r -> r.size() <= properties.getMaxSize())
                 .map(this::toStreamFilename)
                 .filter(s -> s != EPOCH && s.getFileType() == SIGNATURE)
-                .flatMapSequential(streamFilename -> get(node, streamFilename))
+                .flatMapSequential(
+                        streamFilename -> get(node, streamFilename).transform(concurrencyLimit::observe),
+                        concurrencyLimit.get())
                 .doOnSubscribe(s -> log.debug(
                         "Searching for the next {} files after {}/{}",
                         batchSize,
@@ -117,6 +132,43 @@ public final class S3StreamFileProvider implements StreamFileProvider {
                 .switchIfEmpty(Flux.defer(() -> pathResult.fallback() ? list(node, lastFilename) : Flux.empty()));
     }
 
+    /**
+     * Downloads the object into a heap byte array, or when spooling is enabled, into a memory mapped temporary file if
+     * it's at least the spool minimum size.
+     */
+    private Mono<StreamFileData> getObject(GetObjectRequest request, StreamFilename streamFilename) {
+        if (properties.getSpool().isEnabled()) {
+            var transformer = new SpoolingResponseTransformer(properties.getSpool(), streamFilename);
+            return Mono.fromFuture(s3Client.getObject(request, transformer))
+                    .map(r -> toStreamFileData(streamFilename, r.response(), r.mapped(), r::data));
+        }
+
+        return Mono.fromFuture(s3Client.getObject(request, AsyncResponseTransformer.toBytes()))
+                .map(r -> toStreamFileData(
+                        streamFilename,
+                        r.response(),
+                        false,
+                        () -> new StreamFileData(streamFilename, r::asByteArrayUnsafe, r.response().lastModified())));
+    }
+
+    /**
+     * Gets the adaptive limit on the number of signature files downloaded concurrently after a listing of the node. The
+     * limit is only read once per listing, so it adapts between batches.
+     */
+    private ConcurrencyLimit getConcurrencyLimit(PathKey key) {
+        return concurrencyLimits.computeIfAbsent(key, k -> {
+            var name = k.node().getNodeId() + "/" + k.type();
+            var concurrencyLimit = new ConcurrencyLimit(name, properties.getConcurrency());
+
+            Gauge.builder(CONCURRENCY_METRIC, concurrencyLimit, ConcurrencyLimit::get)
+                    .description("The current limit on the number of concurrent signature file downloads per node")
+                    .tag("node", String.valueOf(k.node().getNodeId()))
+                    .tag("type", k.type().toString())
+                    .register(meterRegistry);
+            return concurrencyLimit;
+        });
+    }
+
     private String getAccountIdPrefix(PathKey key) {
         var streamType = key.type();
         var nodeAccount = key.node().getNodeAccountId().toString();
@@ -137,8 +189,11 @@ public final class S3StreamFileProvider implements StreamFileProvider {
         };
     }
 
-    private StreamFileData toStreamFileData(StreamFilename streamFilename, ResponseBytes<GetObjectResponse> r) {
-        var response = r.response();
+    private StreamFileData toStreamFileData(
+            StreamFilename streamFilename,
+            GetObjectResponse response,
+            boolean mapped,
+            Supplier<StreamFileData> streamFileData) {
         var contentLength = StringUtils.substringAfterLast(response.contentRange(), '/');
         long size = isNumeric(contentLength) ? Long.parseLong(contentLength) : response.contentLength();
 
@@ -146,7 +201,17 @@ public final class S3StreamFileProvider implements StreamFileProvider {
             throw new InvalidDatasetException("Stream file " + streamFilename + " size " + size + " exceeds limit");
         }
 
-        return new StreamFileData(streamFilename, r::asByteArrayUnsafe, response.lastModified());
+        getSizeMetric(new SizeKey(mapped, streamFilename.getStreamType())).record(size);
+        return streamFileData.get();
+    }
+
+    private DistributionSummary getSizeMetric(SizeKey key) {
+        return sizeMetrics.computeIfAbsent(key, k -> DistributionSummary.builder(SIZE_METRIC)
+                .baseUnit("bytes")
+                .description("The size of the downloaded stream files by whether they're held on or off heap")
+                .tag("storage", k.mapped() ? "mapped" : "heap")
+                .tag("type", k.type().toString())
+                .register(meterRegistry));
     }
 
     private StreamFilename toStreamFilename(S3Object s3Object) {
@@ -162,6 +227,8 @@ public final class S3StreamFileProvider implements StreamFileProvider {
 
     record PathKey(ConsensusNode node, StreamType type) {}
 
+    private record SizeKey(boolean mapped, StreamType type) {}
+
     @Data
     private class PathResult {
 
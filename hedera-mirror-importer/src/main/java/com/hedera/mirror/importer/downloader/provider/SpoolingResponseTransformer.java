@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.domain.StreamFilename;
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.SpoolProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Keeps a downloaded object on the heap if it's smaller than the spool minimum size, otherwise writes it to a temporary
+ * file as it's received and memory maps the file so the object is held off heap. The temporary file is deleted as soon
+ * as it's mapped since the mapping stays valid until the buffer is garbage collected.
+ */
+@CustomLog
+@RequiredArgsConstructor
+class SpoolingResponseTransformer
+        implements AsyncResponseTransformer<GetObjectResponse, SpoolingResponseTransformer.SpooledObject> {
+
+    private final SpoolProperties properties;
+    private final StreamFilename streamFilename;
+
+    private volatile AsyncResponseTransformer<GetObjectResponse, ?> delegate;
+    private volatile CompletableFuture<SpooledObject> future;
+
+    @Override
+    public CompletableFuture<SpooledObject> prepare() {
+        delegate = null;
+        future = new CompletableFuture<>();
+        return future;
+    }
+
+    @Override
+    public void onResponse(GetObjectResponse response) {
+        var size = response.contentLength();
+        if (size == null || size < properties.getMinSize() || !spool(response)) {
+            var toBytes = AsyncResponseTransformer.<GetObjectResponse>toBytes();
+            delegate = toBytes;
+            toBytes.prepare().whenComplete((r, e) -> complete(e, () -> {
+                var data = new StreamFileData(streamFilename, r::asByteArrayUnsafe, response.lastModified());
+                return new SpooledObject(data, false, response);
+            }));
+        }
+
+        delegate.onResponse(response);
+    }
+
+    @Override
+    public void onStream(SdkPublisher<ByteBuffer> publisher) {
+        delegate.onStream(publisher);
+    }
+
+    @Override
+    public void exceptionOccurred(Throwable error) {
+        var current = delegate;
+        if (current != null) {
+            current.exceptionOccurred(error);
+        }
+
+        future.completeExceptionally(error);
+    }
+
+    private void complete(Throwable error, Supplier<SpooledObject> result) {
+        if (error != null) {
+            future.completeExceptionally(error);
+            return;
+        }
+
+        try {
+            future.complete(result.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private ByteBuffer map(Path file) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private boolean spool(GetObjectResponse response) {
+        Path file;
+        try {
+            Files.createDirectories(properties.getPath());
+            file = Files.createTempFile(properties.getPath(), "stream", ".tmp");
+        } catch (IOException e) {
+            log.warn("Unable to create spool file for {}, keeping it in memory instead", streamFilename, e);
+            return false;
+        }
+
+        var toFile = AsyncResponseTransformer.<GetObjectResponse>toFile(
+                file, FileTransformerConfiguration.defaultCreateOrReplaceExisting());
+        delegate = toFile;
+        toFile.prepare().whenComplete((r, e) -> {
+            if (e != null) {
+                deleteQuietly(file);
+            }
+
+            complete(e, () -> {
+                var data = StreamFileData.from(streamFilename, map(file), response.lastModified());
+                return new SpooledObject(data, true, response);
+            });
+        });
+        return true;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete spooled file {}", file, e);
+        }
+    }
+
+    record SpooledObject(StreamFileData data, boolean mapped, GetObjectResponse response) {}
+}
@@ -16,8 +16,6 @@
 
 package com.hedera.mirror.importer.downloader.record;
 
-import com.google.common.collect.ArrayListMultimap;
-import com.google.common.collect.Multimaps;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
@@ -41,10 +39,14 @@ import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.Utility;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Function;
+import java.util.HashMap;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Flux;
@@ -109,6 +111,12 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         }
     }
 
+    /**
+     * Downloads the sidecar files of the record file in parallel, streaming each sidecar record directly to the record
+     * item with the same consensus timestamp as it's decoded. Sidecar records of types not accepted are skipped before
+     * being decoded. If any sidecar file fails, the record file and so the sidecar records already routed to its record
+     * items are discarded.
+     */
     private void downloadSidecars(StreamFilename recordFilename, RecordFile recordFile, ConsensusNode node) {
         if (!sidecarProperties.isEnabled() || recordFile.getSidecars().isEmpty()) {
             return;
@@ -116,31 +124,59 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
         var acceptedTypes =
                 sidecarProperties.getTypes().stream().map(Enum::ordinal).collect(Collectors.toSet());
+        var recordItems = new HashMap<Timestamp, RecordItem>();
+        recordFile
+                .getItems()
+                .forEach(recordItem ->
+                        recordItems.put(recordItem.getTransactionRecord().getConsensusTimestamp(), recordItem));
+
+        IntPredicate typeFilter = fieldNumber -> {
+            int type = getSidecarType(fieldNumber);
+            return acceptedTypes.isEmpty()
+                    || type == SidecarType.SIDECAR_TYPE_UNKNOWN_VALUE
+                    || acceptedTypes.contains(type);
+        };
+        Consumer<TransactionSidecarRecord> router = transactionSidecarRecord -> {
+            if (!acceptedTypes.isEmpty() && !acceptedTypes.contains(getSidecarType(transactionSidecarRecord))) {
+                return;
+            }
 
-        var records = Flux.fromIterable(recordFile.getSidecars())
+            var recordItem = recordItems.get(transactionSidecarRecord.getConsensusTimestamp());
+            if (recordItem != null) {
+                addSidecarRecord(recordItem, transactionSidecarRecord);
+            }
+        };
+
+        Flux.fromIterable(recordFile.getSidecars())
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
-                .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar))
-                .flatMapIterable(SidecarFile::getRecords)
-                .filter(t -> acceptedTypes.isEmpty() || acceptedTypes.contains(getSidecarType(t)))
-                .collect(Multimaps.toMultimap(
-                        TransactionSidecarRecord::getConsensusTimestamp,
-                        Function.identity(),
-                        ArrayListMultimap::create))
+                .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar, typeFilter, router))
+                .then()
                 .block();
+    }
 
-        recordFile.getItems().forEach(recordItem -> {
-            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-            if (records.containsKey(timestamp)) {
-                recordItem.setSidecarRecords(records.get(timestamp));
+    private void addSidecarRecord(RecordItem recordItem, TransactionSidecarRecord transactionSidecarRecord) {
+        // Sidecar files are read concurrently and a transaction's sidecar records can span multiple files
+        synchronized (recordItem) {
+            var sidecarRecords = recordItem.getSidecarRecords();
+            if (sidecarRecords.isEmpty()) {
+                sidecarRecords = new ArrayList<>();
+                recordItem.setSidecarRecords(sidecarRecords);
             }
-        });
+
+            sidecarRecords.add(transactionSidecarRecord);
+        }
     }
 
-    private Mono<SidecarFile> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
+    private Mono<SidecarFile> getSidecar(
+            ConsensusNode node,
+            StreamFilename recordFilename,
+            SidecarFile sidecar,
+            IntPredicate typeFilter,
+            Consumer<TransactionSidecarRecord> router) {
         var sidecarFilename = StreamFilename.from(recordFilename, sidecar.getName());
         return streamFileProvider.get(node, sidecarFilename).map(streamFileData -> {
-            sidecarFileReader.read(sidecar, streamFileData);
+            sidecarFileReader.read(sidecar, streamFileData, typeFilter, router);
 
             if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
                 throw new HashMismatchException(
@@ -149,17 +185,25 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
             if (downloaderProperties.isWriteFiles()) {
                 var streamPath = importerProperties.getStreamPath();
-                Utility.archiveFile(streamFileData.getFilePath(), sidecar.getBytes(), streamPath);
+                Utility.archiveFile(streamFileData.getFilePath(), streamFileData.getBytes(), streamPath);
             }
 
-            if (!sidecarProperties.isPersistBytes()) {
-                sidecar.setBytes(null);
-            }
+            // Only copy the raw bytes to the heap when they're persisted
+            sidecar.setBytes(sidecarProperties.isPersistBytes() ? streamFileData.getBytes() : null);
 
             return sidecar;
         });
     }
 
+    private int getSidecarType(int fieldNumber) {
+        return switch (fieldNumber) {
+            case TransactionSidecarRecord.ACTIONS_FIELD_NUMBER -> SidecarType.CONTRACT_ACTION_VALUE;
+            case TransactionSidecarRecord.BYTECODE_FIELD_NUMBER -> SidecarType.CONTRACT_BYTECODE_VALUE;
+            case TransactionSidecarRecord.STATE_CHANGES_FIELD_NUMBER -> SidecarType.CONTRACT_STATE_CHANGE_VALUE;
+            default -> SidecarType.SIDECAR_TYPE_UNKNOWN_VALUE;
+        };
+    }
+
     private int getSidecarType(TransactionSidecarRecord transactionSidecarRecord) {
         return switch (transactionSidecarRecord.getSidecarRecordsCase()) {
             case ACTIONS -> SidecarType.CONTRACT_ACTION_VALUE;
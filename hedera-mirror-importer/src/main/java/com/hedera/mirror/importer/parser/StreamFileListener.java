@@ -21,5 +21,12 @@ import com.hedera.mirror.importer.exception.ImporterException;
 
 public interface StreamFileListener<T extends StreamFile<?>> {
 
+    /**
+     * Called once per parse after the items of the stream file, or of the last stream file when a batch of stream files
+     * is parsed, have been processed. Called within the transaction of the parse, on the parsing thread unless
+     * documented otherwise by the stream type.
+     *
+     * @param streamFile the stream file, or the last stream file of the batch
+     */
     void onEnd(T streamFile) throws ImporterException;
 }
@@ -23,29 +23,50 @@ import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
 import com.hedera.mirror.importer.config.DateRangeCalculator;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.batch.ParallelTxManager;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * Parse an account balances file and load it into the database.
+ * Parse an account balances file and load it into the database. The balances are persisted in chunks of at most the
+ * batch size as they're read. When parallelism is greater than one, the chunks are copied concurrently on separate
+ * connections whose transactions complete with the parser transaction, and the number of chunks held in memory is
+ * bounded by the parallelism.
  */
 @Named
 public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBalanceFile> {
 
+    private static final String ACCOUNT_BALANCE_TABLE = "account_balance";
+    private static final String TOKEN_BALANCE_TABLE = "token_balance";
+
     private final BatchPersister batchPersister;
     private final DateRangeCalculator dateRangeCalculator;
+    private final ExecutorService executor;
+    private final ParallelTxManager transactionManager;
 
     public AccountBalanceFileParser(
             BatchPersister batchPersister,
@@ -53,10 +74,16 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
             BalanceParserProperties parserProperties,
             StreamFileRepository<AccountBalanceFile, Long> accountBalanceFileRepository,
             DateRangeCalculator dateRangeCalculator,
-            BalanceStreamFileListener streamFileListener) {
+            BalanceStreamFileListener streamFileListener,
+            DataSource dataSource) {
         super(meterRegistry, parserProperties, streamFileListener, accountBalanceFileRepository);
         this.batchPersister = batchPersister;
         this.dateRangeCalculator = dateRangeCalculator;
+        // Concurrency is bounded per file by the parallelism permits
+        this.executor = Executors.newCachedThreadPool(
+                Thread.ofPlatform().daemon().name("balance-persist-", 0).factory());
+        // Not shared with the record parser since each instance completes with a single parent transaction
+        this.transactionManager = new ParallelTxManager(dataSource);
     }
 
     /**
@@ -90,6 +117,11 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
         super.parse(accountBalanceFile);
     }
 
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
     @Override
     protected void doParse(AccountBalanceFile accountBalanceFile) {
         log.info("Starting processing account balances file {}", accountBalanceFile.getName());
@@ -98,34 +130,120 @@ public class AccountBalanceFileParser extends AbstractStreamFileParser<AccountBa
         var count = new AtomicLong(0L);
 
         if (filter.filter(accountBalanceFile.getConsensusTimestamp())) {
-            List<AccountBalance> accountBalances = new ArrayList<>(batchSize);
-            Map<TokenBalance.Id, TokenBalance> tokenBalances = new HashMap<>(batchSize);
+            var properties = (BalanceParserProperties) parserProperties;
+            if (properties.getParallelism() > 1 && TransactionSynchronizationManager.isSynchronizationActive()) {
+                transactionManager.initialize();
+                persistParallel(accountBalanceFile, batchSize, properties.getParallelism(), count);
+            } else {
+                persist(accountBalanceFile, batchSize, count, this::persist);
+            }
+        }
+
+        accountBalanceFile.setCount(count.get());
+        accountBalanceFile.setLoadEnd(System.currentTimeMillis());
+    }
 
-            accountBalanceFile.getItems().forEach(accountBalance -> {
-                accountBalances.add(accountBalance);
+    private void persist(
+            AccountBalanceFile accountBalanceFile, int batchSize, AtomicLong count, Consumer<Chunk> persister) {
+        var chunk = new Chunk(batchSize);
+
+        // Release the stream of lazily decoded items even if decoding or persisting fails before it's exhausted
+        try (var iterator = closeable(accountBalanceFile.getItems().iterator())) {
+            while (iterator.hasNext()) {
+                var accountBalance = iterator.next();
+                chunk.accountBalances().add(accountBalance);
                 for (var tokenBalance : accountBalance.getTokenBalances()) {
-                    if (tokenBalances.putIfAbsent(tokenBalance.getId(), tokenBalance) != null) {
+                    if (chunk.tokenBalances().putIfAbsent(tokenBalance.getId(), tokenBalance) != null) {
                         log.warn("Skipping duplicate token balance: {}", tokenBalance);
                     }
                 }
 
-                if (accountBalances.size() >= batchSize) {
-                    batchPersister.persist(accountBalances);
-                    accountBalances.clear();
+                if (chunk.accountBalances().size() >= batchSize || chunk.tokenBalances().size() >= batchSize) {
+                    persister.accept(chunk);
+                    chunk = new Chunk(batchSize);
                 }
+                count.getAndIncrement();
+            }
+        }
+
+        persister.accept(chunk);
+    }
+
+    private static CloseableIterator<AccountBalance> closeable(Iterator<AccountBalance> iterator) {
+        if (iterator instanceof CloseableIterator<AccountBalance> closeableIterator) {
+            return closeableIterator;
+        }
+
+        return new CloseableIterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
 
-                if (tokenBalances.size() >= batchSize) {
-                    batchPersister.persist(tokenBalances.values());
-                    tokenBalances.clear();
+            @Override
+            public AccountBalance next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void close() {
+                // Nothing to release for items already in memory
+            }
+        };
+    }
+
+    private void persist(Chunk chunk) {
+        batchPersister.persist(chunk.accountBalances());
+        batchPersister.persist(chunk.tokenBalances().values());
+    }
+
+    private void persistParallel(
+            AccountBalanceFile accountBalanceFile, int batchSize, int parallelism, AtomicLong count) {
+        var futures = new ArrayList<CompletableFuture<Void>>();
+        var permits = new Semaphore(parallelism);
+
+        try {
+            persist(accountBalanceFile, batchSize, count, chunk -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ParserException(e);
                 }
-                count.getAndIncrement();
+
+                var future = CompletableFuture.runAsync(
+                        () -> {
+                            transactionManager.updateAndGetThreadState(ACCOUNT_BALANCE_TABLE);
+                            transactionManager.updateAndGetThreadState(TOKEN_BALANCE_TABLE);
+                            persist(chunk);
+                        },
+                        executor);
+                futures.add(future.whenComplete((v, e) -> permits.release()));
             });
+        } catch (RuntimeException e) {
+            // Wait for the workers so the connections are idle before the parent transaction rolls them back
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .exceptionally(t -> null)
+                    .join();
+            throw e;
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ParserException parserException) {
+                throw parserException;
+            }
 
-            batchPersister.persist(accountBalances);
-            batchPersister.persist(tokenBalances.values());
+            throw new ParserException(e.getCause());
         }
 
-        accountBalanceFile.setCount(count.get());
-        accountBalanceFile.setLoadEnd(System.currentTimeMillis());
+        log.info("Persisted {} chunks of balances concurrently", futures.size());
+    }
+
+    private record Chunk(List<AccountBalance> accountBalances, Map<TokenBalance.Id, TokenBalance> tokenBalances) {
+        private Chunk(int batchSize) {
+            this(new ArrayList<>(batchSize), new HashMap<>(batchSize));
+        }
     }
 }
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.balance;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.parser.AbstractParserProperties;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.time.Duration;
 import lombok.Data;
@@ -37,6 +38,10 @@ public class BalanceParserProperties extends AbstractParserProperties {
     @Min(1)
     private int fileBufferSize = 200_000;
 
+    @Max(16)
+    @Min(1)
+    private int parallelism = 1;
+
     public BalanceParserProperties() {
         frequency = Duration.ofSeconds(1L);
         batch.setQueueCapacity(1);
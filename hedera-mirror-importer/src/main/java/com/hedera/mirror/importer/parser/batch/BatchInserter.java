@@ -56,6 +56,7 @@ public class BatchInserter implements BatchPersister {
     protected final MeterRegistry meterRegistry;
     protected final String tableName;
 
+    private final BinaryCopyWriter binaryCopyWriter;
     private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
@@ -75,6 +76,17 @@ public class BatchInserter implements BatchPersister {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             String tableName) {
+        this(entityClass, dataSource, meterRegistry, properties, tableName, null);
+    }
+
+    public BatchInserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            String tableName,
+            BinaryCopyWriter binaryCopyWriter) {
+        this.binaryCopyWriter = binaryCopyWriter;
         this.dataSource = dataSource;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
@@ -94,7 +106,10 @@ public class BatchInserter implements BatchPersister {
                 .distinct()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
                 .collect(Collectors.joining(", "));
-        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        sql = binaryCopyWriter != null
+                ? String.format(
+                        "COPY %s(%s) FROM STDIN WITH (FORMAT BINARY)", this.tableName, binaryCopyWriter.getColumns())
+                : String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -137,7 +152,12 @@ public class BatchInserter implements BatchPersister {
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            if (binaryCopyWriter != null) {
+                binaryCopyWriter.write(pgCopyOutputStream, items);
+            } else {
+                writer.writeValue(pgCopyOutputStream, items);
+            }
+
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
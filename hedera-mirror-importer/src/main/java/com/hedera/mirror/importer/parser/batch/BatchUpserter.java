@@ -47,7 +47,23 @@ public class BatchUpserter extends BatchInserter {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
-        super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, null);
+    }
+
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            BinaryCopyWriter binaryCopyWriter) {
+        super(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                properties,
+                upsertQueryGenerator.getTemporaryTableName(),
+                binaryCopyWriter);
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
@@ -0,0 +1,342 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.converter.ObjectToStringSerializer;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes domain objects in the PostgreSQL binary COPY format. The column encoders are generated once from the entity
+ * metadata so that primitive values, byte arrays, ranges and arrays are written directly to the output stream without
+ * the intermediate text representation required by the CSV format.
+ */
+public class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final int NULL_LENGTH = -1;
+    private static final short TRAILER = -1;
+
+    // Range flags as defined in PostgreSQL rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    // Element type oids as defined in PostgreSQL pg_type.dat
+    private static final int INT2_OID = 21;
+    private static final int INT4_OID = 23;
+    private static final int INT8_OID = 20;
+
+    private final String columns;
+    private final List<ColumnWriter> columnWriters;
+
+    private BinaryCopyWriter(EntityMetadata entityMetadata) {
+        this.columns = entityMetadata.columns("{0}");
+        this.columnWriters =
+                entityMetadata.getColumns().stream().map(this::columnWriter).toList();
+    }
+
+    /**
+     * Creates a writer for the entity.
+     *
+     * @param entityMetadata the metadata of the entity
+     * @return the binary copy writer
+     * @throws UnsupportedOperationException if any column type is not supported in the binary format
+     */
+    public static BinaryCopyWriter create(EntityMetadata entityMetadata) {
+        return new BinaryCopyWriter(entityMetadata);
+    }
+
+    public String getColumns() {
+        return columns;
+    }
+
+    public void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+        out.writeInt(0); // Flags
+        out.writeInt(0); // Header extension length
+
+        short fieldCount = (short) columnWriters.size();
+        for (var item : items) {
+            out.writeShort(fieldCount);
+            for (int i = 0; i < fieldCount; i++) {
+                columnWriters.get(i).write(out, item);
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    private ColumnWriter columnWriter(ColumnMetadata column) {
+        var getter = column.getGetter();
+        var javaType = column.getType();
+        var dataType = column.getDataType();
+        var encoder =
+                switch (dataType) {
+                    case "bool" -> encoder(javaType, Boolean.class, BinaryCopyWriter::writeBoolean);
+                    case "bytea" -> encoder(javaType, byte[].class, BinaryCopyWriter::writeBytes);
+                    case "int2" -> Enum.class.isAssignableFrom(javaType)
+                            ? enumEncoder(javaType, 2)
+                            : encoder(javaType, Number.class, BinaryCopyWriter::writeShort);
+                    case "int4" -> Enum.class.isAssignableFrom(javaType)
+                            ? enumEncoder(javaType, 4)
+                            : encoder(javaType, Number.class, BinaryCopyWriter::writeInt);
+                    case "int8" -> EntityId.class.isAssignableFrom(javaType)
+                            ? (Encoder) BinaryCopyWriter::writeEntityId
+                            : encoder(javaType, Number.class, BinaryCopyWriter::writeLong);
+                    case "int8range" -> encoder(javaType, Range.class, BinaryCopyWriter::writeRange);
+                    case "_int2" -> arrayEncoder(javaType, INT2_OID, 2);
+                    case "_int4" -> arrayEncoder(javaType, INT4_OID, 4);
+                    case "_int8" -> arrayEncoder(javaType, INT8_OID, 8);
+                    case "jsonb" -> (Encoder) BinaryCopyWriter::writeJsonb;
+                    case "text", "varchar" -> encoder(javaType, String.class, BinaryCopyWriter::writeText);
+                    default -> {
+                        // PostgreSQL enums are sent as their label
+                        if (Enum.class.isAssignableFrom(javaType)) {
+                            yield (Encoder) BinaryCopyWriter::writeEnumName;
+                        }
+
+                        throw new UnsupportedOperationException(
+                                "Unsupported type " + dataType + " for column " + column.getName());
+                    }
+                };
+
+        return (out, item) -> {
+            var value = getter.apply(item);
+            if (value == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                encoder.encode(out, value);
+            }
+        };
+    }
+
+    private Encoder arrayEncoder(Class<?> javaType, int elementOid, int elementSize) {
+        if (!List.class.isAssignableFrom(javaType)) {
+            throw new UnsupportedOperationException("Unsupported array type " + javaType);
+        }
+
+        return (out, value) -> {
+            var list = (List<?>) value;
+            int size = list.size();
+            boolean hasNull = false;
+            int length = 12 + (size > 0 ? 8 : 0) + size * 4;
+            for (var element : list) {
+                if (element != null) {
+                    length += elementSize;
+                } else {
+                    hasNull = true;
+                }
+            }
+
+            out.writeInt(length);
+            out.writeInt(size > 0 ? 1 : 0); // Number of dimensions
+            out.writeInt(hasNull ? 1 : 0);
+            out.writeInt(elementOid);
+
+            if (size > 0) {
+                out.writeInt(size);
+                out.writeInt(1); // Lower bound
+            }
+
+            for (var element : list) {
+                if (element == null) {
+                    out.writeInt(NULL_LENGTH);
+                    continue;
+                }
+
+                long number = element instanceof EntityId entityId ? entityId.getId() : ((Number) element).longValue();
+                out.writeInt(elementSize);
+                switch (elementSize) {
+                    case 2 -> out.writeShort((short) number);
+                    case 4 -> out.writeInt((int) number);
+                    default -> out.writeLong(number);
+                }
+            }
+        };
+    }
+
+    /**
+     * Writes an enum as its numeric id, the value it's serialized to in the CSV format, rather than its ordinal which
+     * may not match the id. The ids are resolved once per enum constant.
+     */
+    private Encoder enumEncoder(Class<?> javaType, int size) {
+        var constants = javaType.getEnumConstants();
+        var ids = new int[constants.length];
+        for (int i = 0; i < constants.length; i++) {
+            JsonNode id = ObjectToStringSerializer.OBJECT_MAPPER.valueToTree(constants[i]);
+            try {
+                ids[i] = Integer.parseInt(id.asText());
+            } catch (NumberFormatException e) {
+                throw new UnsupportedOperationException("Unsupported enum " + javaType + " without a numeric id");
+            }
+        }
+
+        return (out, value) -> {
+            int id = ids[((Enum<?>) value).ordinal()];
+            out.writeInt(size);
+            if (size == 2) {
+                out.writeShort(id);
+            } else {
+                out.writeInt(id);
+            }
+        };
+    }
+
+    private Encoder encoder(Class<?> javaType, Class<?> supportedType, Encoder encoder) {
+        var boxed = javaType.isPrimitive() ? box(javaType) : javaType;
+        if (!supportedType.isAssignableFrom(boxed)) {
+            throw new UnsupportedOperationException("Unsupported type " + javaType + " for " + supportedType);
+        }
+
+        return encoder;
+    }
+
+    private static Class<?> box(Class<?> primitive) {
+        if (primitive == boolean.class) {
+            return Boolean.class;
+        } else if (primitive == short.class) {
+            return Short.class;
+        } else if (primitive == int.class) {
+            return Integer.class;
+        } else if (primitive == long.class) {
+            return Long.class;
+        }
+
+        return primitive;
+    }
+
+    private static void writeBoolean(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(1);
+        out.writeBoolean((Boolean) value);
+    }
+
+    private static void writeBytes(DataOutputStream out, Object value) throws IOException {
+        var bytes = (byte[]) value;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeEntityId(DataOutputStream out, Object value) throws IOException {
+        var entityId = (EntityId) value;
+        // Consistent with EntityIdSerializer, the empty entity id is persisted as null
+        if (EntityId.isEmpty(entityId)) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+
+        out.writeInt(8);
+        out.writeLong(entityId.getId());
+    }
+
+    private static void writeEnumName(DataOutputStream out, Object value) throws IOException {
+        writeText(out, ((Enum<?>) value).name());
+    }
+
+    private static void writeInt(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(4);
+        out.writeInt(((Number) value).intValue());
+    }
+
+    private static void writeJsonb(DataOutputStream out, Object value) throws IOException {
+        var json = value instanceof String text
+                ? text.getBytes(StandardCharsets.UTF_8)
+                : ObjectToStringSerializer.OBJECT_MAPPER.writeValueAsBytes(value);
+        out.writeInt(json.length + 1);
+        out.writeByte(1); // jsonb version
+        out.write(json);
+    }
+
+    private static void writeLong(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(8);
+        out.writeLong(((Number) value).longValue());
+    }
+
+    private static void writeRange(DataOutputStream out, Object value) throws IOException {
+        var range = (Range<?>) value;
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        int flags = 0;
+        int length = 1;
+
+        if (range.hasLowerBound()) {
+            flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+            length += 12;
+        } else {
+            flags |= RANGE_LB_INF;
+        }
+
+        if (range.hasUpperBound()) {
+            flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+            length += 12;
+        } else {
+            flags |= RANGE_UB_INF;
+        }
+
+        out.writeInt(length);
+        out.writeByte(flags);
+
+        if (range.hasLowerBound()) {
+            out.writeInt(8);
+            out.writeLong(((Number) range.lowerEndpoint()).longValue());
+        }
+
+        if (range.hasUpperBound()) {
+            out.writeInt(8);
+            out.writeLong(((Number) range.upperEndpoint()).longValue());
+        }
+    }
+
+    private static void writeShort(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(2);
+        out.writeShort(((Number) value).shortValue());
+    }
+
+    private static void writeText(DataOutputStream out, Object value) throws IOException {
+        var bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(DataOutputStream out, Object item) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+}
@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.parser.batch;
 import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.common.domain.transaction.TransactionHash;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -29,26 +30,31 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
+import lombok.CustomLog;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.AnnotationUtils;
 
+@CustomLog
 @Named
 @Primary
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
             DataSource dataSource,
+            EntityMetadataRegistry entityMetadataRegistry,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
         this.dataSource = dataSource;
+        this.entityMetadataRegistry = entityMetadataRegistry;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.upsertQueryGeneratorFactory = upsertQueryGeneratorFactory;
@@ -80,13 +86,34 @@ public class CompositeBatchPersister implements BatchPersister {
         }
 
         var entityClass = getEntityClass(domainClass);
+        var binaryCopyWriter = getBinaryCopyWriter(entityClass);
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
-            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
+            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator, binaryCopyWriter);
         } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+            return new BatchInserter(
+                    entityClass,
+                    dataSource,
+                    meterRegistry,
+                    properties,
+                    entityClass.getSimpleName(),
+                    binaryCopyWriter);
+        }
+    }
+
+    // Falls back to CSV if the binary format is disabled or not supported by the entity's column types
+    private BinaryCopyWriter getBinaryCopyWriter(Class<?> entityClass) {
+        if (!properties.isBinaryCopy()) {
+            return null;
+        }
+
+        try {
+            return BinaryCopyWriter.create(entityMetadataRegistry.lookupEntity(entityClass));
+        } catch (Exception e) {
+            log.warn("Using CSV instead of binary copy for {}: {}", entityClass.getSimpleName(), e.getMessage());
+            return null;
         }
     }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import jakarta.inject.Named;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coordinates the worker connections used to persist tables in parallel with the parent parser transaction. The worker
+ * transactions are always prepared before the parent commits, so that a failure to prepare any of them rolls back
+ * everything, and only committed once the parent has. This requires max_prepared_transactions to be configured.
+ */
+@CustomLog
+@Named
+public class ParallelTxManager extends WorkerTxManager<String> {
+
+    // Prepared transactions of the workers whose parent transaction already completed
+    private static final String ORPHANED_SQL =
+            """
+            select gid, txid_status(split_part(gid, '_', 2)::bigint) as status
+            from pg_prepared_xacts
+            where database = current_database() and gid ~ '^importer_[0-9]+_'
+            """;
+
+    public ParallelTxManager(DataSource dataSource) {
+        super(dataSource, true);
+    }
+
+    /**
+     * Registers with the parent transaction if not already registered. Must be called from the parent transaction
+     * thread before any worker thread calls {@link #updateAndGetThreadState(Comparable)}. Prepared transactions that
+     * previously failed to complete are recovered first, since their locks could block the workers.
+     *
+     * @throws IllegalStateException if the prepared transactions that failed to complete can't be recovered
+     */
+    public void initialize() {
+        if (TransactionSynchronizationManager.getSynchronizations().contains(this)) {
+            return;
+        }
+
+        if (recoveryNeeded) {
+            recoveryNeeded = false;
+            if (!resolveOrphaned()) {
+                recoveryNeeded = true;
+                throw new IllegalStateException("Unable to recover prepared transactions that failed to complete");
+            }
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(this);
+    }
+
+    /**
+     * Resolves the prepared worker transactions left behind by a crash between the prepare and the completion of the
+     * worker transactions, since they would otherwise hold their locks indefinitely. A prepared transaction is
+     * committed or rolled back according to the outcome of its parent transaction, and left alone while the parent is
+     * still in progress.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        resolveOrphaned();
+    }
+
+    private boolean resolveOrphaned() {
+        try (var connection = dataSource.getConnection()) {
+            var orphaned = new LinkedHashMap<String, String>();
+            try (var statement = connection.createStatement();
+                    var resultSet = statement.executeQuery(ORPHANED_SQL)) {
+                while (resultSet.next()) {
+                    orphaned.put(resultSet.getString(1), resultSet.getString(2));
+                }
+            }
+
+            connection.setAutoCommit(true);
+            for (var entry : orphaned.entrySet()) {
+                var transactionId = entry.getKey();
+                var status = entry.getValue();
+                var command =
+                        switch (String.valueOf(status)) {
+                            case "committed" -> "commit prepared";
+                            case "aborted" -> "rollback prepared";
+                            default -> null;
+                        };
+
+                if (command == null) {
+                    log.warn("Skipping prepared transaction {} with parent status {}", transactionId, status);
+                    continue;
+                }
+
+                try (var statement = connection.createStatement()) {
+                    statement.execute(String.format("%s '%s'", command, transactionId));
+                    log.warn("Recovered orphaned prepared transaction {} with {}", transactionId, command);
+                }
+            }
+
+            return true;
+        } catch (SQLException e) {
+            log.warn("Unable to recover orphaned prepared transactions: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    protected void onCompletion(String status, Set<String> successfulTables, Set<String> failedTables) {
+        if (failedTables.isEmpty()) {
+            log.debug("Successfully {} parallel transactions for tables {}", status, successfulTables);
+        } else {
+            log.error(
+                    "Errors occurred completing parallel transactions. parent status {} successful tables {} "
+                            + "failed tables {}",
+                    status,
+                    successfulTables,
+                    failedTables);
+        }
+    }
+
+    @Override
+    protected void onError(ThreadState<String> threadState, Exception e) {
+        log.error("Received exception completing parallel transaction for tables {}", threadState.getItems(), e);
+    }
+}
@@ -117,7 +117,7 @@ public class TransactionHashBatchInserter implements BatchPersister {
     }
 
     @VisibleForTesting
-    Map<String, TransactionHashTxManager.ThreadState> getThreadConnections() {
+    Map<String, WorkerTxManager.ThreadState<Integer>> getThreadConnections() {
         return transactionManager.getThreadConnections();
     }
 }
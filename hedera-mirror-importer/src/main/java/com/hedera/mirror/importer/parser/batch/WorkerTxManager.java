@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.Data;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coordinates the connections of the worker threads persisting data on behalf of the parent parser transaction. Each
+ * worker thread gets its own connection and transaction that is completed when the parent transaction completes.
+ * <p>
+ * With two-phase commit the worker transactions are prepared before the parent commits so that a failure to prepare
+ * any of them rolls back everything. The ID of a prepared transaction embeds the ID of the parent transaction so that
+ * a prepared transaction orphaned by a crash can be resolved to the outcome of its parent. A prepared transaction that
+ * fails to complete is retried on new connections and, if it still fails, flagged as needing recovery.
+ *
+ * @param <T> the type of the items, such as tables or shards, persisted by the workers
+ */
+@CustomLog
+public abstract class WorkerTxManager<T extends Comparable<T>> implements TransactionSynchronization {
+
+    static final String TRANSACTION_ID_PREFIX = "importer_";
+
+    private static final int COMPLETE_PREPARED_ATTEMPTS = 3;
+    private static final String PREPARED_SQL = "select count(*) from pg_prepared_xacts where gid = ?";
+
+    protected final DataSource dataSource;
+    protected volatile boolean recoveryNeeded;
+    private final Map<String, ThreadState<T>> threadConnections = new ConcurrentHashMap<>();
+    private final boolean twoPhaseCommit;
+
+    protected WorkerTxManager(DataSource dataSource, boolean twoPhaseCommit) {
+        this.dataSource = dataSource;
+        this.twoPhaseCommit = twoPhaseCommit;
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        if (!twoPhaseCommit || threadConnections.isEmpty()) {
+            return;
+        }
+
+        long parentTransactionId = getParentTransactionId();
+
+        for (var threadState : threadConnections.values()) {
+            var transactionId = TRANSACTION_ID_PREFIX + parentTransactionId + "_" + UUID.randomUUID();
+            try (var statement = threadState.getConnection().createStatement()) {
+                statement.execute(String.format("prepare transaction '%s'", transactionId));
+                threadState.setTransactionId(transactionId);
+                // commit prepared and rollback prepared can't run inside a transaction block
+                threadState.getConnection().setAutoCommit(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(
+                        "Unable to prepare worker transaction for " + threadState.getItems(), e);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        var failedItems = new TreeSet<T>();
+        var successfulItems = new TreeSet<T>();
+
+        for (var threadState : threadConnections.values()) {
+            try (var connection = threadState.getConnection()) {
+                if (status == STATUS_COMMITTED) {
+                    commit(connection, threadState);
+                    successfulItems.addAll(threadState.getItems());
+                    threadState.setStatus(STATUS_COMMITTED);
+                } else if (status == STATUS_ROLLED_BACK) {
+                    rollback(connection, threadState);
+                    successfulItems.addAll(threadState.getItems());
+                    threadState.setStatus(STATUS_ROLLED_BACK);
+                } else {
+                    // A prepared transaction is left to be recovered according to the outcome of its parent
+                    if (threadState.isPrepared()) {
+                        recoveryNeeded = true;
+                    } else {
+                        rollback(connection, threadState);
+                    }
+
+                    failedItems.addAll(threadState.getItems());
+                    threadState.setStatus(STATUS_UNKNOWN);
+                }
+            } catch (Exception e) {
+                if (status != STATUS_UNKNOWN && completePrepared(threadState, status == STATUS_COMMITTED)) {
+                    successfulItems.addAll(threadState.getItems());
+                    threadState.setStatus(status);
+                    continue;
+                }
+
+                onError(threadState, e);
+                threadState.setStatus(Integer.MAX_VALUE);
+                failedItems.addAll(threadState.getItems());
+            }
+        }
+
+        String statusString =
+                switch (status) {
+                    case STATUS_COMMITTED -> "committed";
+                    case STATUS_ROLLED_BACK -> "rolled back";
+                    default -> "unknown";
+                };
+
+        onCompletion(statusString, successfulItems, failedItems);
+        threadConnections.clear();
+    }
+
+    /**
+     * Start new transaction or update state of existing transaction for the current worker thread
+     *
+     * @param item the item persisted by the worker thread
+     * @return state of the thread
+     */
+    public ThreadState<T> updateAndGetThreadState(T item) {
+        return threadConnections.compute(Thread.currentThread().getName(), (key, value) -> {
+            var threadState = value != null ? value : setupThreadTransaction();
+            threadState.getItems().add(item);
+            return threadState;
+        });
+    }
+
+    Map<String, ThreadState<T>> getThreadConnections() {
+        return threadConnections;
+    }
+
+    protected abstract void onCompletion(String status, Set<T> successfulItems, Set<T> failedItems);
+
+    protected abstract void onError(ThreadState<T> threadState, Exception e);
+
+    private void commit(Connection connection, ThreadState<T> threadState) throws SQLException {
+        if (threadState.isPrepared()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute(String.format("commit prepared '%s'", threadState.getTransactionId()));
+            }
+        } else {
+            connection.commit();
+        }
+    }
+
+    private void rollback(Connection connection, ThreadState<T> threadState) throws SQLException {
+        if (threadState.isPrepared()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute(String.format("rollback prepared '%s'", threadState.getTransactionId()));
+            }
+        } else {
+            connection.rollback();
+        }
+    }
+
+    /**
+     * Retries completing a prepared transaction on new connections, since a prepared transaction is no longer tied to
+     * the worker connection and would otherwise hold its locks and the xmin horizon until it's recovered. A prepared
+     * transaction that no longer exists was completed by the failed attempt.
+     *
+     * @return whether the prepared transaction was completed
+     */
+    private boolean completePrepared(ThreadState<T> threadState, boolean commit) {
+        if (!threadState.isPrepared()) {
+            return false;
+        }
+
+        var transactionId = threadState.getTransactionId();
+        var command = String.format("%s '%s'", commit ? "commit prepared" : "rollback prepared", transactionId);
+
+        for (int attempt = 1; attempt <= COMPLETE_PREPARED_ATTEMPTS; attempt++) {
+            try (var connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+
+                try (var statement = connection.prepareStatement(PREPARED_SQL)) {
+                    statement.setString(1, transactionId);
+                    try (var resultSet = statement.executeQuery()) {
+                        if (resultSet.next() && resultSet.getInt(1) == 0) {
+                            return true;
+                        }
+                    }
+                }
+
+                try (var statement = connection.createStatement()) {
+                    statement.execute(command);
+                    return true;
+                }
+            } catch (SQLException e) {
+                log.warn("Attempt {} to {} failed: {}", attempt, command, e.getMessage());
+            }
+        }
+
+        recoveryNeeded = true;
+        return false;
+    }
+
+    /**
+     * Gets the ID of the parent transaction from the connection bound to the current thread
+     */
+    @SneakyThrows
+    private long getParentTransactionId() {
+        var connection = DataSourceUtils.getConnection(dataSource);
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("select txid_current()")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @SneakyThrows
+    private ThreadState<T> setupThreadTransaction() {
+        // Clean thread from previous run
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+
+        // initialize transaction for thread
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Subsequent calls to get connection on this thread will use the same connection
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        connection.setAutoCommit(false);
+        return new ThreadState<>(connection);
+    }
+
+    @Data
+    @ToString(exclude = "connection")
+    public static class ThreadState<T> {
+        private final Connection connection;
+        private final Set<T> items = new HashSet<>();
+        private int status = -1;
+        private String transactionId;
+
+        public ThreadState(Connection connection) {
+            this.connection = connection;
+        }
+
+        public boolean isPrepared() {
+            return transactionId != null;
+        }
+    }
+}
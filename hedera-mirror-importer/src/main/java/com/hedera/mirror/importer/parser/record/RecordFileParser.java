@@ -27,19 +27,23 @@ import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.config.DateRangeCalculator;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
 import com.hedera.mirror.importer.util.Utility;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
+import com.hederahashgraph.api.proto.java.ContractID;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,7 +59,10 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
+    private final EntityIdService entityIdService;
     private final ParserContext parserContext;
+    private final RecordFilePipeline recordFilePipeline;
+    private final RecordStreamFileListener recordStreamFileListener;
 
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
@@ -63,6 +70,8 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final Timer unknownLatencyMetric;
     private final DistributionSummary unknownSizeMetric;
 
+    private RecordFile unstaged;
+
     @SuppressWarnings("java:S107")
     public RecordFileParser(
             ApplicationEventPublisher applicationEventPublisher,
@@ -72,12 +81,17 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
             DateRangeCalculator dateRangeCalculator,
-            ParserContext parserContext) {
+            EntityIdService entityIdService,
+            ParserContext parserContext,
+            RecordFilePipeline recordFilePipeline) {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
+        this.entityIdService = entityIdService;
         this.parserContext = parserContext;
+        this.recordFilePipeline = recordFilePipeline;
+        this.recordStreamFileListener = recordStreamFileListener;
 
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
@@ -123,9 +137,16 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public synchronized void parse(RecordFile recordFile) {
+        boolean success = false;
+
         try {
             super.parse(recordFile);
+            success = true;
         } finally {
+            if (!success) {
+                recordStreamFileListener.onError();
+            }
+
             parserContext.clear();
         }
     }
@@ -143,25 +164,56 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
     @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
     public synchronized void parse(List<RecordFile> recordFiles) {
+        // Only a batch of record files benefits from persisting a record file while parsing the next one
+        boolean pipelined = recordFiles != null && recordFiles.size() > 1 && recordFilePipeline.start();
+        boolean success = false;
+
         try {
             super.parse(recordFiles);
+            success = true;
         } finally {
+            unstaged = null;
+
+            if (pipelined) {
+                recordFilePipeline.stop(success);
+            }
+
+            if (!success) {
+                recordStreamFileListener.onError();
+            }
+
             parserContext.clear();
         }
     }
 
     @Override
     protected void doFlush(RecordFile streamFile) {
-        super.doFlush(streamFile);
+        unstaged = null;
+
+        // The listeners write to the database, so they must run on the pipeline connection after the staged files
+        if (recordFilePipeline.isStarted()) {
+            recordFilePipeline.execute(() -> super.doFlush(streamFile));
+        } else {
+            super.doFlush(streamFile);
+        }
+
         applicationEventPublisher.publishEvent(new RecordFileParsedEvent(this, streamFile.getConsensusEnd()));
     }
 
     @Override
     protected void doParse(RecordFile recordFile) {
+        // Persist the previous record file in the pipeline while parsing this one. The last record file of the batch is
+        // flushed by the end of the batch in the pipeline.
+        if (unstaged != null) {
+            recordFilePipeline.stage(unstaged, recordStreamFileListener::onStage);
+            unstaged = null;
+        }
+
         DateRangeFilter dateRangeFilter = dateRangeCalculator.getFilter(parserProperties.getStreamType());
         var aggregator = new RecordItemAggregator();
         var count = new AtomicLong(0L);
         boolean shouldLog = log.isDebugEnabled() || log.isTraceEnabled();
+        preloadAliases(recordFile);
 
         recordFile.getItems().forEach(recordItem -> {
             if (shouldLog) {
@@ -183,6 +235,49 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
 
         parserContext.add(recordFile);
         parserContext.addAll(recordFile.getSidecars());
+
+        if (recordFilePipeline.isStarted()) {
+            unstaged = recordFile;
+        }
+    }
+
+    /**
+     * Resolves the aliases and EVM addresses referenced by the transaction bodies of the record file in bulk instead of
+     * one query per unresolved alias when each transaction is processed. Only the transaction types that commonly
+     * reference an alias are scanned, so an alias referenced elsewhere, such as by a system delete, is still looked up
+     * individually.
+     */
+    private void preloadAliases(RecordFile recordFile) {
+        var accountIds = new ArrayList<AccountID>();
+        var contractIds = new ArrayList<ContractID>();
+
+        for (var recordItem : recordFile.getItems()) {
+            var body = recordItem.getTransactionBody();
+            switch (body.getDataCase()) {
+                case CONTRACTCALL -> contractIds.add(body.getContractCall().getContractID());
+                case CONTRACTDELETEINSTANCE -> contractIds.add(body.getContractDeleteInstance().getContractID());
+                case CONTRACTUPDATEINSTANCE -> contractIds.add(body.getContractUpdateInstance().getContractID());
+                case CRYPTOAPPROVEALLOWANCE -> {
+                    var allowances = body.getCryptoApproveAllowance();
+                    allowances.getCryptoAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                    allowances.getNftAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                    allowances.getTokenAllowancesList().forEach(a -> accountIds.add(a.getOwner()));
+                }
+                case CRYPTODELETE -> accountIds.add(body.getCryptoDelete().getTransferAccountID());
+                case CRYPTOTRANSFER -> {
+                    for (var accountAmount : body.getCryptoTransfer().getTransfers().getAccountAmountsList()) {
+                        accountIds.add(accountAmount.getAccountID());
+                    }
+                }
+                default -> {
+                    // No aliases to preload
+                }
+            }
+        }
+
+        if (!accountIds.isEmpty() || !contractIds.isEmpty()) {
+            entityIdService.preload(accountIds, contractIds);
+        }
     }
 
     private void logItem(RecordItem recordItem) {
@@ -215,6 +310,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             long offset = recordFile.getIndex() - lastRecordFile.getIndex() - 1;
 
             if (offset != 0 && streamFileRepository instanceof RecordFileRepository repository) {
+                recordFilePipeline.await();
                 var stopwatch = Stopwatch.createStarted();
                 int count = repository.updateIndex(offset);
                 log.info("Updated {} blocks with offset {} in {}", count, offset, stopwatch);
@@ -0,0 +1,273 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.batch.ParallelTxManager;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import jakarta.inject.Named;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.CustomLog;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Persists the record files of a batch on a separate thread so that the next record file can be parsed into a fresh
+ * {@link ParserContext} while the previous one is still being written to the database. The pipeline thread writes on
+ * its own connection, so no connection is ever used by both threads, in the order the writes were requested: the staged
+ * record files, then any action executed on the pipeline while the parsing thread waits, such as the end of the batch.
+ * The transaction of the pipeline connection is a worker transaction of the parser transaction managed by the
+ * {@link ParallelTxManager}, so it's prepared when the parser transaction commits and completes with the same outcome.
+ * The number of record files staged but not yet persisted is bounded by the queue capacity.
+ */
+@CustomLog
+@Named
+public class RecordFilePipeline {
+
+    static final String PIPELINE = "record_file_pipeline";
+
+    private final ExecutorService executor;
+    private final ParserContext parserContext;
+    private final RecordParserProperties parserProperties;
+    private final ParallelTxManager transactionManager;
+
+    private Session session;
+
+    public RecordFilePipeline(
+            ParserContext parserContext,
+            RecordParserProperties parserProperties,
+            ParallelTxManager transactionManager) {
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            var thread = new Thread(r, "record-file-pipeline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.parserContext = parserContext;
+        this.parserProperties = parserProperties;
+        this.transactionManager = transactionManager;
+    }
+
+    /**
+     * Waits for all staged record files to be persisted.
+     *
+     * @throws ParserException if persisting any staged record file failed
+     */
+    public void await() {
+        if (session != null) {
+            session.join(session.last);
+        }
+    }
+
+    /**
+     * Runs an action that writes to the database on the pipeline thread, on the pipeline connection, after all
+     * staged record files are persisted. The parsing thread waits for the action to complete, so the action sees the
+     * current state of the {@link ParserContext}.
+     *
+     * @param action the action to run
+     * @throws ParserException if persisting any staged record file or the action failed
+     */
+    public void execute(Runnable action) {
+        var current = checkStarted();
+        current.join(current.submit(action));
+    }
+
+    public boolean isStarted() {
+        return session != null;
+    }
+
+    /**
+     * Hands off the domain objects parsed so far to be persisted on the pipeline thread. The staged domain objects are
+     * bound to the {@link ParserContext} of the pipeline thread while they are persisted, and remain visible to lookups
+     * on the parsing thread until the context is cleared.
+     *
+     * @param recordFile the parsed record file
+     * @param persister  the action persisting the domain objects parsed from the record file
+     */
+    public void stage(RecordFile recordFile, Consumer<RecordFile> persister) {
+        var current = checkStarted();
+        if (current.last.isCompletedExceptionally()) {
+            current.join(current.last);
+        }
+
+        current.acquire();
+        var staged = parserContext.stage();
+        current.submit(() -> persist(recordFile, staged, persister)).whenComplete((v, e) -> current.permits.release());
+    }
+
+    /**
+     * Starts the pipeline if it's enabled and the current thread is in a transaction, joining the pipeline connection
+     * to the transaction of the current thread.
+     *
+     * @return whether the pipeline was started
+     */
+    public boolean start() {
+        var properties = parserProperties.getPipeline();
+        if (!properties.isEnabled() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+
+        transactionManager.initialize();
+        session = new Session(properties.getQueueCapacity());
+        return true;
+    }
+
+    /**
+     * Stops the pipeline, waiting for all of its writes to complete if the batch was parsed successfully and skipping
+     * the remaining ones otherwise. Must be called before the transaction of the parsing thread completes, which then
+     * commits or rolls back the writes of the pipeline along with its own.
+     *
+     * @param commit whether the batch was parsed successfully
+     * @throws ParserException if any write of the pipeline failed
+     */
+    public void stop(boolean commit) {
+        if (session == null) {
+            return;
+        }
+
+        var current = session;
+        session = null;
+        current.tasks.add(commit ? Task.COMMIT : Task.ROLLBACK);
+
+        try {
+            current.join(current.completion);
+        } catch (RuntimeException e) {
+            if (commit) {
+                throw e;
+            }
+
+            log.warn("Error stopping the record file pipeline: {}", e.getMessage());
+        }
+    }
+
+    private Session checkStarted() {
+        if (session == null) {
+            throw new IllegalStateException("Record file pipeline has not been started");
+        }
+
+        return session;
+    }
+
+    private void persist(RecordFile recordFile, ParserContext.Staged staged, Consumer<RecordFile> persister) {
+        try {
+            parserContext.bind(staged);
+            persister.accept(recordFile);
+            log.debug("Persisted staged record file {}", recordFile.getName());
+        } finally {
+            parserContext.unbind();
+        }
+    }
+
+    private record Task(Runnable action, CompletableFuture<Void> future) {
+
+        private static final Task COMMIT = new Task(null, null);
+        private static final Task ROLLBACK = new Task(null, null);
+    }
+
+    /**
+     * The pipeline writes of one batch. Tasks are run by the pipeline thread in the order they are submitted, and once
+     * a task fails the remaining ones fail with the same cause without running.
+     */
+    private final class Session {
+
+        private final CompletableFuture<Void> completion;
+        private final Semaphore permits;
+        private final BlockingQueue<Task> tasks = new LinkedBlockingQueue<>();
+        private Throwable failure; // Only accessed by the pipeline thread
+        private CompletableFuture<Void> last = CompletableFuture.completedFuture(null);
+
+        private Session(int queueCapacity) {
+            permits = new Semaphore(queueCapacity);
+            completion = CompletableFuture.runAsync(this::run, executor);
+        }
+
+        private void acquire() {
+            try {
+                while (!permits.tryAcquire(1, TimeUnit.SECONDS)) {
+                    // The tasks holding the permits will never complete if the pipeline has ended
+                    if (completion.isDone()) {
+                        join(completion);
+                        throw new ParserException("Record file pipeline ended unexpectedly");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ParserException(e);
+            }
+        }
+
+        private void join(CompletableFuture<?> future) {
+            try {
+                // The pipeline failing to begin or end also fails any task waiting for it
+                CompletableFuture.anyOf(future, completion).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : new ParserException(e.getCause());
+            }
+        }
+
+        private void run() {
+            // Binds a connection to the pipeline thread that's completed when the parser transaction completes
+            transactionManager.updateAndGetThreadState(PIPELINE);
+
+            try {
+                for (var task = tasks.take(); task != Task.COMMIT; task = tasks.take()) {
+                    if (task == Task.ROLLBACK) {
+                        return;
+                    }
+
+                    execute(task);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ParserException(e);
+            }
+
+            if (failure != null) {
+                throw new ParserException("Unable to persist the record file pipeline batch", failure);
+            }
+        }
+
+        private void execute(Task task) {
+            if (failure != null) {
+                task.future().completeExceptionally(failure);
+                return;
+            }
+
+            try {
+                task.action().run();
+                task.future().complete(null);
+            } catch (Exception e) {
+                failure = e;
+                task.future().completeExceptionally(e);
+            }
+        }
+
+        private CompletableFuture<Void> submit(Runnable action) {
+            var task = new Task(action, new CompletableFuture<>());
+            tasks.add(task);
+            last = task.future();
+            return task.future();
+        }
+    }
+}
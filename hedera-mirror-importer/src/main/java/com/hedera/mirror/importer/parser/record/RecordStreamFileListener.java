@@ -18,5 +18,27 @@ package com.hedera.mirror.importer.parser.record;
 
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.StreamFileListener;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 
-public interface RecordStreamFileListener extends StreamFileListener<RecordFile> {}
+/**
+ * Listens to the end of parsing record files. When a batch of record files is pipelined by {@link RecordFilePipeline},
+ * {@link #onStage(RecordFile)} is called on the pipeline thread for every record file but the last, in parse order,
+ * with the domain objects parsed from it bound to the {@link ParserContext}. {@link #onEnd} is still called once for
+ * the batch, but on the pipeline thread within the pipeline transaction while the parsing thread waits, and
+ * {@link ParserContext#get(Class)} then returns the domain objects of the entire batch.
+ */
+public interface RecordStreamFileListener extends StreamFileListener<RecordFile> {
+
+    /**
+     * Persists the domain objects parsed from a record file staged by the pipeline.
+     *
+     * @param recordFile the staged record file
+     */
+    default void onStage(RecordFile recordFile) {}
+
+    /**
+     * Discards any state accumulated while parsing when the parse fails, before it's rolled back and retried. Called on
+     * the parsing thread.
+     */
+    default void onError() {}
+}
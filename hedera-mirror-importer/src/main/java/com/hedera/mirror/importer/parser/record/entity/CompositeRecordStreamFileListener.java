@@ -37,4 +37,18 @@ public class CompositeRecordStreamFileListener implements RecordStreamFileListen
             listeners.get(i).onEnd(streamFile);
         }
     }
+
+    @Override
+    public void onError() {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onError();
+        }
+    }
+
+    @Override
+    public void onStage(RecordFile recordFile) {
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onStage(recordFile);
+        }
+    }
 }
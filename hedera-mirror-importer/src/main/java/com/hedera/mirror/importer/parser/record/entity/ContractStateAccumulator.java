@@ -0,0 +1,191 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import com.hedera.mirror.common.domain.contract.ContractState;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Accumulates the contract storage slots written within a batch in columns, deduplicated by contract id and slot. The
+ * 32 byte slot is kept as four primitive longs so neither a key object nor a padded copy of the slot is allocated per
+ * state change, and a {@link ContractState} is only created per distinct slot when the batch is persisted.
+ */
+final class ContractStateAccumulator {
+
+    static final int SLOT_BYTE_LENGTH = 32;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int SLOT_LONGS = SLOT_BYTE_LENGTH / Long.BYTES;
+
+    private long[] contractIds;
+    private long[] createdTimestamps;
+    private int mask;
+    private long[] modifiedTimestamps;
+    private int size;
+    private long[] slots;
+    private int[] table; // The row of each key plus one or zero if empty
+    private byte[][] values;
+
+    ContractStateAccumulator() {
+        allocateRows(INITIAL_CAPACITY);
+        allocateTable(INITIAL_CAPACITY * 2);
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(table, 0);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+    }
+
+    void forEach(Consumer<ContractState> consumer) {
+        for (int row = 0; row < size; row++) {
+            var contractState = new ContractState();
+            contractState.setContractId(contractIds[row]);
+            contractState.setCreatedTimestamp(createdTimestamps[row]);
+            contractState.setModifiedTimestamp(modifiedTimestamps[row]);
+            contractState.setSlot(getSlot(row));
+            contractState.setValue(values[row]);
+            consumer.accept(contractState);
+        }
+    }
+
+    /**
+     * Sets the value of the slot, keeping the timestamp it was first written at as the created timestamp.
+     *
+     * @param contractId the contract id
+     * @param slot       the big-endian slot with or without its leading zeros
+     * @param value      the value of the slot
+     * @param timestamp  the consensus timestamp the value was written at
+     * @return false if the slot is longer than 32 bytes and can't be accumulated
+     */
+    boolean merge(long contractId, byte[] slot, byte[] value, long timestamp) {
+        if (slot == null || slot.length > SLOT_BYTE_LENGTH) {
+            return false;
+        }
+
+        long slot0 = word(slot, 0);
+        long slot1 = word(slot, 1);
+        long slot2 = word(slot, 2);
+        long slot3 = word(slot, 3);
+        int index = hash(contractId, slot0, slot1, slot2, slot3) & mask;
+
+        for (int entry = table[index]; entry != 0; entry = table[index]) {
+            int row = entry - 1;
+            int offset = row * SLOT_LONGS;
+            if (contractIds[row] == contractId
+                    && slots[offset] == slot0
+                    && slots[offset + 1] == slot1
+                    && slots[offset + 2] == slot2
+                    && slots[offset + 3] == slot3) {
+                modifiedTimestamps[row] = timestamp;
+                values[row] = value;
+                return true;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        if (size == contractIds.length) {
+            allocateRows(size * 2);
+        }
+
+        int row = size++;
+        int offset = row * SLOT_LONGS;
+        contractIds[row] = contractId;
+        createdTimestamps[row] = timestamp;
+        modifiedTimestamps[row] = timestamp;
+        slots[offset] = slot0;
+        slots[offset + 1] = slot1;
+        slots[offset + 2] = slot2;
+        slots[offset + 3] = slot3;
+        values[row] = value;
+        table[index] = row + 1;
+
+        if (size * 2 > table.length) {
+            allocateTable(table.length * 2);
+        }
+
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void allocateRows(int capacity) {
+        contractIds = contractIds == null ? new long[capacity] : Arrays.copyOf(contractIds, capacity);
+        createdTimestamps = createdTimestamps == null ? new long[capacity] : Arrays.copyOf(createdTimestamps, capacity);
+        modifiedTimestamps =
+                modifiedTimestamps == null ? new long[capacity] : Arrays.copyOf(modifiedTimestamps, capacity);
+        slots = slots == null ? new long[capacity * SLOT_LONGS] : Arrays.copyOf(slots, capacity * SLOT_LONGS);
+        values = values == null ? new byte[capacity][] : Arrays.copyOf(values, capacity);
+    }
+
+    private void allocateTable(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+
+        for (int row = 0; row < size; row++) {
+            int offset = row * SLOT_LONGS;
+            int hash = hash(contractIds[row], slots[offset], slots[offset + 1], slots[offset + 2], slots[offset + 3]);
+            int index = hash & mask;
+
+            while (table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+
+            table[index] = row + 1;
+        }
+    }
+
+    private byte[] getSlot(int row) {
+        var slot = new byte[SLOT_BYTE_LENGTH];
+        for (int i = 0; i < SLOT_BYTE_LENGTH; i++) {
+            long word = slots[row * SLOT_LONGS + i / Long.BYTES];
+            slot[i] = (byte) (word >>> (Long.BYTES - 1 - i % Long.BYTES) * Byte.SIZE);
+        }
+        return slot;
+    }
+
+    private static int hash(long contractId, long slot0, long slot1, long slot2, long slot3) {
+        long hash = contractId;
+        hash = (hash * 0x9E3779B97F4A7C15L) + slot0;
+        hash = (hash * 0x9E3779B97F4A7C15L) + slot1;
+        hash = (hash * 0x9E3779B97F4A7C15L) + slot2;
+        hash = (hash * 0x9E3779B97F4A7C15L) + slot3;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * Gets the nth big-endian long of the slot as if it was left padded with zeros to 32 bytes.
+     */
+    private static long word(byte[] slot, int n) {
+        int padding = SLOT_BYTE_LENGTH - slot.length;
+        long word = 0L;
+
+        for (int i = n * Long.BYTES; i < (n + 1) * Long.BYTES; i++) {
+            int b = i < padding ? 0 : slot[i - padding] & 0xFF;
+            word = (word << Byte.SIZE) | b;
+        }
+
+        return word;
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+
+/**
+ * An open addressing hash map with linear probing that is keyed by either one or two primitive longs. Unlike a
+ * {@link java.util.HashMap}, it neither boxes the key nor allocates an entry object per mapping, and its arrays are
+ * retained when cleared.
+ *
+ * @param <V> the type of the values
+ */
+final class LongKeyMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int width;
+    private long[] keys;
+    private int mask;
+    private int size;
+    private Object[] values;
+
+    /**
+     * @param width the number of longs in each key, either 1 or 2
+     */
+    LongKeyMap(int width) {
+        if (width != 1 && width != 2) {
+            throw new IllegalArgumentException("Unsupported key width " + width);
+        }
+
+        this.width = width;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key1, long key2) {
+        return (V) values[indexOf(key1, key2)];
+    }
+
+    /**
+     * Behaves like {@link java.util.Map#merge(Object, Object, java.util.function.BiFunction)}.
+     *
+     * @param key1          the first part of the key
+     * @param key2          the second part of the key, ignored if the width is 1
+     * @param value         the value to associate with the key if absent
+     * @param mergeFunction the function to merge the existing value with the new value
+     * @return the new value associated with the key, or null if none
+     */
+    @SuppressWarnings("unchecked")
+    V merge(long key1, long key2, V value, BinaryOperator<V> mergeFunction) {
+        int index = indexOf(key1, key2);
+        var current = (V) values[index];
+
+        if (current == null) {
+            int offset = index * width;
+            keys[offset] = key1;
+            if (width == 2) {
+                keys[offset + 1] = key2;
+            }
+
+            values[index] = value;
+            if (++size * 2 > values.length) {
+                resize();
+            }
+
+            return value;
+        }
+
+        var merged = mergeFunction.apply(current, value);
+        if (merged == null) {
+            delete(index);
+        } else {
+            values[index] = merged;
+        }
+
+        return merged;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * width];
+        mask = capacity - 1;
+        values = new Object[capacity];
+    }
+
+    /**
+     * Removes the value at the index and shifts back the values after it in the same cluster that would otherwise no
+     * longer be reachable from their home index.
+     */
+    private void delete(int index) {
+        int gap = index;
+        values[gap] = null;
+        size--;
+
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int offset = next * width;
+            int home = hash(keys[offset], width == 2 ? keys[offset + 1] : 0L) & mask;
+
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                System.arraycopy(keys, offset, keys, gap * width, width);
+                values[gap] = values[next];
+                values[next] = null;
+                gap = next;
+            }
+
+            next = (next + 1) & mask;
+        }
+    }
+
+    private static int hash(long key1, long key2) {
+        long hash = (key1 * 0x9E3779B97F4A7C15L + key2) * 0xC2B2AE3D27D4EB4FL;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private int indexOf(long key1, long key2) {
+        long second = width == 2 ? key2 : 0L;
+        int index = hash(key1, second) & mask;
+
+        while (values[index] != null) {
+            int offset = index * width;
+            if (keys[offset] == key1 && (width == 1 || keys[offset + 1] == second)) {
+                break;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        return index;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(oldValues.length * 2);
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int offset = i * width;
+                long key1 = oldKeys[offset];
+                long key2 = width == 2 ? oldKeys[offset + 1] : 0L;
+                int index = indexOf(key1, key2);
+                System.arraycopy(oldKeys, offset, keys, index * width, width);
+                values[index] = oldValues[i];
+            }
+        }
+    }
+}
@@ -16,26 +16,39 @@
 
 package com.hedera.mirror.importer.parser.record.entity;
 
+import com.hedera.mirror.common.domain.contract.ContractState;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.NonNull;
 
 /**
- * Stores the domain objects parsed from the stream files before persisting to the database.
+ * Stores the domain objects parsed from the stream files before persisting to the database. Domain objects keyed by a
+ * single id or a pair of ids should use the primitive overloads of {@link #get(Class, long)} and
+ * {@link #merge(long, long, Object, BinaryOperator)}, which avoid allocating key and entry objects. Boxed {@link Long}
+ * keys are stored the same way as primitive ones. Contract storage slots have their own columnar state via
+ * {@link #mergeContractState(long, byte[], byte[], long)}.
+ * <p>
+ * When record files are pipelined, the state staged for persisting remains visible to the lookups of the parsing thread
+ * until the context is cleared at the end of the batch, while new domain objects are added and merged to a fresh state.
  */
 @Named
 public class ParserContext {
 
-    private final Map<Class<?>, DomainContext<?>> state = new ConcurrentSkipListMap<>(new DomainClassComparator());
+    private final ThreadLocal<Map<Class<?>, DomainContext<?>>> bound = new ThreadLocal<>();
+    private final Deque<Map<Class<?>, DomainContext<?>>> staged = new ConcurrentLinkedDeque<>(); // Newest first
+    private Map<Class<?>, DomainContext<?>> state = newState();
 
     public <T> void add(@NonNull T object) {
         var domainContext = getDomainContext(object);
@@ -50,25 +63,78 @@ public class ParserContext {
         }
     }
 
+    /**
+     * Binds previously staged domain objects to the current thread so that they can be persisted while the parsing
+     * thread continues with a fresh state. Must be followed by {@link #unbind()}.
+     *
+     * @param staged the domain objects returned by {@link #stage()}
+     */
+    public void bind(@NonNull Staged staged) {
+        bound.set(staged.state);
+    }
+
     public void clear() {
-        state.clear();
+        if (bound.get() == null) {
+            staged.clear();
+        }
+
+        state().clear();
     }
 
     public void forEach(@NonNull Consumer<Collection<?>> sink) {
-        state.forEach((c, v) -> sink.accept(v.getInserts()));
+        state().forEach((c, v) -> sink.accept(v.getItems()));
     }
 
     public <T> T get(@NonNull Class<T> domainClass, @NonNull Object key) {
-        var domainContext = getDomainContext(domainClass);
-        return domainContext.getState().get(key);
+        if (key instanceof Long id) {
+            return get(domainClass, id.longValue());
+        }
+
+        var value = getDomainContext(domainClass).getState().get(key);
+        return value != null ? value : getStaged(domainClass, d -> d.getState().get(key));
+    }
+
+    public <T> T get(@NonNull Class<T> domainClass, long key) {
+        var value = getDomainContext(domainClass).getLongState().get(key, 0L);
+        return value != null ? value : getStaged(domainClass, d -> d.getLongState().get(key, 0L));
     }
 
+    public <T> T get(@NonNull Class<T> domainClass, long key1, long key2) {
+        var value = getDomainContext(domainClass).getPairState().get(key1, key2);
+        return value != null ? value : getStaged(domainClass, d -> d.getPairState().get(key1, key2));
+    }
+
+    /**
+     * Gets the domain objects of the given class. Unless a staged state is bound to the current thread, this includes
+     * the domain objects staged earlier in the batch, in the order they were added.
+     *
+     * @param domainClass the domain class
+     * @return the domain objects
+     */
+    @SuppressWarnings("unchecked")
     public <T> Collection<T> get(@NonNull Class<T> domainClass) {
-        var domainContext = getDomainContext(domainClass);
-        return Collections.unmodifiableList(domainContext.getInserts());
+        var items = getDomainContext(domainClass).getItems();
+        if (staged.isEmpty() || bound.get() != null) {
+            return Collections.unmodifiableList(items);
+        }
+
+        var all = new ArrayList<T>();
+        staged.descendingIterator().forEachRemaining(s -> {
+            var domainContext = (DomainContext<T>) s.get(domainClass);
+            if (domainContext != null) {
+                all.addAll(domainContext.getItems());
+            }
+        });
+        all.addAll(items);
+        return Collections.unmodifiableList(all);
     }
 
     public <T> void merge(@NonNull Object key, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
+        if (key instanceof Long id) {
+            merge(id.longValue(), value, mergeFunction);
+            return;
+        }
+
         var domainContext = getDomainContext(value);
         var merged = domainContext.getState().merge(key, value, mergeFunction);
 
@@ -77,9 +143,82 @@ public class ParserContext {
         }
     }
 
-    public void remove(@NonNull Class<?> domainClass) {
+    /**
+     * Merges the value written to a contract's storage slot with the previous value of the slot in this batch. The
+     * created timestamp of the slot is the timestamp of its first write and the modified timestamp that of its last.
+     *
+     * @param contractId the contract id
+     * @param slot       the slot with or without its leading zeros
+     * @param value      the value written to the slot
+     * @param timestamp  the consensus timestamp of the write
+     */
+    public void mergeContractState(long contractId, byte[] slot, byte[] value, long timestamp) {
+        var domainContext = getDomainContext(ContractState.class);
+        if (domainContext.getContractStates().merge(contractId, slot, value, timestamp)) {
+            return;
+        }
+
+        // Fall back to the generic state for slots too long to accumulate
+        var contractState = new ContractState();
+        contractState.setContractId(contractId);
+        contractState.setCreatedTimestamp(timestamp);
+        contractState.setModifiedTimestamp(timestamp);
+        contractState.setSlot(slot);
+        contractState.setValue(value);
+        merge(contractState.getId(), contractState, (previous, current) -> {
+            previous.setModifiedTimestamp(current.getModifiedTimestamp());
+            previous.setValue(current.getValue());
+            return previous;
+        });
+    }
+
+    public <T> void merge(long key, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
+        var domainContext = getDomainContext(value);
+        var merged = domainContext.getLongState().merge(key, 0L, value, mergeFunction);
+
+        if (merged == value) {
+            domainContext.getInserts().add(value);
+        }
+    }
+
+    public <T> void merge(long key1, long key2, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
+        var domainContext = getDomainContext(value);
+        var merged = domainContext.getPairState().merge(key1, key2, value, mergeFunction);
+
+        if (merged == value) {
+            domainContext.getInserts().add(value);
+        }
+    }
+
+    /**
+     * Removes the domain objects of the given class from the current state. Domain objects staged earlier in the batch
+     * are not affected.
+     *
+     * @param domainClass the domain class
+     * @return the removed domain objects
+     */
+    public <T> Collection<T> remove(@NonNull Class<T> domainClass) {
         var domainContext = getDomainContext(domainClass);
+        var removed = new ArrayList<>(domainContext.getItems());
         domainContext.clear();
+        return removed;
+    }
+
+    /**
+     * Hands off the domain objects parsed so far and starts over with a fresh state. The staged domain objects can
+     * still be looked up until the context is cleared.
+     *
+     * @return the staged domain objects
+     */
+    public Staged stage() {
+        var current = state;
+        staged.addFirst(current);
+        state = newState();
+        return new Staged(current);
+    }
+
+    public void unbind() {
+        bound.remove();
     }
 
     @SuppressWarnings("unchecked")
@@ -90,7 +229,47 @@ public class ParserContext {
 
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(Class<T> domainClass) {
-        return (DomainContext<T>) state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+        return (DomainContext<T>) state().computeIfAbsent(domainClass, c -> new DomainContext<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getStaged(Class<T> domainClass, Function<DomainContext<T>, T> getter) {
+        if (staged.isEmpty() || bound.get() != null) {
+            return null;
+        }
+
+        for (var stagedState : staged) {
+            var domainContext = (DomainContext<T>) stagedState.get(domainClass);
+            if (domainContext != null) {
+                var value = getter.apply(domainContext);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private Map<Class<?>, DomainContext<?>> newState() {
+        return new ConcurrentSkipListMap<>(new DomainClassComparator());
+    }
+
+    private Map<Class<?>, DomainContext<?>> state() {
+        var current = bound.get();
+        return current != null ? current : state;
+    }
+
+    /**
+     * The domain objects of one or more stream files that are waiting to be persisted.
+     */
+    public static final class Staged {
+
+        private final Map<Class<?>, DomainContext<?>> state;
+
+        private Staged(Map<Class<?>, DomainContext<?>> state) {
+            this.state = state;
+        }
     }
 
     private class DomainContext<T> {
@@ -98,12 +277,46 @@ public class ParserContext {
         @Getter
         private final List<T> inserts = new ArrayList<>();
 
+        @Getter(lazy = true)
+        private final LongKeyMap<T> longState = new LongKeyMap<>(1);
+
+        @Getter(lazy = true)
+        private final LongKeyMap<T> pairState = new LongKeyMap<>(2);
+
         @Getter(lazy = true)
         private final Map<Object, T> state = new HashMap<>();
 
+        private ContractStateAccumulator contractStates;
+
         void clear() {
+            if (contractStates != null) {
+                contractStates.clear();
+            }
+
             getInserts().clear();
+            getLongState().clear();
+            getPairState().clear();
             getState().clear();
         }
+
+        ContractStateAccumulator getContractStates() {
+            if (contractStates == null) {
+                contractStates = new ContractStateAccumulator();
+            }
+
+            return contractStates;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> getItems() {
+            if (contractStates == null || contractStates.size() == 0) {
+                return inserts;
+            }
+
+            var items = new ArrayList<T>(inserts.size() + contractStates.size());
+            items.addAll(inserts);
+            contractStates.forEach(contractState -> items.add((T) contractState));
+            return items;
+        }
     }
 }
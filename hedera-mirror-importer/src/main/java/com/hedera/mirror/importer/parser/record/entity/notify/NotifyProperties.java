@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherProperties;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -28,5 +29,13 @@ public class NotifyProperties implements BatchPublisherProperties {
 
     private boolean enabled = false;
 
+    @NotNull
+    private NotifyFormat format = NotifyFormat.MESSAGE;
+
     private int maxJsonPayloadSize = 8000;
+
+    public enum NotifyFormat {
+        MESSAGE, // A notification per topic message with the message as the payload
+        RANGE // A notification per record file with the consensus timestamp range and topic IDs of its messages
+    }
 }
@@ -19,7 +19,9 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageRange;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
@@ -28,7 +30,10 @@ import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
 import lombok.CustomLog;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -70,35 +75,87 @@ public class NotifyingPublisher implements BatchPublisher {
         }
 
         var stopwatch = Stopwatch.createStarted();
-        timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages)));
-        log.info("Finished notifying {} messages in {}", topicMessages.size(), stopwatch);
+        var payloads = getPayloads(topicMessages);
+        timer.record(() -> jdbcTemplate.execute(SQL, callback(payloads)));
+        log.info(
+                "Finished notifying {} messages with {} notifications in {}",
+                topicMessages.size(),
+                payloads.size(),
+                stopwatch);
     }
 
-    private PreparedStatementCallback<int[]> callback(Collection<TopicMessage> topicMessages) {
-        return preparedStatement -> {
-            for (TopicMessage topicMessage : topicMessages) {
-                String json = toJson(topicMessage);
-                if (json != null) {
-                    preparedStatement.setString(1, json);
-                    preparedStatement.addBatch();
+    List<String> getPayloads(Collection<TopicMessage> topicMessages) {
+        var payloads = new ArrayList<String>();
+
+        switch (notifyProperties.getFormat()) {
+            case MESSAGE -> {
+                for (var topicMessage : topicMessages) {
+                    var json = toJson(topicMessage);
+                    if (json != null) {
+                        payloads.add(json);
+                    }
                 }
             }
+            case RANGE -> {
+                long consensusEnd = Long.MIN_VALUE;
+                long consensusStart = Long.MAX_VALUE;
+                var topicIds = new TreeSet<Long>();
+
+                for (var topicMessage : topicMessages) {
+                    consensusEnd = Math.max(consensusEnd, topicMessage.getConsensusTimestamp());
+                    consensusStart = Math.min(consensusStart, topicMessage.getConsensusTimestamp());
+                    topicIds.add(topicMessage.getTopicId().getId());
+                }
+
+                addRanges(consensusStart, consensusEnd, List.copyOf(topicIds), payloads);
+            }
+        }
+
+        return payloads;
+    }
+
+    // Splits the topic IDs across several notifications if they don't fit within the payload size of one
+    private void addRanges(long consensusStart, long consensusEnd, List<Long> topicIds, List<String> payloads) {
+        var range = TopicMessageRange.builder()
+                .consensusEnd(consensusEnd)
+                .consensusStart(consensusStart)
+                .topicIds(topicIds)
+                .build();
+        var json = toJson(range);
+
+        if (json != null) {
+            payloads.add(json);
+        } else if (topicIds.size() > 1) {
+            int middle = topicIds.size() / 2;
+            addRanges(consensusStart, consensusEnd, topicIds.subList(0, middle), payloads);
+            addRanges(consensusStart, consensusEnd, topicIds.subList(middle, topicIds.size()), payloads);
+        }
+    }
+
+    private PreparedStatementCallback<int[]> callback(Collection<String> payloads) {
+        return preparedStatement -> {
+            for (String payload : payloads) {
+                preparedStatement.setString(1, payload);
+                preparedStatement.addBatch();
+            }
             return preparedStatement.executeBatch();
         };
     }
 
-    private String toJson(TopicMessage topicMessage) {
+    private String toJson(StreamMessage streamMessage) {
         try {
-            String json = OBJECT_MAPPER.writeValueAsString(topicMessage);
+            String json = OBJECT_MAPPER.writeValueAsString(streamMessage);
 
             if (json.length() >= notifyProperties.getMaxJsonPayloadSize()) {
-                log.warn("Unable to notify large payload of size {}B: {}", json.length(), topicMessage);
+                if (streamMessage instanceof TopicMessage) {
+                    log.warn("Unable to notify large payload of size {}B: {}", json.length(), streamMessage);
+                }
                 return null;
             }
 
             return json;
         } catch (Exception e) {
-            Utility.handleRecoverableError("Error serializing topicMessage to json", topicMessage, e);
+            Utility.handleRecoverableError("Error serializing stream message to json", streamMessage, e);
             return null;
         }
     }
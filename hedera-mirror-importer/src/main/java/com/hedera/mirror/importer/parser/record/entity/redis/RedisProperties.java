@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record.entity.redis;
 
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherProperties;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -29,6 +30,10 @@ public class RedisProperties implements BatchPublisherProperties {
 
     private boolean enabled = true;
 
+    @Max(64)
+    @Min(1)
+    private int parallelism = 1;
+
     @Min(1)
     private int queueCapacity = 8;
 }
@@ -22,23 +22,36 @@ import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
 import lombok.SneakyThrows;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
+/**
+ * Publishes topic messages to Redis asynchronously. Messages are sharded by topic ID across a configurable number of
+ * lanes, each with its own queue and publishing thread, so that the messages of a topic are always published in order
+ * while different topics are published concurrently. Each message is serialized once up front and the raw bytes are
+ * sent in a single pipeline per lane and record file.
+ */
 @ConditionOnEntityRecordParser
 @CustomLog
 @Named
@@ -47,35 +60,61 @@ public class RedisPublisher implements BatchPublisher {
 
     private static final String TOPIC_FORMAT = "topic.%d";
 
-    private final LoadingCache<Long, String> channelNames;
+    private final LoadingCache<Long, byte[]> channelNames;
+    private final Timer latencyTimer;
+    private final List<BlockingQueue<Collection<TopicMessage>>> lanes;
     private final ParserContext parserContext;
     private final RedisProperties redisProperties;
     private final RedisOperations<String, StreamMessage> redisOperations;
+    private final RedisSerializer<StreamMessage> redisSerializer;
     private final Timer timer;
-    private final BlockingQueue<Collection<TopicMessage>> topicMessagesQueue;
 
     RedisPublisher(
             RedisProperties redisProperties,
             RedisOperations<String, StreamMessage> redisOperations,
+            RedisSerializer<StreamMessage> redisSerializer,
             MeterRegistry meterRegistry,
             ParserContext parserContext) {
         this.channelNames = Caffeine.newBuilder().maximumSize(1000L).build(this::getChannelName);
+        this.latencyTimer = Timer.builder("hedera.mirror.importer.publish.latency")
+                .description("The difference in time between the consensus time of the last message in a batch and "
+                        + "when it was published")
+                .tag("type", "redis")
+                .register(meterRegistry);
         this.parserContext = parserContext;
         this.redisOperations = redisOperations;
         this.redisProperties = redisProperties;
+        this.redisSerializer = redisSerializer;
         this.timer = PUBLISH_TIMER.tag("type", "redis").register(meterRegistry);
-        this.topicMessagesQueue = new ArrayBlockingQueue<>(redisProperties.getQueueCapacity());
 
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
-                while (true) {
-                    publish(topicMessagesQueue.take());
+        int parallelism = redisProperties.getParallelism();
+        var queues = new ArrayList<BlockingQueue<Collection<TopicMessage>>>(parallelism);
+        ExecutorService executor = Executors.newFixedThreadPool(
+                parallelism, Thread.ofPlatform().name("redis-publisher-", 0).factory());
+
+        for (int i = 0; i < parallelism; i++) {
+            BlockingQueue<Collection<TopicMessage>> queue =
+                    new ArrayBlockingQueue<>(redisProperties.getQueueCapacity());
+            queues.add(queue);
+
+            Gauge.builder("hedera.mirror.importer.publish.queue", queue, BlockingQueue::size)
+                    .description("The number of batches of messages waiting to be published")
+                    .tag("lane", String.valueOf(i))
+                    .tag("type", "redis")
+                    .register(meterRegistry);
+
+            executor.execute(() -> {
+                try {
+                    while (true) {
+                        publish(queue.take());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
                 }
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-        });
+            });
+        }
+
+        this.lanes = List.copyOf(queues);
     }
 
     @Override
@@ -86,38 +125,85 @@ public class RedisPublisher implements BatchPublisher {
         }
 
         var topicMessages = parserContext.get(TopicMessage.class);
+        if (topicMessages.isEmpty()) {
+            return;
+        }
+
+        if (lanes.size() == 1) {
+            enqueue(0, topicMessages);
+            return;
+        }
+
+        var shards = new ArrayList<List<TopicMessage>>(lanes.size());
+        for (int i = 0; i < lanes.size(); i++) {
+            shards.add(new ArrayList<>());
+        }
+
+        for (var topicMessage : topicMessages) {
+            shards.get(getLane(topicMessage)).add(topicMessage);
+        }
+
+        for (int i = 0; i < shards.size(); i++) {
+            if (!shards.get(i).isEmpty()) {
+                enqueue(i, shards.get(i));
+            }
+        }
+    }
 
-        if (!topicMessages.isEmpty() && !topicMessagesQueue.offer(topicMessages)) {
-            log.warn("topicMessagesQueue is full, will block until space is available");
-            topicMessagesQueue.put(topicMessages);
+    private void enqueue(int lane, Collection<TopicMessage> topicMessages) throws InterruptedException {
+        var queue = lanes.get(lane);
+        if (!queue.offer(topicMessages)) {
+            log.warn("Queue of lane {} is full, will block until space is available", lane);
+            queue.put(topicMessages);
         }
     }
 
-    private void publish(Collection<TopicMessage> messages) {
+    private int getLane(TopicMessage topicMessage) {
+        return Math.floorMod(topicMessage.getTopicId().getId(), lanes.size());
+    }
+
+    private void publish(Collection<TopicMessage> topicMessages) {
         try {
-            Stopwatch stopwatch = Stopwatch.createStarted();
+            var stopwatch = Stopwatch.createStarted();
+            var messages = serialize(topicMessages);
             timer.record(() -> redisOperations.executePipelined(callback(messages)));
+
+            long consensusTimestamp = 0L;
+            for (var topicMessage : topicMessages) {
+                consensusTimestamp = Math.max(consensusTimestamp, topicMessage.getConsensusTimestamp());
+            }
+
+            long latency = DomainUtils.now() - consensusTimestamp;
+            latencyTimer.record(latency, TimeUnit.NANOSECONDS);
             log.info("Finished notifying {} messages in {}", messages.size(), stopwatch);
         } catch (Exception e) {
             log.error("Unable to publish to redis", e);
         }
     }
 
+    // Serialize outside the pipeline so the connection is only used to send the raw bytes
+    private List<Message> serialize(Collection<TopicMessage> topicMessages) {
+        var messages = new ArrayList<Message>(topicMessages.size());
+        for (var topicMessage : topicMessages) {
+            var channel = channelNames.get(topicMessage.getTopicId().getId());
+            messages.add(new Message(channel, redisSerializer.serialize(topicMessage)));
+        }
+        return messages;
+    }
+
     // Batch send using Redis pipelining
-    private SessionCallback<Object> callback(Collection<TopicMessage> messages) {
-        return new SessionCallback<>() {
-            @Override
-            public <K, V> Object execute(RedisOperations<K, V> operations) {
-                for (TopicMessage topicMessage : messages) {
-                    String channel = channelNames.get(topicMessage.getTopicId().getId());
-                    redisOperations.convertAndSend(channel, topicMessage);
-                }
-                return null;
+    private RedisCallback<Object> callback(List<Message> messages) {
+        return connection -> {
+            for (var message : messages) {
+                connection.publish(message.channel(), message.body());
             }
+            return null;
         };
     }
 
-    private String getChannelName(Long id) {
-        return String.format(TOPIC_FORMAT, id);
+    private byte[] getChannelName(Long id) {
+        return String.format(TOPIC_FORMAT, id).getBytes(StandardCharsets.UTF_8);
     }
+
+    private record Message(byte[] channel, byte[] body) {}
 }
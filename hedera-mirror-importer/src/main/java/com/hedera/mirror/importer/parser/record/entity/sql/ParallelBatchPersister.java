@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.Upsertable;
+import com.hedera.mirror.common.domain.token.DissociateTokenTransfer;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.common.domain.transaction.TransactionHash;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.batch.ParallelTxManager;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import com.hedera.mirror.importer.util.Utility;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.CustomLog;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists the domain objects of a record file by copying independent, insert-only tables concurrently on separate
+ * connections while the remaining tables are persisted in order on the parser transaction's connection. Upsertable
+ * tables and tables that the upsert queries depend upon are always persisted on the parser connection to avoid lock
+ * conflicts between the connections.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+public class ParallelBatchPersister {
+
+    static final String LATENCY_METRIC = "hedera.mirror.importer.batch.parallel.latency";
+
+    // DissociateTokenTransfer upsert query reads and updates these tables, so they must be visible to its connection
+    private static final Set<Class<?>> DISSOCIATE_DEPENDENCIES = Set.of(Transaction.class, TokenTransfer.class);
+
+    // TransactionHash manages its own sharded connections tied to the parser transaction
+    private static final Set<Class<?>> SERIAL = Set.of(TransactionHash.class);
+
+    private final BatchPersister batchPersister;
+    private final Map<Class<?>, Timer> latencyMetrics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Scheduler scheduler;
+    private final SqlProperties sqlProperties;
+    private final ParallelTxManager transactionManager;
+
+    public ParallelBatchPersister(
+            BatchPersister batchPersister,
+            MeterRegistry meterRegistry,
+            SqlProperties sqlProperties,
+            ParallelTxManager transactionManager) {
+        this.batchPersister = batchPersister;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Schedulers.newParallel("parallel-flush", sqlProperties.getParallelism());
+        this.sqlProperties = sqlProperties;
+        this.transactionManager = transactionManager;
+    }
+
+    public void persist(List<Collection<?>> batches) {
+        boolean dissociate = batches.stream().anyMatch(b -> getDomainClass(b) == DissociateTokenTransfer.class);
+        var parallel = new ArrayList<Collection<?>>();
+        var serial = new ArrayList<Collection<?>>();
+
+        for (var batch : batches) {
+            var domainClass = getDomainClass(batch);
+            if (domainClass == null) {
+                continue;
+            }
+
+            if (isIndependent(domainClass, dissociate)) {
+                parallel.add(batch);
+            } else {
+                serial.add(batch);
+            }
+        }
+
+        if (parallel.size() < 2 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            batches.forEach(batchPersister::persist);
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        transactionManager.initialize();
+        var result = Mono.whenDelayError(parallel.stream()
+                        .map(batch -> persistAsync(batch, stopwatch))
+                        .toList())
+                .toFuture();
+
+        try {
+            serial.forEach(batchPersister::persist);
+        } catch (RuntimeException e) {
+            // Wait for the workers so the connections are idle before the parent transaction rolls them back
+            result.exceptionally(t -> null).join();
+            throw e;
+        }
+
+        try {
+            result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ParserException parserException) {
+                throw parserException;
+            }
+
+            throw new ParserException(e.getCause());
+        }
+
+        log.info(
+                "Completed parallel flush of {} tables and serial flush of {} tables in {}",
+                parallel.size(),
+                serial.size(),
+                stopwatch);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private Mono<Void> persistAsync(Collection<?> batch, Stopwatch stopwatch) {
+        return Mono.<Void>fromRunnable(() -> {
+                    var domainClass = getDomainClass(batch);
+                    transactionManager.updateAndGetThreadState(Utility.toSnakeCase(domainClass.getSimpleName()));
+                    batchPersister.persist(batch);
+                    getLatencyMetric(domainClass).record(stopwatch.elapsed());
+                })
+                .subscribeOn(scheduler);
+    }
+
+    private Class<?> getDomainClass(Collection<?> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return null;
+        }
+
+        var item = batch.iterator().next();
+        return item != null ? item.getClass() : null;
+    }
+
+    private Timer getLatencyMetric(Class<?> domainClass) {
+        return latencyMetrics.computeIfAbsent(domainClass, c -> Timer.builder(LATENCY_METRIC)
+                .description("The time from the start of the parallel flush until the table was persisted")
+                .tag("table", Utility.toSnakeCase(c.getSimpleName()))
+                .register(meterRegistry));
+    }
+
+    private boolean isIndependent(Class<?> domainClass, boolean dissociate) {
+        if (SERIAL.contains(domainClass) || (dissociate && DISSOCIATE_DEPENDENCIES.contains(domainClass))) {
+            return false;
+        }
+
+        return AnnotationUtils.findAnnotation(domainClass, Upsertable.class) == null;
+    }
+}
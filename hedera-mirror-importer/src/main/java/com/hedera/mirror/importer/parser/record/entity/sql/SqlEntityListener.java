@@ -23,7 +23,6 @@ import com.hedera.mirror.common.domain.contract.Contract;
 import com.hedera.mirror.common.domain.contract.ContractAction;
 import com.hedera.mirror.common.domain.contract.ContractLog;
 import com.hedera.mirror.common.domain.contract.ContractResult;
-import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.contract.ContractStateChange;
 import com.hedera.mirror.common.domain.contract.ContractTransaction;
 import com.hedera.mirror.common.domain.entity.CryptoAllowance;
@@ -57,14 +56,17 @@ import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.record.RecordFilePipeline;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import com.hedera.mirror.importer.parser.record.entity.EntityListener;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker;
 import com.hedera.mirror.importer.repository.NftRepository;
 import com.hedera.mirror.importer.util.Utility;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -82,11 +84,14 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
+    private final BalanceChangeTracker balanceChangeTracker;
     private final BatchPersister batchPersister;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
     private final NftRepository nftRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
+    private final RecordFilePipeline recordFilePipeline;
     private final SqlProperties sqlProperties;
 
     @Override
@@ -99,6 +104,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         flush();
     }
 
+    @Override
+    public void onStage(RecordFile recordFile) {
+        flush();
+    }
+
     @Override
     public void onAssessedCustomFee(AssessedCustomFee assessedCustomFee) throws ImporterException {
         context.add(assessedCustomFee);
@@ -135,13 +145,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         var valueWritten = contractStateChange.getValueWritten();
         if (valueWritten != null || contractStateChange.isMigration()) {
             var value = valueWritten == null ? valueRead : valueWritten;
-            var state = new ContractState();
-            state.setContractId(contractStateChange.getContractId());
-            state.setCreatedTimestamp(contractStateChange.getConsensusTimestamp());
-            state.setModifiedTimestamp(contractStateChange.getConsensusTimestamp());
-            state.setSlot(contractStateChange.getSlot());
-            state.setValue(value);
-            context.merge(state.getId(), state, this::mergeContractState);
+            context.mergeContractState(
+                    contractStateChange.getContractId(),
+                    contractStateChange.getSlot(),
+                    value,
+                    contractStateChange.getConsensusTimestamp());
         }
     }
 
@@ -154,7 +162,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onCryptoAllowance(CryptoAllowance cryptoAllowance) {
-        context.merge(cryptoAllowance.getId(), cryptoAllowance, this::mergeFungibleAllowance);
+        context.merge(
+                cryptoAllowance.getOwner(),
+                cryptoAllowance.getSpender(),
+                cryptoAllowance,
+                this::mergeFungibleAllowance);
     }
 
     @Override
@@ -190,6 +202,10 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
         context.merge(id, entity, this::mergeEntity);
         entityIdService.notify(entity);
+
+        if (entity.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onAccount(id, entity.getBalanceTimestamp());
+        }
     }
 
     @Override
@@ -224,7 +240,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onNft(Nft nft) throws ImporterException {
-        context.merge(nft.getId(), nft, this::mergeNft);
+        context.merge(nft.getTokenId(), nft.getSerialNumber(), nft, this::mergeNft);
     }
 
     @Override
@@ -280,7 +296,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onTokenAccount(TokenAccount tokenAccount) throws ImporterException {
-        context.merge(tokenAccount.getId(), tokenAccount, this::mergeTokenAccount);
+        context.merge(tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount, this::mergeTokenAccount);
+
+        if (tokenAccount.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onTokenAccount(tokenAccount.getAccountId(), tokenAccount.getBalanceTimestamp());
+        }
     }
 
     @Override
@@ -329,7 +349,15 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flush() {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+
+            if (sqlProperties.getParallelism() > 1) {
+                var batches = new ArrayList<Collection<?>>();
+                context.forEach(batches::add);
+                parallelBatchPersister.persist(batches);
+            } else {
+                context.forEach(batchPersister::persist);
+            }
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -341,11 +369,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flushNftState() {
         try {
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
-            NFT_FLUSH.forEach(c -> {
-                var data = context.get(c);
-                batchPersister.persist(data);
-                context.remove(c);
-            });
+            NFT_FLUSH.forEach(c -> batchPersister.persist(context.remove(c)));
         } catch (ParserException e) {
             throw e;
         } catch (Exception e) {
@@ -353,17 +377,20 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    private void updateTreasury(Transaction transaction, NftTransfer nftTransfer) {
+        flushNftState();
+        nftRepository.updateTreasury(
+                transaction.getConsensusTimestamp(),
+                nftTransfer.getReceiverAccountId().getId(),
+                nftTransfer.getSenderAccountId().getId(),
+                nftTransfer.getTokenId().getId());
+    }
+
     private CustomFee mergeCustomFee(CustomFee previous, CustomFee current) {
         previous.setTimestampUpper(current.getTimestampLower());
         return current;
     }
 
-    private ContractState mergeContractState(ContractState previous, ContractState current) {
-        previous.setValue(current.getValue());
-        previous.setModifiedTimestamp(current.getModifiedTimestamp());
-        return previous;
-    }
-
     @SuppressWarnings("java:S3776")
     private Entity mergeEntity(Entity previous, Entity current) {
         // This entity should not trigger a history record, so just copy common non-history fields, if set, to previous
@@ -745,12 +772,16 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             long tokenId = nftTransfer.getTokenId().getId();
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
-                flushNftState();
-                nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
-                        nftTransfer.getReceiverAccountId().getId(),
-                        nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                if (recordFilePipeline.isStarted()) {
+                    recordFilePipeline.execute(() -> updateTreasury(transaction, nftTransfer));
+                } else {
+                    updateTreasury(transaction, nftTransfer);
+                }
+
+                balanceChangeTracker.onTokenAccount(
+                        nftTransfer.getReceiverAccountId().getId(), transaction.getConsensusTimestamp());
+                balanceChangeTracker.onTokenAccount(
+                        nftTransfer.getSenderAccountId().getId(), transaction.getConsensusTimestamp());
                 return;
             }
 
@@ -17,13 +17,21 @@
 package com.hedera.mirror.importer.parser.record.entity.sql;
 
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
 
 @Data
 @ConditionOnEntityRecordParser
 @ConfigurationProperties("hedera.mirror.importer.parser.record.entity.sql")
+@Validated
 public class SqlProperties {
 
     private boolean enabled = true;
+
+    @Max(16)
+    @Min(1)
+    private int parallelism = 1;
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Tracks the accounts whose balances and token balances changed while parsing record files, so that a historical
+ * balance snapshot only has to insert the balances that changed since the previous snapshot instead of scanning the
+ * entity and token_account tables. The changes are kept in memory and are only complete if the previous snapshot was
+ * taken by this process, so after a restart the first snapshot falls back to the deduplicating full table scan.
+ */
+@Named
+@RequiredArgsConstructor
+public class BalanceChangeTracker {
+
+    static final long TREASURY_ACCOUNT_ID = 2L;
+
+    private final Map<Long, Long> accounts = new ConcurrentHashMap<>();
+    private final HistoricalBalanceProperties properties;
+    private final Map<Long, Long> tokenAccounts = new ConcurrentHashMap<>();
+
+    private volatile long snapshotTimestamp = -1L;
+
+    /**
+     * Gets the accounts whose balance changed at or before the consensus timestamp.
+     *
+     * @param maxConsensusTimestamp the consensus timestamp of the previous snapshot
+     * @param consensusTimestamp    the consensus timestamp of the new snapshot
+     * @return the changed accounts, or empty if the changes since the previous snapshot were not all tracked
+     */
+    public Optional<Changes> getChanges(long maxConsensusTimestamp, long consensusTimestamp) {
+        if (!isEnabled() || snapshotTimestamp < 0 || snapshotTimestamp != maxConsensusTimestamp) {
+            return Optional.empty();
+        }
+
+        var accountIds = getChanges(accounts, consensusTimestamp);
+        accountIds.add(TREASURY_ACCOUNT_ID); // The treasury account is in every snapshot
+        var tokenAccountIds = getChanges(tokenAccounts, consensusTimestamp);
+        return Optional.of(new Changes(accountIds, tokenAccountIds));
+    }
+
+    public void onAccount(long accountId, long balanceTimestamp) {
+        if (isEnabled()) {
+            accounts.merge(accountId, balanceTimestamp, Math::max);
+        }
+    }
+
+    /**
+     * Discards the changes included in a snapshot after it's committed. Changes after the snapshot are kept since they
+     * may have been parsed but not committed when the snapshot was taken.
+     *
+     * @param consensusTimestamp the consensus timestamp of the snapshot
+     */
+    public void onSnapshot(long consensusTimestamp) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        accounts.entrySet().removeIf(e -> e.getValue() <= consensusTimestamp);
+        tokenAccounts.entrySet().removeIf(e -> e.getValue() <= consensusTimestamp);
+        snapshotTimestamp = consensusTimestamp;
+    }
+
+    public void onTokenAccount(long accountId, long balanceTimestamp) {
+        if (isEnabled()) {
+            tokenAccounts.merge(accountId, balanceTimestamp, Math::max);
+        }
+    }
+
+    private SortedSet<Long> getChanges(Map<Long, Long> changes, long consensusTimestamp) {
+        var ids = new TreeSet<Long>();
+        changes.forEach((id, timestamp) -> {
+            if (timestamp <= consensusTimestamp) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private boolean isEnabled() {
+        return properties.isEnabled() && properties.isIncremental();
+    }
+
+    /**
+     * The changed accounts in ascending order.
+     *
+     * @param accountIds      the IDs of the accounts whose hbar balance changed
+     * @param tokenAccountIds the IDs of the accounts whose balance of any token changed
+     */
+    public record Changes(SortedSet<Long> accountIds, SortedSet<Long> tokenAccountIds) {}
+}
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record.historicalbalance;
 
 import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -40,6 +41,15 @@ public class HistoricalBalanceProperties {
 
     private boolean enabled = true;
 
+    /**
+     * Whether to only insert the balances of the accounts that changed since the previous snapshot as tracked while
+     * parsing, instead of scanning the entity and token_account tables for them.
+     */
+    private boolean incremental = false;
+
+    @Min(1)
+    private int incrementalBatchSize = 10000;
+
     @DurationMin(minutes = 2)
     @DurationUnit(ChronoUnit.MINUTES)
     @NotNull
@@ -20,6 +20,7 @@ import static com.hedera.mirror.common.domain.balance.AccountBalanceFile.INVALID
 import static com.hedera.mirror.importer.parser.AbstractStreamFileParser.STREAM_PARSE_DURATION_METRIC_NAME;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterables;
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
@@ -32,12 +33,16 @@ import com.hedera.mirror.importer.parser.record.RecordFileParsedEvent;
 import com.hedera.mirror.importer.parser.record.RecordFileParser;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.AccountBalanceRepository;
+import com.hedera.mirror.importer.repository.BalanceSnapshotRepository;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.TokenBalanceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.CustomLog;
@@ -57,9 +62,13 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class HistoricalBalanceService {
 
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final String SNAPSHOT_DURATION_METRIC = "hedera.mirror.importer.historical.balance.duration";
+    private static final String SNAPSHOT_ROWS_METRIC = "hedera.mirror.importer.historical.balance.rows";
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceChangeTracker balanceChangeTracker;
+    private final MeterRegistry meterRegistry;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -75,6 +84,7 @@ public class HistoricalBalanceService {
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceChangeTracker balanceChangeTracker,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -83,6 +93,8 @@ public class HistoricalBalanceService {
             TokenBalanceRepository tokenBalanceRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.balanceChangeTracker = balanceChangeTracker;
+        this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.timePartitionService = timePartitionService;
@@ -123,7 +135,7 @@ public class HistoricalBalanceService {
             }
 
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
-            transactionTemplate.executeWithoutResult(t -> {
+            long snapshotTimestamp = transactionTemplate.execute(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
                         .findLatest()
@@ -132,16 +144,29 @@ public class HistoricalBalanceService {
                         .orElseThrow(() -> new ParserException("Record file table is empty"));
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
-                boolean full = maxConsensusTimestamp.isEmpty();
+                var changes = maxConsensusTimestamp.flatMap(max -> balanceChangeTracker.getChanges(max, timestamp));
+                String mode;
                 int accountBalancesCount;
                 int tokenBalancesCount;
-                if (full) {
+                if (maxConsensusTimestamp.isEmpty()) {
                     // get a full snapshot
+                    mode = "full";
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp);
                     tokenBalancesCount =
                             properties.isTokenBalances() ? tokenBalanceRepository.balanceSnapshot(timestamp) : 0;
+                } else if (changes.isPresent()) {
+                    // get a snapshot of only the accounts changed since the last snapshot
+                    mode = "incremental";
+                    long max = maxConsensusTimestamp.get();
+                    accountBalancesCount = balanceSnapshotIncremental(
+                            accountBalanceRepository, max, timestamp, changes.get().accountIds());
+                    tokenBalancesCount = properties.isTokenBalances()
+                            ? balanceSnapshotIncremental(
+                                    tokenBalanceRepository, max, timestamp, changes.get().tokenAccountIds())
+                            : 0;
                 } else {
                     // get a snapshot that has no duplicates
+                    mode = "deduped";
                     accountBalancesCount =
                             accountBalanceRepository.balanceSnapshotDeduplicate(maxConsensusTimestamp.get(), timestamp);
                     tokenBalancesCount = properties.isTokenBalances()
@@ -165,13 +190,16 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        mode,
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
+                recordSnapshotMetrics(mode, accountBalancesCount, tokenBalancesCount, stopwatch.elapsed());
+                return timestamp;
             });
 
+            balanceChangeTracker.onSnapshot(snapshotTimestamp);
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -198,6 +226,34 @@ public class HistoricalBalanceService {
                 partitionRange.lowerEndpoint(), partitionRange.upperEndpoint());
     }
 
+    // Inserts the balances in batches to bound the number of query parameters
+    private int balanceSnapshotIncremental(
+            BalanceSnapshotRepository repository,
+            long maxConsensusTimestamp,
+            long consensusTimestamp,
+            Collection<Long> accountIds) {
+        int count = 0;
+        for (var batch : Iterables.partition(accountIds, properties.getIncrementalBatchSize())) {
+            count += repository.balanceSnapshotIncremental(maxConsensusTimestamp, consensusTimestamp, batch);
+        }
+        return count;
+    }
+
+    private void recordSnapshotMetrics(
+            String mode, int accountBalancesCount, int tokenBalancesCount, Duration elapsed) {
+        Timer.builder(SNAPSHOT_DURATION_METRIC)
+                .description("The time it took to generate a historical balance snapshot")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(elapsed);
+
+        var rows = DistributionSummary.builder(SNAPSHOT_ROWS_METRIC)
+                .description("The number of balances inserted by a historical balance snapshot")
+                .tag("mode", mode);
+        rows.tag("type", "account").register(meterRegistry).record(accountBalancesCount);
+        rows.tag("type", "token").register(meterRegistry).record(tokenBalancesCount);
+    }
+
     private boolean shouldGenerate(long consensusEnd) {
         return properties.isEnabled()
                 && accountBalanceFileRepository
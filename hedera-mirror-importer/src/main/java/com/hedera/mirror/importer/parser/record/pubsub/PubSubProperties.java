@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.importer.parser.record.pubsub;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -28,8 +29,18 @@ import org.springframework.validation.annotation.Validated;
 @ConditionalOnPubSubRecordParser
 @ConfigurationProperties("hedera.mirror.importer.parser.record.pubsub")
 public class PubSubProperties {
-    @NotBlank
-    private String topicName;
 
+    @Min(1)
+    private int batchSize = 100;
+
+    @Min(1)
+    private int maxInFlight = 10;
+
+    @Min(1)
     private int maxSendAttempts = 5;
+
+    private boolean ordered = false;
+
+    @NotBlank
+    private String topicName;
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import lombok.CustomLog;
+
+/**
+ * Publishes the transactions of a record file to PubSub in batches of up to batchSize messages with at most maxInFlight
+ * batches outstanding at a time. Instead of waiting on each message, the messages are confirmed all at once by
+ * {@link #await()} at the end of the parse and only the messages that failed to publish are sent again.
+ * <p>
+ * If ordered, the messages carry the ID of their entity as the ordering key so that subscribers with message ordering
+ * enabled receive the transactions of an entity in consensus order. This requires message ordering to also be enabled
+ * for the publisher via spring.cloud.gcp.pubsub.publisher.enable-message-ordering.
+ */
+@CustomLog
+@Named
+@ConditionalOnPubSubRecordParser
+public class PubSubPublisher {
+
+    static final String CONSENSUS_TIMESTAMP_HEADER = "consensusTimestamp";
+
+    private final List<Message> batch = new ArrayList<>();
+    private final Queue<Message> failed = new ConcurrentLinkedQueue<>();
+    private final Semaphore inFlight;
+    private final Queue<CompletableFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+    private final PubSubProperties properties;
+    private final PublisherFactory publisherFactory;
+    private final PubSubTemplate pubSubTemplate;
+
+    public PubSubPublisher(
+            PubSubProperties properties, PublisherFactory publisherFactory, PubSubTemplate pubSubTemplate) {
+        this.inFlight = new Semaphore(properties.getMaxInFlight());
+        this.properties = properties;
+        this.publisherFactory = publisherFactory;
+        this.pubSubTemplate = pubSubTemplate;
+    }
+
+    /**
+     * Adds the message to the current batch, sending the batch once it is full. Blocks if the maximum number of batches
+     * are already in flight.
+     *
+     * @param message the message to publish
+     * @throws ParserException if the PubSub client rejects the message outright
+     */
+    public synchronized void publish(PubSubMessage message) {
+        var headers = new HashMap<String, String>(2);
+        headers.put(CONSENSUS_TIMESTAMP_HEADER, message.getConsensusTimestamp().toString());
+
+        var entityId = message.getEntity();
+        if (properties.isOrdered() && !EntityId.isEmpty(entityId)) {
+            headers.put(GcpPubSubHeaders.ORDERING_KEY, entityId.toString());
+        }
+
+        add(new Message(message, headers));
+    }
+
+    /**
+     * Sends the current batch and waits for all messages published so far to be acknowledged, resending the failed
+     * messages in consensus order until they succeed or maxSendAttempts is reached.
+     *
+     * @throws ParserException if any message could still not be published after maxSendAttempts
+     */
+    public void await() {
+        synchronized (this) {
+            send();
+        }
+        drain();
+
+        for (int attempt = 1; !failed.isEmpty(); attempt++) {
+            var retries = new ArrayList<Message>(failed.size());
+            Message message;
+            while ((message = failed.poll()) != null) {
+                retries.add(message);
+            }
+
+            if (attempt >= properties.getMaxSendAttempts()) {
+                throw new ParserException(String.format(
+                        "Failed to send %d messages to PubSub after %d attempts", retries.size(), attempt));
+            }
+
+            log.warn("Attempt {} to send {} messages to PubSub failed", attempt, retries.size());
+            retries.sort(Comparator.comparing(m -> m.payload().getConsensusTimestamp()));
+            resume(retries);
+
+            synchronized (this) {
+                retries.forEach(this::add);
+                send();
+            }
+            drain();
+        }
+    }
+
+    /**
+     * Discards the messages not yet sent and the failures of the messages already sent, after waiting for the batches
+     * in flight, so that the next parse doesn't publish or resend the messages of a failed parse.
+     */
+    public synchronized void reset() {
+        batch.clear();
+        drain();
+        failed.clear();
+    }
+
+    private void add(Message message) {
+        batch.add(message);
+        if (batch.size() >= properties.getBatchSize()) {
+            send();
+        }
+    }
+
+    private void drain() {
+        CompletableFuture<Void> future;
+        while ((future = pending.poll()) != null) {
+            future.join();
+        }
+    }
+
+    /**
+     * The client pauses publishing for an ordering key after a failure so that later messages can't overtake the
+     * failed one. It must be resumed before the failed messages with that ordering key can be sent again.
+     */
+    private void resume(List<Message> messages) {
+        if (!properties.isOrdered()) {
+            return;
+        }
+
+        var orderingKeys = new LinkedHashSet<String>();
+        messages.forEach(m -> orderingKeys.add(m.headers().get(GcpPubSubHeaders.ORDERING_KEY)));
+        orderingKeys.remove(null);
+
+        if (!orderingKeys.isEmpty()) {
+            var publisher = publisherFactory.createPublisher(properties.getTopicName());
+            orderingKeys.forEach(publisher::resumePublish);
+        }
+    }
+
+    private void send() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        var messages = List.copyOf(batch);
+        batch.clear();
+
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException(e);
+        }
+
+        var futures = new ArrayList<CompletableFuture<String>>(messages.size());
+        try {
+            for (var message : messages) {
+                var future = pubSubTemplate.publish(properties.getTopicName(), message.payload(), message.headers());
+                futures.add(future.whenComplete((id, e) -> {
+                    if (e != null) {
+                        var timestamp = message.payload().getConsensusTimestamp();
+                        log.debug("Failed to send transaction {} to PubSub: {}", timestamp, e.getMessage());
+                        failed.add(message);
+                    }
+                }));
+            }
+        } catch (Exception e) {
+            // This will make RecordFileParser retry the whole file, thus sending duplicates of the transactions
+            // already sent for this file
+            throw new ParserException("Error sending transaction to pubsub", e);
+        } finally {
+            pending.add(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null)
+                    .thenRun(inFlight::release));
+        }
+    }
+
+    private record Message(PubSubMessage payload, Map<String, String> headers) {}
+}
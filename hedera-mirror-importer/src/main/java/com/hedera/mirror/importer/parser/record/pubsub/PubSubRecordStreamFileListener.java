@@ -29,14 +29,23 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnPubSubRecordParser
 public class PubSubRecordStreamFileListener implements RecordStreamFileListener {
 
+    private final PubSubPublisher pubSubPublisher;
     private final RecordFileRepository recordFileRepository;
     private final SidecarFileRepository sidecarFileRepository;
 
     @Override
     public void onEnd(RecordFile recordFile) throws ImporterException {
+        // The record file is only saved once all of its transactions have been published
+        pubSubPublisher.await();
+
         if (recordFile != null) {
             recordFileRepository.save(recordFile);
             sidecarFileRepository.saveAll(recordFile.getSidecars());
         }
     }
+
+    @Override
+    public void onError() {
+        pubSubPublisher.reset();
+    }
 }
@@ -90,7 +90,6 @@ public abstract class CsvBalanceFileReader implements BalanceFileReader {
             List<AccountBalance> items = new ArrayList<>();
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
-            accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
@@ -16,6 +16,9 @@
 
 package com.hedera.mirror.importer.reader.balance;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
@@ -26,17 +29,35 @@ import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import jakarta.inject.Named;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractCollection;
 import java.util.List;
+import java.util.NoSuchElementException;
 import lombok.CustomLog;
-import org.apache.commons.codec.digest.DigestUtils;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.data.util.CloseableIterator;
 
+/**
+ * Reads a protobuf account balance file without materializing the whole {@link AllAccountBalances} message. The file is
+ * read once up front to validate it, count the accounts and compute its SHA-384 hash as it's decompressed. The account
+ * balances themselves are decoded lazily, one {@link SingleAccountBalances} at a time, each time the items are iterated
+ * so that memory usage is bounded by the compressed file size and the parser's batch size rather than the number of
+ * accounts in the file. The items' iterator is a {@link CloseableIterator} that should be closed if it isn't exhausted,
+ * and an entry that fails to decode is only reported when it's reached.
+ */
 @CustomLog
 @Named
 public class ProtoBalanceFileReader implements BalanceFileReader {
 
     private static final String FILE_EXTENSION = "pb";
+    private static final String HASH_ALGORITHM = "SHA-384";
 
     @Override
     public boolean supports(StreamFileData streamFileData) {
@@ -46,33 +67,45 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
 
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        try {
-            var bytes = streamFileData.getDecompressedBytes();
-            var allAccountBalances = AllAccountBalances.parseFrom(bytes);
+        try (var inputStream = new DigestInputStream(
+                streamFileData.getInputStream(), MessageDigest.getInstance(HASH_ALGORITHM))) {
+            var input = CodedInputStream.newInstance(inputStream);
+            Timestamp timestamp = null;
+            long count = 0;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                switch (WireFormat.getTagFieldNumber(tag)) {
+                    case AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER -> timestamp =
+                            input.readMessage(Timestamp.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                    case AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER -> {
+                        input.skipField(tag);
+                        count++;
+                    }
+                    default -> input.skipField(tag);
+                }
+            }
 
-            if (!allAccountBalances.hasConsensusTimestamp()) {
+            if (timestamp == null) {
                 throw new InvalidStreamFileException("Missing required consensusTimestamp field");
             }
 
-            long consensusTimestamp = DomainUtils.timestampInNanosMax(allAccountBalances.getConsensusTimestamp());
-            var items = allAccountBalances.getAllAccountsList().stream()
-                    .map(ab -> toAccountBalance(consensusTimestamp, ab))
-                    .toList();
+            long consensusTimestamp = DomainUtils.timestampInNanosMax(timestamp);
+            var fileHash = Hex.encodeHexString(inputStream.getMessageDigest().digest());
 
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
-            accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
-            accountBalanceFile.setFileHash(DigestUtils.sha384Hex(bytes));
-            accountBalanceFile.setItems(items);
+            accountBalanceFile.setCount(count);
+            accountBalanceFile.setFileHash(fileHash);
+            accountBalanceFile.setItems(new AccountBalances(consensusTimestamp, (int) count, streamFileData));
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
             return accountBalanceFile;
-        } catch (IOException e) {
+        } catch (IOException | NoSuchAlgorithmException e) {
             throw new StreamFileReaderException(e);
         }
     }
 
-    private AccountBalance toAccountBalance(long consensusTimestamp, SingleAccountBalances balances) {
+    private static AccountBalance toAccountBalance(long consensusTimestamp, SingleAccountBalances balances) {
         EntityId accountId = EntityId.of(balances.getAccountID());
         List<TokenBalance> tokenBalances = balances.getTokenUnitBalancesList().stream()
                 .map(tokenBalance -> {
@@ -84,4 +117,94 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
         return new AccountBalance(
                 balances.getHbarBalance(), tokenBalances, new AccountBalance.Id(consensusTimestamp, accountId));
     }
+
+    /**
+     * A read-only view of the account balances in the file that decodes them from a new decompressed stream on every
+     * iteration.
+     */
+    @RequiredArgsConstructor
+    private static class AccountBalances extends AbstractCollection<AccountBalance> {
+
+        private final long consensusTimestamp;
+        private final int size;
+        private final StreamFileData streamFileData;
+
+        @Override
+        public CloseableIterator<AccountBalance> iterator() {
+            return new AccountBalanceIterator(consensusTimestamp, streamFileData.getInputStream());
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static class AccountBalanceIterator implements CloseableIterator<AccountBalance> {
+
+        private final long consensusTimestamp;
+        private final CodedInputStream input;
+        private final InputStream inputStream;
+        private boolean done;
+        private AccountBalance next;
+
+        private AccountBalanceIterator(long consensusTimestamp, InputStream inputStream) {
+            this.consensusTimestamp = consensusTimestamp;
+            this.input = CodedInputStream.newInstance(inputStream);
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                next = readNext();
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public AccountBalance next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var accountBalance = next;
+            next = null;
+            return accountBalance;
+        }
+
+        @Override
+        public void close() {
+            if (!done) {
+                done = true;
+                next = null;
+
+                try {
+                    inputStream.close();
+                } catch (IOException e) {
+                    throw new StreamFileReaderException(e);
+                }
+            }
+        }
+
+        private AccountBalance readNext() {
+            try {
+                for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                    if (WireFormat.getTagFieldNumber(tag) == AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER) {
+                        var balances = input.readMessage(
+                                SingleAccountBalances.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                        return toAccountBalance(consensusTimestamp, balances);
+                    }
+
+                    input.skipField(tag);
+                }
+
+                close();
+                return null;
+            } catch (IOException e) {
+                throw new StreamFileReaderException(e);
+            }
+        }
+    }
 }
@@ -52,13 +52,11 @@ public abstract class AbstractPreV5RecordFileReader implements RecordFileReader
 
         try (RecordFileDigest digest = getRecordFileDigest(streamFileData.getInputStream());
                 ValidatedDataInputStream vdis = new ValidatedDataInputStream(digest.getDigestInputStream(), filename)) {
-            byte[] bytes = streamFileData.getBytes();
             RecordFile recordFile = new RecordFile();
-            recordFile.setBytes(bytes);
             recordFile.setDigestAlgorithm(DIGEST_ALGORITHM);
             recordFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             recordFile.setName(filename);
-            recordFile.setSize(bytes.length);
+            recordFile.setSize(streamFileData.getSize());
 
             readHeader(vdis, recordFile);
             readBody(vdis, digest, recordFile);
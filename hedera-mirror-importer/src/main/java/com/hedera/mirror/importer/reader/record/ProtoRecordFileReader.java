@@ -18,6 +18,9 @@ package com.hedera.mirror.importer.reader.record;
 
 import static java.lang.String.format;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -28,17 +31,24 @@ import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.services.stream.proto.HashAlgorithm;
+import com.hedera.services.stream.proto.HashObject;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
+import com.hedera.services.stream.proto.SidecarMetadata;
+import com.hederahashgraph.api.proto.java.SemanticVersion;
 import jakarta.inject.Named;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 import lombok.CustomLog;
@@ -55,9 +65,12 @@ public class ProtoRecordFileReader implements RecordFileReader {
     public RecordFile read(StreamFileData streamFileData) {
         var filename = streamFileData.getFilename();
         var loadStart = streamFileData.getStreamFilename().getTimestamp();
+        var messageDigests = createMessageDigests();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        // Decompress, hash and decode the file in a single pass without materializing the intermediate byte arrays
+        try (var inputStream = digestInputStream(streamFileData.getInputStream(), messageDigests)) {
+            var items = new ArrayList<RecordItem>();
+            var recordStreamFile = readRecordStreamFile(filename, inputStream, items);
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -71,8 +84,10 @@ public class ProtoRecordFileReader implements RecordFileReader {
                         endHashAlgorithm);
             }
 
-            var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
+            if (items.isEmpty()) {
+                throw new InvalidStreamFileException("No record stream objects in record file " + filename);
+            }
+
             int count = items.size();
             long consensusEnd = items.get(count - 1).getConsensusTimestamp();
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
@@ -80,12 +95,11 @@ public class ProtoRecordFileReader implements RecordFileReader {
             var sidecars = getSidecars(consensusEnd, recordStreamFile, streamFileData.getStreamFilename());
 
             return RecordFile.builder()
-                    .bytes(bytes)
                     .consensusStart(items.get(0).getConsensusTimestamp())
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(digestAlgorithm, streamFileData.getDecompressedBytes()))
+                    .fileHash(DomainUtils.bytesToHex(messageDigests.get(digestAlgorithm).digest()))
                     .hapiVersionMajor(hapiProtoVersion.getMajor())
                     .hapiVersionMinor(hapiProtoVersion.getMinor())
                     .hapiVersionPatch(hapiProtoVersion.getPatch())
@@ -98,7 +112,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
                     .previousHash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(startObjectRunningHash)))
                     .sidecarCount(sidecars.size())
                     .sidecars(sidecars)
-                    .size(bytes.length)
+                    .size(streamFileData.getSize())
                     .version(VERSION)
                     .build();
         } catch (IOException e) {
@@ -106,6 +120,26 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
+    private void addItem(List<RecordItem> items, Version hapiVersion, RecordStreamItem recordStreamItem) {
+        var previousItem = items.isEmpty() ? null : items.get(items.size() - 1);
+        var recordItem = RecordItem.builder()
+                .hapiVersion(hapiVersion)
+                .previous(previousItem)
+                .transactionRecord(recordStreamItem.getRecord())
+                .transaction(recordStreamItem.getTransaction())
+                .transactionIndex(items.size())
+                .build();
+        items.add(recordItem);
+    }
+
+    private Map<DigestAlgorithm, MessageDigest> createMessageDigests() {
+        var messageDigests = new EnumMap<DigestAlgorithm, MessageDigest>(DigestAlgorithm.class);
+        for (var digestAlgorithm : DigestAlgorithm.values()) {
+            messageDigests.put(digestAlgorithm, createMessageDigest(digestAlgorithm));
+        }
+        return messageDigests;
+    }
+
     private MessageDigest createMessageDigest(DigestAlgorithm digestAlgorithm) {
         try {
             return MessageDigest.getInstance(digestAlgorithm.getName());
@@ -114,6 +148,15 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
+    private InputStream digestInputStream(InputStream inputStream, Map<DigestAlgorithm, MessageDigest> messageDigests) {
+        // The digest algorithm isn't known until the running hashes are read, so hash with all supported algorithms
+        var digestInputStream = inputStream;
+        for (var messageDigest : messageDigests.values()) {
+            digestInputStream = new DigestInputStream(digestInputStream, messageDigest);
+        }
+        return digestInputStream;
+    }
+
     private DigestAlgorithm getDigestAlgorithm(String filename, HashAlgorithm start, HashAlgorithm end) {
         return Stream.of(start, end)
                 .map(hashAlgorithm -> {
@@ -134,11 +177,6 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 });
     }
 
-    private String getFileHash(DigestAlgorithm algorithm, byte[] fileData) {
-        var messageDigest = createMessageDigest(algorithm);
-        return DomainUtils.bytesToHex(messageDigest.digest(fileData));
-    }
-
     private String getMetadataHash(DigestAlgorithm algorithm, RecordStreamFile recordStreamFile) throws IOException {
         try (var digestOutputStream =
                         new DigestOutputStream(NullOutputStream.INSTANCE, createMessageDigest(algorithm));
@@ -176,41 +214,66 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
-        if (count == 0) {
-            throw new InvalidStreamFileException("No record stream objects in record file " + filename);
-        }
-
-        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
-        var hapiVersion =
-                new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
-        RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(hapiVersion)
-                    .previous(previousItem)
-                    .transactionRecord(recordStreamItem.getRecord())
-                    .transaction(recordStreamItem.getTransaction())
-                    .transactionIndex(items.size())
-                    .build();
-            items.add(recordItem);
-            previousItem = recordItem;
+    /**
+     * Decodes the record stream file one field at a time, converting each record stream item to a record item as soon
+     * as it's read instead of first building the complete protobuf message holding all of them.
+     *
+     * @return the record stream file with everything but the record stream items
+     */
+    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream, List<RecordItem> items)
+            throws IOException {
+        var dataInputStream = new DataInputStream(inputStream);
+        int version = dataInputStream.readInt();
+        if (version != VERSION) {
+            throw new InvalidStreamFileException(
+                    format("Expected file %s with version %d, got %d.", filename, VERSION, version));
         }
 
-        return items;
-    }
+        var builder = RecordStreamFile.newBuilder();
+        var input = CodedInputStream.newInstance(dataInputStream);
+        var registry = ExtensionRegistryLite.getEmptyRegistry();
+        var pending = new ArrayList<RecordStreamItem>();
+        Version hapiVersion = null;
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
-        try (var dataInputStream = new DataInputStream(inputStream)) {
-            int version = dataInputStream.readInt();
-            if (version != VERSION) {
-                throw new InvalidStreamFileException(
-                        format("Expected file %s with version %d, got %d.", filename, VERSION, version));
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case RecordStreamFile.HAPI_PROTO_VERSION_FIELD_NUMBER -> {
+                    builder.mergeHapiProtoVersion(input.readMessage(SemanticVersion.parser(), registry));
+                    hapiVersion = getHapiVersion(builder.getHapiProtoVersion());
+                    for (var recordStreamItem : pending) {
+                        addItem(items, hapiVersion, recordStreamItem);
+                    }
+                    pending.clear();
+                }
+                case RecordStreamFile.START_OBJECT_RUNNING_HASH_FIELD_NUMBER -> builder.mergeStartObjectRunningHash(
+                        input.readMessage(HashObject.parser(), registry));
+                case RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER -> {
+                    var recordStreamItem = input.readMessage(RecordStreamItem.parser(), registry);
+                    // The hapi version precedes the items when serialized in field order, as is always the case
+                    if (hapiVersion != null) {
+                        addItem(items, hapiVersion, recordStreamItem);
+                    } else {
+                        pending.add(recordStreamItem);
+                    }
+                }
+                case RecordStreamFile.END_OBJECT_RUNNING_HASH_FIELD_NUMBER -> builder.mergeEndObjectRunningHash(
+                        input.readMessage(HashObject.parser(), registry));
+                case RecordStreamFile.BLOCK_NUMBER_FIELD_NUMBER -> builder.setBlockNumber(input.readInt64());
+                case RecordStreamFile.SIDECARS_FIELD_NUMBER -> builder.addSidecars(
+                        input.readMessage(SidecarMetadata.parser(), registry));
+                default -> input.skipField(tag);
             }
+        }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+        // No hapi version in the file
+        for (var recordStreamItem : pending) {
+            addItem(items, getHapiVersion(builder.getHapiProtoVersion()), recordStreamItem);
         }
+
+        return builder.build();
+    }
+
+    private Version getHapiVersion(SemanticVersion hapiProtoVersion) {
+        return new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
     }
 }
@@ -18,8 +18,27 @@ package com.hedera.mirror.importer.reader.record.sidecar;
 
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
 
 public interface SidecarFileReader {
 
     void read(SidecarFile sidecarFile, StreamFileData streamFileData);
+
+    /**
+     * Reads the sidecar file as a stream, passing each sidecar record to the consumer as soon as it's decoded instead
+     * of collecting them in the sidecar file. Records whose type is not accepted by the filter are skipped without
+     * being decoded. The hash of the whole file is still computed.
+     *
+     * @param sidecarFile    the sidecar file
+     * @param streamFileData the data of the sidecar file
+     * @param typeFilter     accepts the field number of the sidecar record type, like STATE_CHANGES_FIELD_NUMBER
+     * @param consumer       receives the accepted sidecar records in order
+     */
+    void read(
+            SidecarFile sidecarFile,
+            StreamFileData streamFileData,
+            IntPredicate typeFilter,
+            Consumer<TransactionSidecarRecord> consumer);
 }
@@ -16,32 +16,89 @@
 
 package com.hedera.mirror.importer.reader.record.sidecar;
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.transaction.SidecarFile;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import jakarta.inject.Named;
+import java.io.IOException;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
 
 @Named
 public class SidecarFileReaderImpl implements SidecarFileReader {
 
+    private static final int SIDECAR_RECORDS_FIELD_NUMBER =
+            com.hedera.services.stream.proto.SidecarFile.SIDECAR_RECORDS_FIELD_NUMBER;
+
     @Override
     public void read(SidecarFile sidecarFile, StreamFileData streamFileData) {
+        var records = new ArrayList<TransactionSidecarRecord>();
+        read(sidecarFile, streamFileData, type -> true, records::add);
+        sidecarFile.setRecords(records);
+    }
+
+    @Override
+    public void read(
+            SidecarFile sidecarFile,
+            StreamFileData streamFileData,
+            IntPredicate typeFilter,
+            Consumer<TransactionSidecarRecord> consumer) {
         try (var digestInputStream = new DigestInputStream(
                 streamFileData.getInputStream(),
                 MessageDigest.getInstance(sidecarFile.getHashAlgorithm().getName()))) {
-            var protoSidecarFile = com.hedera.services.stream.proto.SidecarFile.parseFrom(digestInputStream);
-            var bytes = streamFileData.getBytes();
+            var input = CodedInputStream.newInstance(digestInputStream);
+            int count = 0;
+
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (WireFormat.getTagFieldNumber(tag) != SIDECAR_RECORDS_FIELD_NUMBER) {
+                    input.skipField(tag);
+                    continue;
+                }
+
+                var bytes = input.readBytes();
+                count++;
+
+                if (typeFilter.test(getType(bytes))) {
+                    consumer.accept(TransactionSidecarRecord.parseFrom(bytes));
+                }
+            }
+
             sidecarFile.setActualHash(digestInputStream.getMessageDigest().digest());
-            sidecarFile.setBytes(bytes);
-            sidecarFile.setCount(protoSidecarFile.getSidecarRecordsCount());
-            sidecarFile.setRecords(protoSidecarFile.getSidecarRecordsList());
-            sidecarFile.setSize(bytes.length);
+            sidecarFile.setCount(count);
+            sidecarFile.setSize(streamFileData.getSize());
         } catch (InvalidStreamFileException e) {
             throw e;
         } catch (Exception e) {
             throw new InvalidStreamFileException("Error reading sidecar file " + sidecarFile.getName(), e);
         }
     }
+
+    /**
+     * Gets the field number of the sidecar record type by scanning the top level fields of the encoded sidecar record
+     * without decoding it.
+     */
+    private int getType(ByteString bytes) throws IOException {
+        var input = bytes.newCodedInput();
+        int type = 0;
+
+        for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+            int fieldNumber = WireFormat.getTagFieldNumber(tag);
+            if (fieldNumber == TransactionSidecarRecord.STATE_CHANGES_FIELD_NUMBER
+                    || fieldNumber == TransactionSidecarRecord.ACTIONS_FIELD_NUMBER
+                    || fieldNumber == TransactionSidecarRecord.BYTECODE_FIELD_NUMBER) {
+                type = fieldNumber; // The last value of a oneof wins
+            }
+
+            input.skipField(tag);
+        }
+
+        return type;
+    }
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.repository;
 
 import com.hedera.mirror.common.domain.balance.AccountBalance;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -66,6 +67,25 @@ public interface AccountBalanceRepository
     @Transactional
     int balanceSnapshotDeduplicate(long maxConsensusTimestamp, long consensusTimestamp);
 
+    @Override
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+        insert into account_balance (account_id, balance, consensus_timestamp)
+        select id, balance, :consensusTimestamp
+        from entity
+        where
+          id in (:accountIds) and
+          (id = 2 or
+           (balance is not null and
+            balance_timestamp > :maxConsensusTimestamp))
+        order by id
+        """)
+    @Transactional
+    int balanceSnapshotIncremental(long maxConsensusTimestamp, long consensusTimestamp, Collection<Long> accountIds);
+
     @Query(
             nativeQuery = true,
             value =
@@ -16,7 +16,9 @@
 
 package com.hedera.mirror.importer.repository;
 
-interface BalanceSnapshotRepository {
+import java.util.Collection;
+
+public interface BalanceSnapshotRepository {
 
     /**
      * Generates a balance snapshot from state in database.
@@ -37,4 +39,16 @@ interface BalanceSnapshotRepository {
      * @return The number of balance rows inserted
      */
     int balanceSnapshotDeduplicate(long maxConsensusTimestamp, long consensusTimestamp);
+
+    /**
+     * Generates a balance snapshot from state in database for the given accounts only. Like
+     * {@link #balanceSnapshotDeduplicate(long, long)}, only adds entries for items with a balance_timestamp that is
+     * greater than the maxConsensusTimestamp, but looks them up by account instead of scanning the whole table.
+     *
+     * @param maxConsensusTimestamp The consensus timestamp of the previous balance snapshot.
+     * @param consensusTimestamp    The consensus timestamp of the balance snapshot.
+     * @param accountIds            The accounts whose balances changed since the previous balance snapshot.
+     * @return The number of balance rows inserted
+     */
+    int balanceSnapshotIncremental(long maxConsensusTimestamp, long consensusTimestamp, Collection<Long> accountIds);
 }
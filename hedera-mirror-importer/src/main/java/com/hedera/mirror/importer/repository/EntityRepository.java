@@ -17,6 +17,8 @@
 package com.hedera.mirror.importer.repository;
 
 import com.hedera.mirror.common.domain.entity.Entity;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -29,9 +31,21 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
     @Query(value = "select id from entity where alias = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByAlias(byte[] alias);
 
+    @Query(value = "select * from entity where alias in (?1) and deleted <> true", nativeQuery = true)
+    List<Entity> findByAliasIn(Collection<byte[]> aliases);
+
     @Query(value = "select id from entity where evm_address = ?1 and deleted <> true", nativeQuery = true)
     Optional<Long> findByEvmAddress(byte[] evmAddress);
 
+    @Query(value = "select * from entity where evm_address in (?1) and deleted <> true", nativeQuery = true)
+    List<Entity> findByEvmAddressIn(Collection<byte[]> evmAddresses);
+
+    @Query(
+            value = "select * from entity where (alias is not null or evm_address is not null) and deleted <> true "
+                    + "and type in ('ACCOUNT', 'CONTRACT') order by lower(timestamp_range) desc limit ?1",
+            nativeQuery = true)
+    List<Entity> findLatestWithAlias(int limit);
+
     @Modifying
     @Query(value = "update entity set type = 'CONTRACT' where id in (:ids) and type <> 'CONTRACT'", nativeQuery = true)
     int updateContractType(Iterable<Long> ids);
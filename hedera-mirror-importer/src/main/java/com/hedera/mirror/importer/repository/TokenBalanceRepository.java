@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.repository;
 
 import com.hedera.mirror.common.domain.balance.TokenBalance;
+import java.util.Collection;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -60,4 +61,19 @@ public interface TokenBalanceRepository
         """)
     @Transactional
     int balanceSnapshotDeduplicate(long maxConsensusTimestamp, long consensusTimestamp);
+
+    @Override
+    @Modifying
+    @Query(
+            nativeQuery = true,
+            value =
+                    """
+        insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+        select account_id, balance, :consensusTimestamp, token_id
+        from token_account
+        where account_id in (:accountIds) and balance_timestamp > :maxConsensusTimestamp
+        order by account_id, token_id
+        """)
+    @Transactional
+    int balanceSnapshotIncremental(long maxConsensusTimestamp, long consensusTimestamp, Collection<Long> accountIds);
 }
@@ -60,16 +60,26 @@ public class EntityMetadataRegistry {
     private final JdbcOperations jdbcOperations;
 
     public EntityMetadata lookup(Class<?> domainClass) {
+        if (AnnotationUtils.findAnnotation(domainClass, Upsertable.class) == null) {
+            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
+        }
+
+        return lookupEntity(domainClass);
+    }
+
+    /**
+     * Looks up the metadata of any JPA entity regardless of whether it's upsertable. The upsertable of the returned
+     * metadata is null if the class is not annotated with @Upsertable.
+     *
+     * @param domainClass the JPA entity class
+     * @return the entity metadata
+     */
+    public EntityMetadata lookupEntity(Class<?> domainClass) {
         return domainEntityMetadata.computeIfAbsent(domainClass, this::create);
     }
 
     private EntityMetadata create(Class<?> domainClass) {
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
-
-        if (upsertable == null) {
-            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
-        }
-
         EntityType<?> entityType = entityManager.getMetamodel().entity(domainClass);
         Table table = AnnotationUtils.findAnnotation(domainClass, Table.class);
         String tableName = table != null ? table.name() : toSnakeCase(entityType.getName());
@@ -84,11 +94,12 @@ public class EntityMetadataRegistry {
             if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
                 var persistentAttribute = (SingularPersistentAttribute) attribute;
                 var embeddableType = (EmbeddableType<?>) persistentAttribute.getType();
+                var embeddedGetter = getter((Field) attribute.getJavaMember());
                 embeddableType
                         .getDeclaredSingularAttributes()
-                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id)));
+                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id, embeddedGetter)));
             } else {
-                columnMetadata.add(columnMetadata(schema, attribute, id));
+                columnMetadata.add(columnMetadata(schema, attribute, id, null));
             }
         }
 
@@ -99,7 +110,10 @@ public class EntityMetadataRegistry {
 
     @SuppressWarnings("java:S4276")
     private ColumnMetadata columnMetadata(
-            Map<String, InformationSchemaColumns> schema, Attribute<?, ?> attribute, boolean id) {
+            Map<String, InformationSchemaColumns> schema,
+            Attribute<?, ?> attribute,
+            boolean id,
+            Function<Object, Object> embeddedGetter) {
         String name = attribute.getName();
         Field field = (Field) attribute.getJavaMember();
         Column column = field.getAnnotation(Column.class);
@@ -116,8 +130,21 @@ public class EntityMetadataRegistry {
 
         var getter = getter(field);
         var setter = setter(field);
+
+        // Embedded attributes are accessed through the embedded object of the entity
+        if (embeddedGetter != null) {
+            var fieldGetter = getter;
+            var fieldSetter = setter;
+            getter = o -> {
+                var embedded = embeddedGetter.apply(o);
+                return embedded != null ? fieldGetter.apply(embedded) : null;
+            };
+            setter = (o, v) -> fieldSetter.accept(embeddedGetter.apply(o), v);
+        }
+
         boolean updatable = !id && (column == null || column.updatable());
         return new ColumnMetadata(
+                columnSchema.getDataType(),
                 columnSchema.getColumnDefault(),
                 getter,
                 id,
@@ -136,7 +163,7 @@ public class EntityMetadataRegistry {
         String sql =
                 """
                 select column_name, regexp_replace(column_default, '::.*', '') as column_default,
-                is_nullable = 'YES' as nullable from information_schema.columns where table_name = ?
+                is_nullable = 'YES' as nullable, udt_name from information_schema.columns where table_name = ?
                 """;
 
         var columnSchemas = jdbcOperations.query(
@@ -146,6 +173,7 @@ public class EntityMetadataRegistry {
                     columnSchema.setColumnName(rs.getString(1));
                     columnSchema.setColumnDefault(rs.getString(2));
                     columnSchema.setNullable(rs.getBoolean(3));
+                    columnSchema.setDataType(rs.getString(4));
                     return columnSchema;
                 },
                 tableName);
@@ -213,6 +241,7 @@ public class EntityMetadataRegistry {
     static class InformationSchemaColumns {
         private String columnName;
         private String columnDefault;
+        private String dataType;
         private boolean nullable;
     }
 }
@@ -17,34 +17,50 @@
 package com.hedera.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
-import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
-import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
 
+/**
+ * Prunes the data older than the retention period. Each table is pruned independently on a bounded worker pool by
+ * deleting its rows in consecutive time slices, each in its own transaction. The slice period of every table adapts to
+ * how long its previous slice took so that each delete stays close to the target latency regardless of the table's
+ * density. When enabled, time partitions entirely older than the retention period are dropped instead.
+ */
 @CustomLog
 @Named
 @RequiredArgsConstructor
 public class RetentionJob {
 
+    private static final long MIN_BATCH_PERIOD = Duration.ofSeconds(1L).toNanos();
+
+    private final JdbcOperations jdbcOperations;
+    private final MeterRegistry meterRegistry;
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -61,43 +77,122 @@ public class RetentionJob {
             return;
         }
 
-        var maxTimestamp = latest.get().getConsensusEnd();
-        var iterator = new RecordFileIterator(latest.get());
+        long maxTimestamp = latest.get().getConsensusEnd();
+        var earliest = recordFileRepository.findNextBetween(0, maxTimestamp);
+        if (earliest.isEmpty()) {
+            return;
+        }
+
+        // Start from the earliest record file. This can incur an extra prune at the beginning but is necessary in case
+        // there is only one record file in the database.
+        long minTimestamp = earliest.get().getConsensusEnd();
+        var counters = new ConcurrentHashMap<String, Long>();
+        var stopwatch = Stopwatch.createStarted();
         log.info(
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
+        try (var executor = Executors.newFixedThreadPool(
+                retentionProperties.getParallelism(),
+                Thread.ofPlatform().daemon().name("retention-", 0).factory())) {
+            var futures = retentionRepositories.stream()
+                    .filter(repository -> retentionProperties.shouldPrune(getTableName(repository)))
+                    .map(repository -> CompletableFuture.runAsync(
+                            () -> prune(repository, minTimestamp, maxTimestamp, counters), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+            log.info("Finished pruning tables in {}: {}", stopwatch, new TreeMap<>(counters));
+        } catch (Exception e) {
+            log.error("Error pruning tables in {}: {}", stopwatch, new TreeMap<>(counters), e);
+        }
+    }
+
+    private void prune(
+            RetentionRepository repository, long minTimestamp, long maxTimestamp, Map<String, Long> counters) {
+        String table = getTableName(repository);
+        var batchMetric = Timer.builder("hedera.mirror.importer.retention.duration")
+                .description("The time it took to prune a batch of entries from the table")
+                .tag("table", table)
+                .register(meterRegistry);
+        var entriesMetric = Counter.builder("hedera.mirror.importer.retention.entries")
+                .description("The number of entries pruned from the table")
+                .tag("table", table)
+                .register(meterRegistry);
+        var stopwatch = Stopwatch.createStarted();
+        long batchPeriod = retentionProperties.getBatchPeriod().toNanos();
+        long targetLatency = retentionProperties.getTargetLatency().toNanos();
+        long endTimestamp = Math.max(minTimestamp, dropPartitions(table, maxTimestamp));
+        long total = 0L;
+
         try {
-            while (iterator.hasNext()) {
-                prune(iterator);
-            }
+            while (true) {
+                long timestamp = endTimestamp;
+                var batchStopwatch = Stopwatch.createStarted();
+                var count = transactionOperations.execute(t -> repository.prune(timestamp));
+                long elapsed = batchStopwatch.elapsed(TimeUnit.NANOSECONDS);
+                batchMetric.record(elapsed, TimeUnit.NANOSECONDS);
+
+                if (count != null) {
+                    total += count;
+                    entriesMetric.increment(count);
+                }
 
-            log.info("Finished pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters());
-        } catch (Exception e) {
-            log.error("Error pruning tables in {}: {}", iterator.getStopwatch(), iterator.getCounters(), e);
+                log.debug(
+                        "Pruned {} {} entries on or before {} in {}",
+                        count,
+                        table,
+                        toInstant(timestamp),
+                        batchStopwatch);
+
+                if (endTimestamp >= maxTimestamp) {
+                    break;
+                }
+
+                // Scale the period by how far off the target the last batch was, at most halving or doubling it
+                double scale = (double) targetLatency / Math.max(elapsed, 1L);
+                batchPeriod = Math.max((long) (batchPeriod * Math.clamp(scale, 0.5, 2.0)), MIN_BATCH_PERIOD);
+                endTimestamp = endTimestamp + Math.min(batchPeriod, maxTimestamp - endTimestamp);
+            }
+        } finally {
+            counters.merge(table, total, Long::sum);
+            long elapsed = stopwatch.elapsed(TimeUnit.SECONDS);
+            long rate = elapsed > 0 ? total / elapsed : 0L;
+            log.info("Pruned {} {} entries in {} at {}/s", total, table, stopwatch, rate);
         }
     }
 
-    private void prune(RecordFileIterator iterator) {
-        var counters = iterator.getCounters();
-        long countBefore = counters.values().stream().reduce(0L, Long::sum);
-        var stopwatch = iterator.getStopwatch();
-        var next = iterator.next();
-        long endTimestamp = next.getConsensusEnd();
+    /**
+     * Drops the time partitions of the table whose whole range is on or before the max timestamp, always keeping the
+     * latest partition since it's used to create the next ones.
+     *
+     * @return the end of the last dropped partition or zero if none were dropped
+     */
+    private long dropPartitions(String table, long maxTimestamp) {
+        if (!retentionProperties.isDropPartitions()) {
+            return 0L;
+        }
 
-        transactionOperations.executeWithoutResult(t -> retentionRepositories.forEach(repository -> {
-            String table = getTableName(repository);
+        var partitions = timePartitionService.getTimePartitions(table);
+        long endTimestamp = 0L;
+
+        try {
+            for (int i = 0; i < partitions.size() - 1; i++) {
+                var partition = partitions.get(i);
+                if (partition.getEnd() > maxTimestamp) {
+                    break;
+                }
 
-            if (retentionProperties.shouldPrune(table)) {
-                long count = repository.prune(endTimestamp);
-                counters.merge(table, count, Long::sum);
+                jdbcOperations.execute("drop table if exists " + partition.getName());
+                endTimestamp = partition.getEnd();
+                log.info("Dropped {} partition {} ending at {}", table, partition.getName(), toInstant(endTimestamp));
+            }
+        } finally {
+            // Lookups of the dropped partitions would otherwise fail until the cache expires
+            if (endTimestamp > 0L) {
+                timePartitionService.evict(table);
             }
-        }));
+        }
 
-        long countAfter = counters.values().stream().reduce(0L, Long::sum);
-        long count = countAfter - countBefore;
-        long elapsed = stopwatch.elapsed(TimeUnit.SECONDS);
-        long rate = elapsed > 0 ? countAfter / elapsed : 0L;
-        log.info("Pruned {} entries on or before {} in {} at {}/s", count, toInstant(endTimestamp), stopwatch, rate);
+        return endTimestamp;
     }
 
     private String getTableName(RetentionRepository repository) {
@@ -109,60 +204,4 @@ public class RetentionJob {
     private Instant toInstant(long nanos) {
         return Instant.ofEpochSecond(0L, nanos);
     }
-
-    @Data
-    private class RecordFileIterator implements Iterator<RecordFile> {
-
-        private final Map<String, Long> counters = new TreeMap<>();
-        private final RecordFile max;
-        private final Stopwatch stopwatch = Stopwatch.createStarted();
-        private RecordFile current;
-
-        public boolean hasNext() {
-            // Initialize with the earliest/minimum record file. This can incur an extra prune at the beginning but
-            // simplfies logic and is necessary in case there is only one record file in the database.
-            if (current == null) {
-                var next = recordFileRepository.findNextBetween(0, max.getConsensusEnd());
-                if (next.isEmpty()) {
-                    return false;
-                }
-
-                current = next.get();
-                return true;
-            }
-
-            // We pruned max in the last iteration, so skip it now
-            if (current == max) {
-                current = null;
-                return false;
-            }
-
-            long batchPeriod = retentionProperties.getBatchPeriod().toNanos();
-            long endTimestamp = current.getConsensusEnd() + batchPeriod;
-
-            // Ignore batchPeriod if it would put us past the max and just use max instead
-            if (endTimestamp >= max.getConsensusEnd()) {
-                current = max;
-                return true;
-            }
-
-            // Next record file is in between min and max
-            var next = recordFileRepository.findNextBetween(endTimestamp, max.getConsensusEnd());
-            if (next.isEmpty()) {
-                current = null;
-                return false;
-            }
-
-            current = next.get();
-            return true;
-        }
-
-        @Override
-        public RecordFile next() {
-            if (current == null) {
-                throw new NoSuchElementException("No more record files");
-            }
-            return current;
-        }
-    }
 }
@@ -16,11 +16,13 @@
 
 package com.hedera.mirror.importer.retention;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -34,6 +36,8 @@ public class RetentionProperties {
     @NotNull
     private Duration batchPeriod = Duration.ofDays(1L);
 
+    private boolean dropPartitions = false;
+
     private boolean enabled = false;
 
     @NotNull
@@ -45,9 +49,16 @@ public class RetentionProperties {
     @NotNull
     private Set<String> include = Collections.emptySet();
 
+    @Min(1)
+    private int parallelism = 4;
+
     @NotNull
     private Duration period = Duration.ofDays(90L);
 
+    @DurationMin(millis = 1)
+    @NotNull
+    private Duration targetLatency = Duration.ofSeconds(10L);
+
     public boolean shouldPrune(String table) {
         return (include.isEmpty() || include.contains(table)) && (exclude.isEmpty() || !exclude.contains(table));
     }
@@ -0,0 +1,3 @@
+-- Support loading the most recently modified entities with an alias or EVM address without sorting the whole table
+create index if not exists entity__alias_evm_address_timestamp
+    on entity (lower(timestamp_range) desc) where alias is not null or evm_address is not null;
@@ -110,6 +110,8 @@ create index if not exists entity__public_key_type
 create index if not exists entity__alias
     on entity (alias) where alias is not null;
 create index if not exists entity__evm_address on entity (evm_address) where evm_address is not null;
+create index if not exists entity__alias_evm_address_timestamp
+    on entity (lower(timestamp_range) desc) where alias is not null or evm_address is not null;
 
 -- entity_history
 create index if not exists entity_history__alias on entity_history (alias) where alias is not null;
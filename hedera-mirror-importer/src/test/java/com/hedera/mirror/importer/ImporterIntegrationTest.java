@@ -52,6 +52,7 @@ import org.postgresql.jdbc.PgArray;
 import org.postgresql.util.PGobject;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.springframework.context.annotation.Bean;
@@ -61,6 +62,7 @@ import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.jdbc.core.DataClassRowMapper;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.RowMapper;
+import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.utility.DockerImageName;
 
@@ -173,6 +175,21 @@ public abstract class ImporterIntegrationTest extends CommonIntegrationTest {
     @TestConfiguration(proxyBeanMethods = false)
     static class Configuration {
 
+        // Parallel persistence prepares its worker transactions, so enable them before the container is started
+        @Bean
+        static BeanPostProcessor postgresqlPreparedTransactions() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof PostgreSQLContainer<?> container) {
+                        container.withCommand("postgres", "-c", "fsync=off", "-c", "max_prepared_transactions=64");
+                    }
+
+                    return bean;
+                }
+            };
+        }
+
         @Bean
         @ServiceConnection("redis")
         RedisContainer redis() {
@@ -102,6 +102,35 @@ class TimePartitionServiceTest extends ImporterIntegrationTest {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
     }
 
+    @Test
+    void evict() {
+        jdbcTemplate.execute(
+                """
+                create table retained (timestamp bigint not null) partition by range (timestamp);
+                create table retained_00 partition of retained for values from ('1000000000') to ('2000000000');
+                create table retained_01 partition of retained for values from ('2000000000') to ('3000000000');
+                """);
+
+        try {
+            assertThat(timePartitionService.getTimePartitions("retained")).hasSize(2);
+            assertThat(timePartitionService.getOverlappingTimePartitions("retained", 1000000000L, 2999999999L))
+                    .hasSize(2);
+
+            jdbcTemplate.execute("drop table retained_00");
+            assertThat(timePartitionService.getTimePartitions("retained")).hasSize(2);
+
+            timePartitionService.evict("retained");
+            assertThat(timePartitionService.getTimePartitions("retained"))
+                    .extracting(TimePartition::getName)
+                    .containsExactly("retained_01");
+            assertThat(timePartitionService.getOverlappingTimePartitions("retained", 1000000000L, 2999999999L))
+                    .extracting(TimePartition::getName)
+                    .containsExactly("retained_01");
+        } finally {
+            jdbcTemplate.execute("drop table retained cascade");
+        }
+    }
+
     @Test
     void getTimePartitionsEmpty() {
         // Table location is partitioned but not partitioned on timestamp
@@ -27,9 +27,11 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.config.CacheProperties;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -45,6 +47,7 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         0, 0, 0, 0, 0, 0, 0, 100, // num
     };
 
+    private final CacheProperties cacheProperties;
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
 
@@ -367,6 +370,73 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         assertThat(entityIdService.lookup(accountId)).hasValue(EntityId.of(100));
     }
 
+    @Test
+    void preload() {
+        // given
+        var account = domainBuilder.entity().persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var missing = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .get();
+        var accountId = getProtoAccountId(account);
+        var contractId = getProtoContractId(contract);
+        var missingContractId = getProtoContractId(missing);
+
+        // when
+        entityIdService.preload(List.of(accountId), List.of(contractId, missingContractId));
+        entityRepository.deleteById(account.getId());
+        entityRepository.deleteById(contract.getId());
+        entityRepository.save(missing);
+
+        // then
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+        assertThat(entityIdService.lookup(missingContractId)).isEmpty();
+
+        // cache miss
+        reset();
+        assertThat(entityIdService.lookup(missingContractId)).hasValue(missing.toEntityId());
+    }
+
+    @Test
+    void preloadAliasToEvmAddress() {
+        // given
+        var entity =
+                domainBuilder.entity().customize(e -> e.evmAddress(EVM_ADDRESS)).persist();
+        var accountId = AccountID.newBuilder()
+                .setAlias(DomainUtils.fromBytes(ALIAS_ECDSA_SECP256K1))
+                .build();
+
+        // when
+        entityIdService.preload(List.of(accountId), List.of());
+
+        // then the public key alias not found still falls back to its EVM address
+        assertThat(entityIdService.lookup(accountId)).hasValue(entity.toEntityId());
+    }
+
+    @Test
+    void warmup() {
+        // given
+        var account = domainBuilder.entity().persist();
+        var accountId = getProtoAccountId(account);
+        cacheProperties.setAliasWarmup(10);
+
+        // when
+        try {
+            ((EntityIdServiceImpl) entityIdService).warmup();
+        } finally {
+            cacheProperties.setAliasWarmup(0);
+        }
+        entityRepository.deleteById(account.getId());
+
+        // then
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder().setShardNum(account.getShard()).setRealmNum(account.getRealm());
         if (account.getAlias() == null) {
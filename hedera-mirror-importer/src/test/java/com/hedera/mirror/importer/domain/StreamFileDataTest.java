@@ -25,6 +25,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -96,6 +97,34 @@ class StreamFileDataTest {
         }
     }
 
+    @Test
+    void createWithBuffer() throws IOException {
+        String filename = "2021-03-10T16_00_00Z.rcd.gz";
+        byte[] uncompressedBytes = {1, 2, 3};
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            try (OutputStream os = new GZIPOutputStream(baos)) {
+                os.write(uncompressedBytes);
+            }
+
+            var buffer = ByteBuffer.allocateDirect(baos.size()).put(baos.toByteArray()).flip();
+            var streamFileData = StreamFileData.from(StreamFilename.from(filename), buffer, Instant.now());
+
+            // Each input stream reads the buffer from the start
+            try (InputStream is = streamFileData.getInputStream()) {
+                assertThat(is.readAllBytes()).isEqualTo(uncompressedBytes);
+            }
+            try (InputStream is = streamFileData.getInputStream()) {
+                assertThat(is.readAllBytes()).isEqualTo(uncompressedBytes);
+            }
+
+            assertThat(streamFileData.getSize()).isEqualTo(baos.size());
+            assertThat(streamFileData.getDecompressedBytes()).isEqualTo(uncompressedBytes);
+            assertThat(streamFileData.getBytes()).isEqualTo(baos.toByteArray());
+            assertThat(buffer.position()).isZero();
+        }
+    }
+
     @Test
     void createWithCompressorAndUncompressedData() {
         String filename = "2021-03-10T16_00_00Z.rcd.gz";
@@ -23,6 +23,7 @@ import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -250,7 +251,8 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         signatureFileReader = new CompositeSignatureFileReader(
                 new SignatureFileReaderV2(), new SignatureFileReaderV5(), new ProtoSignatureFileReader());
         var consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         downloader = getDownloader();
         streamType = downloaderProperties.getStreamType();
 
@@ -594,6 +596,49 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         verifyStreamFiles(List.of(file1));
     }
 
+    @Test
+    @DisplayName("Prefetch data files and the next batch of signature files")
+    void prefetch() {
+        commonDownloaderProperties.setBatchSize(1);
+        commonDownloaderProperties.getPrefetch().setEnabled(true);
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+
+        downloader.download();
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(meterRegistry
+                        .get("hedera.mirror.download.prefetch.wait")
+                        .tag("stage", "signature")
+                        .timer()
+                        .count())
+                .isOne();
+    }
+
+    @Test
+    @DisplayName("Prefetch at most depth data files including the one being verified")
+    void prefetchDepth() {
+        var pending = new ArrayList<Double>();
+        commonDownloaderProperties.getPrefetch().setDepth(1);
+        commonDownloaderProperties.getPrefetch().setEnabled(true);
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        doAnswer(invocation -> pending.add(meterRegistry
+                        .get("hedera.mirror.download.prefetch.queue")
+                        .gauge()
+                        .value()))
+                .when(streamFileNotifier)
+                .verified(any());
+
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(pending).isNotEmpty().containsOnly(0.0);
+    }
+
     @Test
     void noDataFiles() throws IOException {
         fileCopier.copy();
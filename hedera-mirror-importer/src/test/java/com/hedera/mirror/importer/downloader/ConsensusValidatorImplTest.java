@@ -60,6 +60,15 @@ class ConsensusValidatorImplTest {
         consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
     }
 
+    @Test
+    void canReachConsensus() {
+        assertThat(consensusValidator.canReachConsensus(3L, 10L)).isFalse();
+        assertThat(consensusValidator.canReachConsensus(4L, 10L)).isTrue();
+        assertThat(consensusValidator.canReachConsensus(10L, 10L)).isTrue();
+        commonDownloaderProperties.setConsensusRatio(BigDecimal.ZERO);
+        assertThat(consensusValidator.canReachConsensus(0L, 10L)).isTrue();
+    }
+
     @Test
     void failureWithLargeStakes() {
         var oneThirdStake = MAX_TINYBARS.divide(BigDecimal.valueOf(3), 0, RoundingMode.CEILING);
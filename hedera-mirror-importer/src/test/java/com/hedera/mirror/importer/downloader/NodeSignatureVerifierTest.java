@@ -20,6 +20,8 @@ import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureSta
 import static com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus.VERIFIED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -29,6 +31,8 @@ import com.hedera.mirror.importer.domain.ConsensusNodeStub;
 import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureType;
 import com.hedera.mirror.importer.domain.StreamFilename;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.KeyPair;
@@ -37,6 +41,7 @@ import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.util.List;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,6 +59,7 @@ class NodeSignatureVerifierTest {
     private Signature signer;
 
     private CommonDownloaderProperties commonDownloaderProperties;
+    private MeterRegistry meterRegistry;
 
     @Mock
     private ConsensusValidator consensusValidator;
@@ -75,7 +81,9 @@ class NodeSignatureVerifierTest {
         commonDownloaderProperties = new CommonDownloaderProperties(new ImporterProperties());
         commonDownloaderProperties.setConsensusRatio(
                 BigDecimal.ONE.divide(BigDecimal.valueOf(3), 19, RoundingMode.DOWN));
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         signer = Signature.getInstance("SHA384withRSA", "SunRsaSign");
         signer.initSign(privateKey);
         consensusValidator.validate(any());
@@ -123,6 +131,58 @@ class NodeSignatureVerifierTest {
                 .containsExactly(VERIFIED, VERIFIED, DOWNLOADED);
     }
 
+    @Test
+    void parallel() {
+        commonDownloaderProperties.getVerification().setParallelism(4);
+        var signatures =
+                IntStream.range(0, 10).mapToObj(i -> streamFileSignature()).toList();
+        var invalid = signatures.get(5);
+        invalid.setFileHashSignature(corruptSignature(invalid.getFileHashSignature()));
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures)
+                .filteredOn(s -> s != invalid)
+                .extracting(StreamFileSignature::getStatus)
+                .containsOnly(VERIFIED);
+        assertThat(invalid.getStatus()).isEqualTo(DOWNLOADED);
+        assertThat(meterRegistry
+                        .counter(NodeSignatureVerifier.VERIFY_COUNT_METRIC, "result", "valid", "type", "RECORD")
+                        .count())
+                .isEqualTo(9.0);
+        assertThat(meterRegistry
+                        .counter(NodeSignatureVerifier.VERIFY_COUNT_METRIC, "result", "invalid", "type", "RECORD")
+                        .count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.timer(NodeSignatureVerifier.VERIFY_METRIC, "type", "RECORD").count())
+                .isOne();
+    }
+
+    @Test
+    void earlyStop() {
+        commonDownloaderProperties.getVerification().setEarlyStop(true);
+        when(consensusValidator.canReachConsensus(anyLong(), anyLong())).thenReturn(true);
+        var signatures = List.of(streamFileSignature(), streamFileSignature(), streamFileSignature());
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(VERIFIED, DOWNLOADED, DOWNLOADED);
+        assertThat(meterRegistry
+                        .counter(NodeSignatureVerifier.VERIFY_COUNT_METRIC, "result", "skipped", "type", "RECORD")
+                        .count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void earlyStopNotReached() {
+        commonDownloaderProperties.getVerification().setEarlyStop(true);
+        when(consensusValidator.canReachConsensus(anyLong(), anyLong())).thenReturn(false);
+        var signatures = List.of(streamFileSignature(), streamFileSignature());
+
+        nodeSignatureVerifier.verify(signatures);
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).containsOnly(VERIFIED);
+    }
+
     @Test
     void invalidFileSignature() {
         var signature = streamFileSignature();
@@ -208,6 +268,8 @@ class NodeSignatureVerifierTest {
         var node = ConsensusNodeStub.builder()
                 .nodeAccountId(EntityId.of("0.0.3"))
                 .publicKey(publicKey)
+                .stake(1L)
+                .totalStake(3L)
                 .build();
 
         StreamFileSignature streamFileSignature = new StreamFileSignature();
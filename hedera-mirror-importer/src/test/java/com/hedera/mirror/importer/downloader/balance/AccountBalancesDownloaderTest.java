@@ -64,7 +64,7 @@ class AccountBalancesDownloaderTest extends AbstractDownloaderTest<AccountBalanc
     protected Downloader<AccountBalanceFile, AccountBalance> getDownloader() {
         BalanceFileReader balanceFileReader = new BalanceFileReaderImplV1(
                 new BalanceParserProperties(), new AccountBalanceLineParserV1(importerProperties));
-        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
+        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient, meterRegistry);
         return new AccountBalancesDownloader(
                 accountBalanceFileRepository,
                 consensusNodeService,
@@ -103,7 +103,7 @@ class AccountBalancesDownloaderTest extends AbstractDownloaderTest<AccountBalanc
         // .csv_sig files are intentionally made empty so if two account balance files are processed, they must be
         // the .pb.gz files
         ProtoBalanceFileReader protoBalanceFileReader = new ProtoBalanceFileReader();
-        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient);
+        var streamFileProvider = new S3StreamFileProvider(commonDownloaderProperties, s3AsyncClient, meterRegistry);
         downloader = new AccountBalancesDownloader(
                 accountBalanceFileRepository,
                 consensusNodeService,
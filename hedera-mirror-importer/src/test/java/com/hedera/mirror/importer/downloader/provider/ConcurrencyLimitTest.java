@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.downloader.provider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.importer.downloader.CommonDownloaderProperties.ConcurrencyProperties;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.concurrent.Queues;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+class ConcurrencyLimitTest {
+
+    private ConcurrencyLimit concurrencyLimit;
+    private ConcurrencyProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new ConcurrencyProperties();
+        properties.setEnabled(true);
+        properties.setInitial(4);
+        properties.setLatencyTarget(Duration.ofMinutes(1L));
+        properties.setMax(6);
+        properties.setMin(2);
+        concurrencyLimit = new ConcurrencyLimit("0/RECORD", properties);
+    }
+
+    @Test
+    void disabled() {
+        properties.setEnabled(false);
+        concurrencyLimit.onError(SdkClientException.create("error"));
+        assertThat(concurrencyLimit.get()).isEqualTo(Queues.SMALL_BUFFER_SIZE);
+        properties.setEnabled(true);
+        assertThat(concurrencyLimit.get()).isEqualTo(4);
+    }
+
+    @Test
+    void increase() {
+        for (int i = 0; i < 4; i++) {
+            concurrencyLimit.onSuccess(Duration.ofMillis(10L));
+        }
+        assertThat(concurrencyLimit.get()).isEqualTo(4);
+
+        concurrencyLimit.onSuccess(Duration.ofMillis(10L));
+        assertThat(concurrencyLimit.get()).isEqualTo(5);
+
+        for (int i = 0; i < 100; i++) {
+            concurrencyLimit.onSuccess(Duration.ofMillis(10L));
+        }
+        assertThat(concurrencyLimit.get()).isEqualTo(6);
+    }
+
+    @Test
+    void decreaseOnThrottle() {
+        var throttled = S3Exception.builder().statusCode(503).message("SlowDown").build();
+        concurrencyLimit.onError(throttled);
+        assertThat(concurrencyLimit.get()).isEqualTo(2);
+    }
+
+    @Test
+    void decreaseOnLatency() {
+        concurrencyLimit.onSuccess(Duration.ofMinutes(2L));
+        assertThat(concurrencyLimit.get()).isEqualTo(2);
+    }
+
+    @Test
+    void decreaseOncePerLatencyTarget() {
+        properties.setInitial(6);
+        concurrencyLimit = new ConcurrencyLimit("0/RECORD", properties);
+        concurrencyLimit.onError(new TimeoutException());
+        concurrencyLimit.onError(SdkClientException.create("error"));
+        assertThat(concurrencyLimit.get()).isEqualTo(3);
+    }
+
+    @Test
+    void ignoredErrors() {
+        concurrencyLimit.onError(NoSuchKeyException.builder().statusCode(404).build());
+        concurrencyLimit.onError(S3Exception.builder().statusCode(403).build());
+        concurrencyLimit.onError(new TransientProviderException(new RuntimeException()));
+        assertThat(concurrencyLimit.get()).isEqualTo(4);
+    }
+
+    @Test
+    void observe() {
+        properties.setLatencyTarget(Duration.ofMillis(1L));
+        StepVerifier.create(concurrencyLimit.observe(Mono.error(SdkClientException.create("error"))))
+                .expectError(SdkClientException.class)
+                .verify(Duration.ofSeconds(1L));
+        assertThat(concurrencyLimit.get()).isEqualTo(2);
+    }
+}
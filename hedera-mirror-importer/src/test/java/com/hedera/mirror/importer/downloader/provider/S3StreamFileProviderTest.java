@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.importer.downloader.provider;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 
@@ -23,6 +24,9 @@ import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.FileCopier;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
 import java.nio.file.Path;
 import java.time.Duration;
@@ -34,6 +38,9 @@ import org.jclouds.ContextBuilder;
 import org.jclouds.blobstore.BlobStoreContext;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -42,6 +49,11 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
 
     private static final int S3_PROXY_PORT = 8001;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path spoolPath;
+
     private S3Proxy s3Proxy;
 
     @Override
@@ -64,10 +76,44 @@ class S3StreamFileProviderTest extends AbstractStreamFileProviderTest {
                 .forcePathStyle(true)
                 .region(Region.of(properties.getRegion()))
                 .build();
-        streamFileProvider = new S3StreamFileProvider(properties, s3AsyncClient);
+        streamFileProvider = new S3StreamFileProvider(properties, s3AsyncClient, meterRegistry);
         startS3Proxy();
     }
 
+    @Test
+    void getSpooled() {
+        var spool = properties.getSpool();
+        spool.setEnabled(true);
+        spool.setMinSize(500L);
+        spool.setPath(spoolPath);
+        var node = node("0.0.3");
+        getFileCopier(node).copy();
+        var data = streamFileData(node, "2022-07-13T08_46_11.304284003Z.rcd.gz");
+        var sidecar = streamFileData(node, "2022-07-13T08_46_11.304284003Z_01.rcd.gz");
+
+        StepVerifier.withVirtualTime(() -> streamFileProvider
+                        .get(node, data.getStreamFilename())
+                        .concatWith(streamFileProvider.get(node, sidecar.getStreamFilename())))
+                .thenAwait(Duration.ofSeconds(10L))
+                .assertNext(s -> {
+                    assertThat(s).isEqualTo(data);
+                    assertThat(s.getDecompressedBytes()).isEqualTo(data.getDecompressedBytes());
+                    assertThat(s.getBytes()).isEqualTo(data.getBytes());
+                })
+                .assertNext(s -> assertThat(s.getBytes()).isEqualTo(sidecar.getBytes()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(10L));
+
+        assertThat(spoolPath).isEmptyDirectory();
+        assertThat(meterRegistry.find(S3StreamFileProvider.SIZE_METRIC).tag("storage", "mapped").summary())
+                .isNotNull()
+                .returns(1L, DistributionSummary::count)
+                .returns((double) data.getBytes().length, DistributionSummary::totalAmount);
+        assertThat(meterRegistry.find(S3StreamFileProvider.SIZE_METRIC).tag("storage", "heap").summary())
+                .isNotNull()
+                .returns(1L, DistributionSummary::count);
+    }
+
     @Override
     protected FileCopier createFileCopier(Path dataPath) {
         var fromPath = Path.of("data", "recordstreams", "v6");
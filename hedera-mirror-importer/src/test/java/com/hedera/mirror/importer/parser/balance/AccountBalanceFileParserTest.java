@@ -18,21 +18,28 @@ package com.hedera.mirror.importer.parser.balance;
 
 import static com.hedera.mirror.importer.migration.ErrataMigrationTest.BAD_TIMESTAMP1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.AccountBalanceRepository;
 import com.hedera.mirror.importer.repository.TokenBalanceRepository;
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.util.CloseableIterator;
 
 @RequiredArgsConstructor
 class AccountBalanceFileParserTest extends ImporterIntegrationTest {
@@ -95,6 +102,79 @@ class AccountBalanceFileParserTest extends ImporterIntegrationTest {
         parserProperties.setBatchSize(batchSize);
     }
 
+    @Test
+    void parallel() {
+        // given
+        int batchSize = parserProperties.getBatchSize();
+        parserProperties.setBatchSize(2);
+        parserProperties.setParallelism(4);
+        var accountBalanceFile = accountBalanceFile(1);
+        var items = accountBalanceFile.getItems();
+
+        // when
+        accountBalanceFileParser.parse(accountBalanceFile);
+
+        // then
+        assertAccountBalanceFile(accountBalanceFile, items);
+        parserProperties.setBatchSize(batchSize);
+        parserProperties.setParallelism(1);
+    }
+
+    @Test
+    void corruptItems() {
+        // given
+        int batchSize = parserProperties.getBatchSize();
+        parserProperties.setBatchSize(1);
+        var accountBalanceFile = accountBalanceFile(1);
+        var items = List.copyOf(accountBalanceFile.getItems());
+        var closed = new AtomicInteger();
+        var opened = new AtomicInteger();
+        accountBalanceFile.setItems(new AbstractCollection<>() {
+            @Override
+            public Iterator<AccountBalance> iterator() {
+                opened.incrementAndGet();
+                var iterator = items.iterator();
+                return new CloseableIterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public AccountBalance next() {
+                        var accountBalance = iterator.next();
+                        if (!iterator.hasNext()) {
+                            throw new StreamFileReaderException("Corrupt account balance", null);
+                        }
+                        return accountBalance;
+                    }
+
+                    @Override
+                    public void close() {
+                        closed.incrementAndGet();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return items.size();
+            }
+        });
+
+        // when
+        assertThatThrownBy(() -> accountBalanceFileParser.parse(accountBalanceFile))
+                .isInstanceOf(StreamFileReaderException.class);
+
+        // then
+        assertThat(opened).hasPositiveValue();
+        assertThat(closed).hasValue(opened.get());
+        assertThat(accountBalanceFileRepository.count()).isZero();
+        assertThat(accountBalanceRepository.count()).isZero();
+        assertThat(tokenBalanceRepository.count()).isZero();
+        parserProperties.setBatchSize(batchSize);
+    }
+
     @Test
     void duplicateFile() {
         // given
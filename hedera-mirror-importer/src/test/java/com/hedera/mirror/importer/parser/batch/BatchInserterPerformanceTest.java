@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Compares the CSV and binary COPY formats by persisting the same rows with both.
+ */
+@RequiredArgsConstructor
+@Tag("performance")
+class BatchInserterPerformanceTest extends ImporterIntegrationTest {
+
+    private static final int ITERATIONS = 5;
+    private static final int ROWS = 100_000;
+
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+
+    @ParameterizedTest
+    @ValueSource(classes = {ContractLog.class, CryptoTransfer.class})
+    void compare(Class<?> entityClass) {
+        Supplier<Object> supplier = entityClass == ContractLog.class
+                ? () -> domainBuilder.contractLog().get()
+                : () -> domainBuilder.cryptoTransfer().get();
+
+        var binary = inserter(entityClass, BinaryCopyWriter.create(entityMetadataRegistry.lookupEntity(entityClass)));
+        var csv = inserter(entityClass, null);
+
+        var binaryDuration = Duration.ZERO;
+        var csvDuration = Duration.ZERO;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            csvDuration = csvDuration.plus(persist(csv, items(supplier)));
+            binaryDuration = binaryDuration.plus(persist(binary, items(supplier)));
+        }
+
+        log.info(
+                "Persisted {} {} rows {} times with CSV in {} ({} rows/s) and binary in {} ({} rows/s)",
+                ROWS,
+                entityClass.getSimpleName(),
+                ITERATIONS,
+                csvDuration,
+                rate(csvDuration),
+                binaryDuration,
+                rate(binaryDuration));
+        assertThat(jdbcOperations.queryForObject("select count(*) from " + csv.tableName, Long.class))
+                .isEqualTo(2L * ITERATIONS * ROWS);
+    }
+
+    private BatchInserter inserter(Class<?> entityClass, BinaryCopyWriter binaryCopyWriter) {
+        return new BatchInserter(
+                entityClass,
+                dataSource,
+                new SimpleMeterRegistry(),
+                new CommonParserProperties(),
+                entityClass.getSimpleName(),
+                binaryCopyWriter);
+    }
+
+    private Collection<Object> items(Supplier<Object> supplier) {
+        var items = new ArrayList<Object>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            items.add(supplier.get());
+        }
+        return items;
+    }
+
+    private Duration persist(BatchInserter inserter, Collection<Object> items) {
+        var stopwatch = Stopwatch.createStarted();
+        inserter.persist(items);
+        return stopwatch.elapsed();
+    }
+
+    private long rate(Duration duration) {
+        return ITERATIONS * ROWS * 1000L / Math.max(duration.toMillis(), 1L);
+    }
+}
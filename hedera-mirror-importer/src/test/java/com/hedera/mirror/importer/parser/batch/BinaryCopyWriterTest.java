@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static com.hedera.mirror.common.domain.token.TokenFreezeStatusEnum.FROZEN;
+import static com.hedera.mirror.common.domain.token.TokenFreezeStatusEnum.UNFROZEN;
+import static com.hedera.mirror.common.domain.token.TokenKycStatusEnum.GRANTED;
+import static com.hedera.mirror.common.domain.token.TokenKycStatusEnum.REVOKED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.contract.ContractResult;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.ContractLogRepository;
+import com.hedera.mirror.importer.repository.ContractResultRepository;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.TokenAccountRepository;
+import com.hedera.mirror.importer.repository.TokenTransferRepository;
+import com.hedera.mirror.importer.repository.TransactionRepository;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class BinaryCopyWriterTest extends ImporterIntegrationTest {
+
+    private final ContractLogRepository contractLogRepository;
+    private final ContractResultRepository contractResultRepository;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final EntityRepository entityRepository;
+    private final TokenAccountRepository tokenAccountRepository;
+    private final TokenTransferRepository tokenTransferRepository;
+    private final TransactionRepository transactionRepository;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
+
+    @Test
+    void persistContractLog() {
+        var contractLogs = List.of(
+                domainBuilder.contractLog().get(),
+                domainBuilder.contractLog().customize(c -> c.topic3(null)).get());
+        inserter(ContractLog.class).persist(contractLogs);
+        assertThat(contractLogRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractLogs);
+    }
+
+    @Test
+    void persistContractResult() {
+        var contractResults = List.of(
+                domainBuilder.contractResult().get(),
+                domainBuilder
+                        .contractResult()
+                        .customize(c -> c.createdContractIds(List.of()))
+                        .get());
+        inserter(ContractResult.class).persist(contractResults);
+        assertThat(contractResultRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractResults);
+    }
+
+    @Test
+    void persistCryptoTransfer() {
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().get());
+        inserter(CryptoTransfer.class).persist(cryptoTransfers);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+    }
+
+    @Test
+    void persistTokenTransfer() {
+        var tokenTransfers =
+                List.of(domainBuilder.tokenTransfer().get(), domainBuilder.tokenTransfer().get());
+        inserter(TokenTransfer.class).persist(tokenTransfers);
+        assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
+    }
+
+    @Test
+    void persistTransaction() {
+        var transactions =
+                List.of(domainBuilder.transaction().get(), domainBuilder.transaction().get());
+        inserter(Transaction.class).persist(transactions);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
+    @Test
+    void upsertEntity() {
+        var entities = List.of(domainBuilder.entity().get(), domainBuilder.entity().get());
+        var metadata = entityMetadataRegistry.lookup(Entity.class);
+        var upserter = new BatchUpserter(
+                Entity.class,
+                dataSource,
+                new SimpleMeterRegistry(),
+                new CommonParserProperties(),
+                upsertQueryGeneratorFactory.get(Entity.class),
+                BinaryCopyWriter.create(metadata));
+        upserter.persist(entities);
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrderElementsOf(entities);
+    }
+
+    @Test
+    void upsertTokenAccount() {
+        var tokenAccounts = List.of(
+                domainBuilder
+                        .tokenAccount()
+                        .customize(t -> t.freezeStatus(FROZEN).kycStatus(REVOKED))
+                        .get(),
+                domainBuilder
+                        .tokenAccount()
+                        .customize(t -> t.freezeStatus(UNFROZEN).kycStatus(GRANTED))
+                        .get());
+        var metadata = entityMetadataRegistry.lookup(TokenAccount.class);
+        var upserter = new BatchUpserter(
+                TokenAccount.class,
+                dataSource,
+                new SimpleMeterRegistry(),
+                new CommonParserProperties(),
+                upsertQueryGeneratorFactory.get(TokenAccount.class),
+                BinaryCopyWriter.create(metadata));
+        upserter.persist(tokenAccounts);
+        assertThat(tokenAccountRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenAccounts);
+
+        // Enums are written as their id like in the CSV format
+        var sql = "select freeze_status || ',' || kyc_status from token_account order by freeze_status";
+        assertThat(jdbcOperations.queryForList(sql, String.class))
+                .containsExactly(FROZEN.getId() + "," + REVOKED.getId(), UNFROZEN.getId() + "," + GRANTED.getId());
+    }
+
+    @Test
+    @SneakyThrows
+    void write() {
+        var writer = BinaryCopyWriter.create(entityMetadataRegistry.lookupEntity(CryptoTransfer.class));
+        var outputStream = new ByteArrayOutputStream();
+        writer.write(outputStream, List.of());
+
+        // Header, flags, header extension length and trailer
+        assertThat(outputStream.toByteArray())
+                .hasSize(21)
+                .startsWith('P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0)
+                .endsWith((byte) 0xFF, (byte) 0xFF);
+        assertThat(writer.getColumns()).startsWith("amount,consensus_timestamp,entity_id");
+    }
+
+    private BatchInserter inserter(Class<?> entityClass) {
+        var metadata = entityMetadataRegistry.lookupEntity(entityClass);
+        return new BatchInserter(
+                entityClass,
+                dataSource,
+                new SimpleMeterRegistry(),
+                new CommonParserProperties(),
+                entityClass.getSimpleName(),
+                BinaryCopyWriter.create(metadata));
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+class ParallelTxManagerTest extends ImporterIntegrationTest {
+
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final ParallelTxManager parallelTxManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Test
+    void commit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            parallelTxManager.initialize();
+            persist();
+            assertThat(cryptoTransferRepository.count()).isZero();
+        });
+
+        assertThat(cryptoTransferRepository.count()).isOne();
+        assertThat(parallelTxManager.getThreadConnections()).isEmpty();
+        assertThat(countPrepared()).isZero();
+    }
+
+    @Test
+    void rollback() {
+        transactionTemplate.executeWithoutResult(status -> {
+            parallelTxManager.initialize();
+            persist();
+            status.setRollbackOnly();
+        });
+
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(parallelTxManager.getThreadConnections()).isEmpty();
+        assertThat(countPrepared()).isZero();
+    }
+
+    @Test
+    void commitPreparedRetried() {
+        transactionTemplate.executeWithoutResult(status -> {
+            parallelTxManager.initialize();
+            persist();
+            // Close the worker connections once prepared so that committing the prepared transactions on them fails
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                @SneakyThrows
+                public void beforeCommit(boolean readOnly) {
+                    for (var threadState : parallelTxManager.getThreadConnections().values()) {
+                        threadState.getConnection().close();
+                    }
+                }
+            });
+        });
+
+        assertThat(cryptoTransferRepository.count()).isOne();
+        assertThat(parallelTxManager.getThreadConnections()).isEmpty();
+        assertThat(countPrepared()).isZero();
+        assertThat(parallelTxManager.recoveryNeeded).isFalse();
+    }
+
+    @Test
+    @SneakyThrows
+    void recoverOnInitialize() {
+        // given
+        long parentTransactionId;
+        try (var parent = dataSource.getConnection()) {
+            parent.setAutoCommit(false);
+            parentTransactionId = getTransactionId(parent);
+            parent.commit();
+        }
+
+        prepare(parentTransactionId);
+        parallelTxManager.recoveryNeeded = true;
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> parallelTxManager.initialize());
+
+        // then
+        assertThat(countPrepared()).isZero();
+        assertThat(cryptoTransferRepository.count()).isOne();
+        assertThat(parallelTxManager.recoveryNeeded).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    @SneakyThrows
+    void recover(boolean committed) {
+        // given
+        long parentTransactionId;
+        try (var parent = dataSource.getConnection()) {
+            parent.setAutoCommit(false);
+            parentTransactionId = getTransactionId(parent);
+            if (committed) {
+                parent.commit();
+            } else {
+                parent.rollback();
+            }
+        }
+
+        prepare(parentTransactionId);
+        assertThat(countPrepared()).isOne();
+
+        // when
+        parallelTxManager.recover();
+
+        // then
+        assertThat(countPrepared()).isZero();
+        assertThat(cryptoTransferRepository.count()).isEqualTo(committed ? 1 : 0);
+    }
+
+    @Test
+    @SneakyThrows
+    void recoverInProgress() {
+        try (var parent = dataSource.getConnection()) {
+            parent.setAutoCommit(false);
+            var transactionId = prepare(getTransactionId(parent));
+
+            parallelTxManager.recover();
+
+            assertThat(countPrepared()).isOne();
+            jdbcOperations.execute(String.format("rollback prepared '%s'", transactionId));
+            parent.rollback();
+        }
+
+        assertThat(cryptoTransferRepository.count()).isZero();
+    }
+
+    private int countPrepared() {
+        return jdbcOperations.queryForObject(
+                "select count(*) from pg_prepared_xacts where database = current_database()", Integer.class);
+    }
+
+    private long getTransactionId(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("select txid_current()")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void insert(Connection connection) throws SQLException {
+        var sql = "insert into crypto_transfer (amount, consensus_timestamp, entity_id, payer_account_id) "
+                + "values (1, ?, 2, 3)";
+        try (var statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, domainBuilder.timestamp());
+            statement.executeUpdate();
+        }
+    }
+
+    private void persist() {
+        CompletableFuture.runAsync(() -> {
+                    try {
+                        var threadState = parallelTxManager.updateAndGetThreadState("crypto_transfer");
+                        insert(threadState.getConnection());
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .join();
+    }
+
+    private String prepare(long parentTransactionId) throws SQLException {
+        var transactionId = WorkerTxManager.TRANSACTION_ID_PREFIX + parentTransactionId + "_test";
+        try (var worker = dataSource.getConnection()) {
+            worker.setAutoCommit(false);
+            insert(worker);
+            try (var statement = worker.createStatement()) {
+                statement.execute(String.format("prepare transaction '%s'", transactionId));
+            }
+            worker.setAutoCommit(true);
+        }
+        return transactionId;
+    }
+}
@@ -280,7 +280,7 @@ class TransactionHashBatchInserterTest extends ImporterIntegrationTest {
         assertThreadState(Integer.MAX_VALUE, closedThread.getValue());
         threadStates.remove(closedThread.getKey());
 
-        closedThread.getValue().getProcessedShards().forEach(shard -> {
+        closedThread.getValue().getItems().forEach(shard -> {
             assertThat(TestUtils.getShardTransactionHashes(shard, jdbcTemplate)).isEmpty();
             shardMap.remove(shard);
         });
@@ -294,7 +294,7 @@ class TransactionHashBatchInserterTest extends ImporterIntegrationTest {
         });
 
         var expected = transactionHashes.stream()
-                .filter(hash -> !closedThread.getValue().getProcessedShards().contains(hash.calculateV1Shard()))
+                .filter(hash -> !closedThread.getValue().getItems().contains(hash.calculateV1Shard()))
                 .toList();
         assertThat(transactionHashRepository.findAll()).containsExactlyInAnyOrderElementsOf(expected);
     }
@@ -328,13 +328,13 @@ class TransactionHashBatchInserterTest extends ImporterIntegrationTest {
     }
 
     @SneakyThrows
-    private void assertThreadState(int status, TransactionHashTxManager.ThreadState threadState) {
+    private void assertThreadState(int status, WorkerTxManager.ThreadState<Integer> threadState) {
         assertThat(threadState.getStatus()).isEqualTo(status);
         assertThat(threadState.getConnection().isClosed()).isTrue();
     }
 
     private void assertThreadState(
-            int status, ConcurrentHashMap<String, TransactionHashTxManager.ThreadState> threadStates) {
+            int status, ConcurrentHashMap<String, WorkerTxManager.ThreadState<Integer>> threadStates) {
         assertThat(threadStates).isNotEmpty();
         threadStates.values().forEach(threadState -> assertThreadState(status, threadState));
     }
@@ -62,12 +62,12 @@ class TransactionHashTxManagerTest extends ImporterIntegrationTest {
         var thread1 = new Thread(() -> {
             var threadState = transactionHashTxManager.updateAndGetThreadState(hash1.calculateV1Shard());
             assertThat(threadState.getStatus()).isEqualTo(-1);
-            assertThat(threadState.getProcessedShards()).containsExactly(1);
+            assertThat(threadState.getItems()).containsExactly(1);
             TestUtils.insertIntoTransactionHash(jdbcTemplate, hash1);
 
             var threadState2 = transactionHashTxManager.updateAndGetThreadState(2);
             assertThat(threadState2).isEqualTo(threadState);
-            assertThat(threadState.getProcessedShards()).containsExactly(1, 2);
+            assertThat(threadState.getItems()).containsExactly(1, 2);
             assertThat(threadState2.getStatus()).isEqualTo(-1);
             TestUtils.insertIntoTransactionHash(jdbcTemplate, hash2);
         });
@@ -80,12 +80,12 @@ class TransactionHashTxManagerTest extends ImporterIntegrationTest {
         var thread2 = new Thread(() -> {
             var threadState = transactionHashTxManager.updateAndGetThreadState(3);
             assertThat(threadState.getStatus()).isEqualTo(-1);
-            assertThat(threadState.getProcessedShards()).containsExactly(3);
+            assertThat(threadState.getItems()).containsExactly(3);
             TestUtils.insertIntoTransactionHash(jdbcTemplate, hash3);
 
             var threadState2 = transactionHashTxManager.updateAndGetThreadState(4);
             assertThat(threadState2).isEqualTo(threadState);
-            assertThat(threadState.getProcessedShards()).containsExactly(3, 4);
+            assertThat(threadState.getItems()).containsExactly(3, 4);
             assertThat(threadState.getStatus()).isEqualTo(-1);
             TestUtils.insertIntoTransactionHash(jdbcTemplate, hash4);
         });
@@ -118,10 +118,10 @@ class TransactionHashTxManagerTest extends ImporterIntegrationTest {
     @ValueSource(ints = {0, 1, 2})
     @SneakyThrows
     void testCompletionStatus(int status) {
-        var threadState = new TransactionHashTxManager.ThreadState(mock(Connection.class));
-        var threadState2 = new TransactionHashTxManager.ThreadState(mock(Connection.class));
-        var threadState3 = new TransactionHashTxManager.ThreadState(mock(Connection.class));
-        var errorThreadState = new TransactionHashTxManager.ThreadState(mock(Connection.class));
+        var threadState = new WorkerTxManager.ThreadState<Integer>(mock(Connection.class));
+        var threadState2 = new WorkerTxManager.ThreadState<Integer>(mock(Connection.class));
+        var threadState3 = new WorkerTxManager.ThreadState<Integer>(mock(Connection.class));
+        var errorThreadState = new WorkerTxManager.ThreadState<Integer>(mock(Connection.class));
 
         transactionHashTxManager.getThreadConnections().put(UUID.randomUUID().toString(), threadState);
         transactionHashTxManager.getThreadConnections().put(UUID.randomUUID().toString(), threadState2);
@@ -142,7 +142,7 @@ class TransactionHashTxManagerTest extends ImporterIntegrationTest {
     }
 
     @SneakyThrows
-    void assertThreadState(TransactionHashTxManager.ThreadState threadState, int triedStatus, int outcomeStatus) {
+    void assertThreadState(WorkerTxManager.ThreadState<Integer> threadState, int triedStatus, int outcomeStatus) {
         assertThat(threadState.getStatus()).isEqualTo(outcomeStatus);
 
         if (triedStatus == STATUS_COMMITTED) {
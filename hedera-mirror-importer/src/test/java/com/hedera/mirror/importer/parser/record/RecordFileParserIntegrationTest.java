@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.parser.record;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
@@ -32,11 +33,15 @@ import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.TransactionRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.test.StepVerifier;
 
 @RequiredArgsConstructor
@@ -49,13 +54,20 @@ class RecordFileParserIntegrationTest extends ImporterIntegrationTest {
     private final RecordItemBuilder recordItemBuilder;
     private final RecordFileParser recordFileParser;
     private final RecordFileRepository recordFileRepository;
+    private final RecordParserProperties recordParserProperties;
     private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @BeforeEach
     void setup() {
         recordFileParser.clear();
     }
 
+    @AfterEach
+    void cleanup() {
+        recordParserProperties.getPipeline().setEnabled(false);
+    }
+
     @Test
     void parse() {
         // given
@@ -98,6 +110,76 @@ class RecordFileParserIntegrationTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isEqualTo(2 * transactions);
     }
 
+    @Test
+    void parseListPipelined() {
+        // given
+        int transactions = 100;
+        int entities = 50;
+        var recordFileTemplate = recordFileBuilder
+                .recordFile()
+                .recordItems(i -> i.count(transactions).entities(entities).type(TransactionType.CRYPTOTRANSFER));
+        var recordFile1 = recordFileTemplate.build();
+        var recordFile2 = recordFileTemplate.build();
+        var recordFile3 = recordFileTemplate.build();
+        recordParserProperties.getPipeline().setEnabled(true);
+
+        // when
+        recordFileParser.parse(List.of(recordFile1, recordFile2, recordFile3));
+
+        // then
+        assertRecordFile(recordFile1, recordFile2, recordFile3);
+        assertThat(cryptoTransferRepository.count()).isEqualTo(3 * 3 * transactions);
+        assertThat(transactionRepository.count()).isEqualTo(3 * transactions);
+    }
+
+    @Test
+    void rollbackPipelined() {
+        // given
+        var recordFileTemplate = recordFileBuilder.recordFile().recordItem(TransactionType.CRYPTOTRANSFER);
+        var recordFile1 = recordFileTemplate.build();
+        var recordFile2 = recordFileTemplate.build();
+        recordFile2.setItems(recordFile1.getItems()); // Re-processing same transactions should result in duplicate keys
+        recordParserProperties.getPipeline().setEnabled(true);
+
+        // when
+        Assertions.assertThrows(ParserException.class, () -> recordFileParser.parse(List.of(recordFile1, recordFile2)));
+
+        // then the staged record file is rolled back too
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    void rollbackPipelinedAfterPipelineCompletes() {
+        // given
+        var recordFileTemplate = recordFileBuilder.recordFile().recordItem(TransactionType.CRYPTOTRANSFER);
+        var recordFile1 = recordFileTemplate.build();
+        var recordFile2 = recordFileTemplate.build();
+        var exception = new IllegalStateException("Commit failed");
+        recordParserProperties.getPipeline().setEnabled(true);
+
+        // when the parser transaction fails to commit after the pipeline has persisted the batch
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                    recordFileParser.parse(List.of(recordFile1, recordFile2));
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            throw exception;
+                        }
+                    });
+                }))
+                .isSameAs(exception);
+
+        // then the pipeline is rolled back with the parser transaction
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(jdbcOperations.queryForObject(
+                        "select count(*) from pg_prepared_xacts where database = current_database()", Integer.class))
+                .isZero();
+    }
+
     @Test
     void parseSingleThenList() {
         // given
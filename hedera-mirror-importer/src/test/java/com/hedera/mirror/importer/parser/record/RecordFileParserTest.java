@@ -25,9 +25,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -42,6 +44,7 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.config.DateRangeCalculator;
 import com.hedera.mirror.importer.config.DateRangeCalculator.DateRangeFilter;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParserTest;
@@ -49,6 +52,7 @@ import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.StreamFileRepository;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractFunctionResult;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.SignatureMap;
@@ -60,15 +64,20 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, RecordFileParser> {
 
@@ -84,6 +93,12 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     @Mock
     private RecordItemListener recordItemListener;
 
+    @Mock
+    private EntityIdService entityIdService;
+
+    @Mock
+    private RecordFilePipeline recordFilePipeline;
+
     @Mock(strictness = LENIENT)
     private RecordStreamFileListener recordStreamFileListener;
 
@@ -108,6 +123,7 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         } else {
             if (dbError) {
                 verify(recordStreamFileListener, never()).onEnd(recordFile);
+                verify(recordStreamFileListener).onError();
             }
 
             verify(applicationEventPublisher, never()).publishEvent(any());
@@ -126,7 +142,9 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
                 recordItemListener,
                 recordStreamFileListener,
                 dateRangeCalculator,
-                new ParserContext());
+                entityIdService,
+                new ParserContext(),
+                recordFilePipeline);
     }
 
     @Override
@@ -220,6 +238,30 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
                 () -> verify(recordItemListener, times(1)).onItem(recordItem3));
     }
 
+    @Test
+    void preloadAliases() {
+        // given
+        var cryptoTransfer = recordItemBuilder.cryptoTransfer().build();
+        var cryptoDelete = recordItemBuilder.cryptoDelete().build();
+        var contractCall = recordItemBuilder.contractCall().build();
+        var contractDelete = recordItemBuilder.contractDelete().build();
+        var recordFile = getStreamFile(List.of(cryptoTransfer, cryptoDelete, contractCall, contractDelete), ++count);
+        var accountIds = new ArrayList<AccountID>();
+        var transfers = cryptoTransfer.getTransactionBody().getCryptoTransfer().getTransfers();
+        transfers.getAccountAmountsList().forEach(a -> accountIds.add(a.getAccountID()));
+        accountIds.add(cryptoDelete.getTransactionBody().getCryptoDelete().getTransferAccountID());
+        var contractIds = List.of(
+                contractCall.getTransactionBody().getContractCall().getContractID(),
+                contractDelete.getTransactionBody().getContractDeleteInstance().getContractID());
+
+        // when
+        parser.parse(recordFile);
+
+        // then
+        verify(entityIdService).preload(accountIds, contractIds);
+        verify(recordStreamFileListener).onEnd(recordFile);
+    }
+
     @ParameterizedTest(name = "startDate with offset {0}ns")
     @CsvSource({"-1", "0", "1"})
     void startDate(long offset) {
@@ -369,6 +411,56 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         assertThat(streamFile2.getBytes()).isNull();
     }
 
+    @Test
+    void parseListPipelined() {
+        // given
+        var platformTransactionManager = mock(PlatformTransactionManager.class);
+        when(platformTransactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        var parserContext = new ParserContext();
+        var parserProperties = new RecordParserProperties();
+        parserProperties.getPipeline().setEnabled(true);
+        var pipelinedParser = new RecordFileParser(
+                applicationEventPublisher,
+                new SimpleMeterRegistry(),
+                parserProperties,
+                recordFileRepository,
+                recordItemListener,
+                recordStreamFileListener,
+                dateRangeCalculator,
+                entityIdService,
+                parserContext,
+                new RecordFilePipeline(parserContext, parserProperties, platformTransactionManager));
+        var streamFile1 = getStreamFile();
+        var streamFile2 = getStreamFile();
+        var streamFile3 = getStreamFile();
+        streamFile2.setPreviousHash(streamFile1.getHash());
+        streamFile3.setPreviousHash(streamFile2.getHash());
+        var threads = new ConcurrentLinkedQueue<String>();
+        doAnswer(i -> threads.add(Thread.currentThread().getName()))
+                .when(recordStreamFileListener)
+                .onStage(any());
+        doAnswer(i -> threads.add(Thread.currentThread().getName()))
+                .when(recordStreamFileListener)
+                .onEnd(any());
+
+        // when
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            pipelinedParser.parse(List.of(streamFile1, streamFile2, streamFile3));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        // then all but the last record file are staged, and the batch still ends once
+        verify(recordStreamFileListener).onStage(streamFile1);
+        verify(recordStreamFileListener).onStage(streamFile2);
+        verify(recordStreamFileListener).onEnd(streamFile3);
+        verify(recordStreamFileListener, times(1)).onEnd(any());
+        verify(recordStreamFileListener, times(2)).onStage(any());
+        verify(platformTransactionManager).commit(any());
+        assertThat(threads).hasSize(3).containsOnly("record-file-pipeline");
+    }
+
     @Test
     void parseListEmpty() {
         // when
@@ -392,7 +484,8 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         // then
         verify(recordItemListener).onItem(recordItem1);
         verifyNoMoreInteractions(recordItemListener);
-        verifyNoInteractions(recordStreamFileListener);
+        verify(recordStreamFileListener).onError();
+        verifyNoMoreInteractions(recordStreamFileListener);
     }
 
     @Test
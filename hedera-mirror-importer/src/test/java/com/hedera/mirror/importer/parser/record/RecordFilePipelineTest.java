@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.batch.ParallelTxManager;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class RecordFilePipelineTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ParserContext parserContext = new ParserContext();
+    private final RecordParserProperties parserProperties = new RecordParserProperties();
+
+    @Mock
+    private ParallelTxManager transactionManager;
+
+    private RecordFilePipeline recordFilePipeline;
+
+    @BeforeEach
+    void setup() {
+        parserProperties.getPipeline().setEnabled(true);
+        recordFilePipeline = new RecordFilePipeline(parserContext, parserProperties, transactionManager);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        recordFilePipeline.stop(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void disabled() {
+        parserProperties.getPipeline().setEnabled(false);
+        assertThat(recordFilePipeline.start()).isFalse();
+        assertThat(recordFilePipeline.isStarted()).isFalse();
+        assertThatThrownBy(() -> recordFilePipeline.execute(() -> {})).isInstanceOf(IllegalStateException.class);
+        verify(transactionManager, never()).initialize();
+    }
+
+    @Test
+    void noTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        assertThat(recordFilePipeline.start()).isFalse();
+        assertThat(recordFilePipeline.isStarted()).isFalse();
+    }
+
+    @Test
+    void stageAndExecute() {
+        // given
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var recordFile = domainBuilder.recordFile().get();
+        var persisted = new ArrayList<Object>();
+        var threads = new ArrayList<String>();
+
+        // when
+        assertThat(recordFilePipeline.start()).isTrue();
+        parserContext.add(entity1);
+        recordFilePipeline.stage(recordFile, r -> {
+            threads.add(Thread.currentThread().getName());
+            persisted.add(r);
+            persisted.addAll(parserContext.get(Entity.class));
+        });
+        parserContext.add(entity2);
+        recordFilePipeline.execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            persisted.addAll(parserContext.get(Entity.class));
+        });
+        recordFilePipeline.stop(true);
+
+        // then
+        assertThat(recordFilePipeline.isStarted()).isFalse();
+        assertThat(threads).containsOnly("record-file-pipeline").hasSize(2);
+        assertThat(persisted).containsExactly(recordFile, entity1, entity1, entity2);
+        verify(transactionManager).initialize();
+        verify(transactionManager).updateAndGetThreadState(RecordFilePipeline.PIPELINE);
+    }
+
+    @Test
+    void stageFailure() {
+        // given
+        var executed = new AtomicBoolean(false);
+        var exception = new ParserException("Duplicate key");
+
+        // when
+        recordFilePipeline.start();
+        recordFilePipeline.stage(domainBuilder.recordFile().get(), r -> {
+            throw exception;
+        });
+
+        // then
+        assertThatThrownBy(() -> recordFilePipeline.execute(() -> executed.set(true)))
+                .isSameAs(exception);
+        assertThatThrownBy(() -> recordFilePipeline.stop(true)).isInstanceOf(ParserException.class);
+        assertThat(executed).isFalse();
+        assertThat(recordFilePipeline.isStarted()).isFalse();
+    }
+
+    @Test
+    void rollback() {
+        // given
+        var persisted = new ArrayList<RecordFile>();
+        var recordFile = domainBuilder.recordFile().get();
+
+        // when
+        recordFilePipeline.start();
+        recordFilePipeline.stage(recordFile, persisted::add);
+        recordFilePipeline.await();
+        recordFilePipeline.stop(false);
+
+        // then the parser transaction rolls back the pipeline connection
+        assertThat(persisted).containsExactly(recordFile);
+        assertThat(recordFilePipeline.isStarted()).isFalse();
+        verify(transactionManager).updateAndGetThreadState(RecordFilePipeline.PIPELINE);
+    }
+}
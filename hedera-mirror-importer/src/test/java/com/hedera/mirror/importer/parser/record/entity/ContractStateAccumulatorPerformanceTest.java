@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares merging the contract state changes of a synthetic storage heavy record file by their boxed composite id in
+ * the generic state of the ParserContext with merging them into its columnar contract state.
+ */
+@CustomLog
+@Tag("performance")
+class ContractStateAccumulatorPerformanceTest {
+
+    private static final int CONTRACTS = 50;
+    private static final int ITERATIONS = 5;
+    private static final int ROWS = 500_000;
+    private static final int SLOTS = 2_000;
+
+    @Test
+    void compare() {
+        var stateChanges = stateChanges();
+        long genericBytes = 0L;
+        long genericMillis = 0L;
+        long columnarBytes = 0L;
+        long columnarMillis = 0L;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            var stopwatch = Stopwatch.createStarted();
+            genericBytes += allocated(() -> {
+                var parserContext = new ParserContext();
+                for (var stateChange : stateChanges) {
+                    var contractState = new ContractState();
+                    contractState.setContractId(stateChange.getContractId());
+                    contractState.setCreatedTimestamp(stateChange.getConsensusTimestamp());
+                    contractState.setModifiedTimestamp(stateChange.getConsensusTimestamp());
+                    contractState.setSlot(stateChange.getSlot());
+                    contractState.setValue(stateChange.getValueWritten());
+                    parserContext.merge(contractState.getId(), contractState, (a, b) -> {
+                        a.setModifiedTimestamp(b.getModifiedTimestamp());
+                        a.setValue(b.getValue());
+                        return a;
+                    });
+                }
+                parserContext.forEach(c -> {});
+            });
+            genericMillis += stopwatch.elapsed(TimeUnit.MILLISECONDS);
+
+            stopwatch = Stopwatch.createStarted();
+            columnarBytes += allocated(() -> {
+                var parserContext = new ParserContext();
+                for (var stateChange : stateChanges) {
+                    parserContext.mergeContractState(
+                            stateChange.getContractId(),
+                            stateChange.getSlot(),
+                            stateChange.getValueWritten(),
+                            stateChange.getConsensusTimestamp());
+                }
+                parserContext.forEach(c -> {});
+            });
+            columnarMillis += stopwatch.elapsed(TimeUnit.MILLISECONDS);
+        }
+
+        log.info(
+                "Merged {} state changes {} times allocating {} MiB in {} ms generically and {} MiB in {} ms columnar",
+                ROWS,
+                ITERATIONS,
+                genericBytes / 1024 / 1024,
+                genericMillis,
+                columnarBytes / 1024 / 1024,
+                columnarMillis);
+        assertThat(columnarBytes).isLessThan(genericBytes);
+    }
+
+    private long allocated(Runnable runnable) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        runnable.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    // DeFi heavy blocks repeatedly write a small set of hot slots of a few contracts
+    private List<ContractStateChange> stateChanges() {
+        var random = new Random(1L);
+        var stateChanges = new ArrayList<ContractStateChange>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            var slot = new byte[32];
+            random.nextBytes(slot);
+            slot[0] = (byte) random.nextInt(SLOTS / 256);
+            slot[1] = (byte) random.nextInt(256);
+            var stateChange = new ContractStateChange();
+            stateChange.setConsensusTimestamp(i);
+            stateChange.setContractId(EntityId.of(1000L + random.nextInt(CONTRACTS)));
+            stateChange.setSlot(new byte[] {slot[0], slot[1]});
+            stateChange.setValueWritten(slot);
+            stateChanges.add(stateChange);
+        }
+        return stateChanges;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.common.util.DomainUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class ContractStateAccumulatorTest {
+
+    private final ContractStateAccumulator accumulator = new ContractStateAccumulator();
+
+    @Test
+    void clear() {
+        accumulator.merge(1L, new byte[] {1}, new byte[] {2}, 1L);
+        accumulator.clear();
+        assertThat(accumulator.size()).isZero();
+        assertThat(getContractStates()).isEmpty();
+
+        accumulator.merge(1L, new byte[] {1}, new byte[] {3}, 2L);
+        assertThat(getContractStates()).extracting(ContractState::getCreatedTimestamp).containsExactly(2L);
+    }
+
+    @Test
+    void merge() {
+        var slot = new byte[] {1, 2, 3};
+        var paddedSlot = DomainUtils.leftPadBytes(slot, 32);
+
+        assertThat(accumulator.merge(1L, slot, new byte[] {4}, 10L)).isTrue();
+        assertThat(accumulator.merge(1L, paddedSlot, new byte[] {5}, 11L)).isTrue();
+        assertThat(accumulator.merge(2L, slot, new byte[] {6}, 12L)).isTrue();
+        assertThat(accumulator.merge(1L, new byte[0], new byte[] {7}, 13L)).isTrue();
+
+        assertThat(accumulator.size()).isEqualTo(3);
+        assertThat(getContractStates())
+                .containsExactly(
+                        contractState(1L, paddedSlot, new byte[] {5}, 10L, 11L),
+                        contractState(2L, paddedSlot, new byte[] {6}, 12L, 12L),
+                        contractState(1L, new byte[32], new byte[] {7}, 13L, 13L));
+    }
+
+    @Test
+    void mergeUnsupportedSlot() {
+        assertThat(accumulator.merge(1L, null, new byte[] {1}, 1L)).isFalse();
+        assertThat(accumulator.merge(1L, new byte[33], new byte[] {1}, 1L)).isFalse();
+        assertThat(accumulator.size()).isZero();
+    }
+
+    @Test
+    void sameAsHashMap() {
+        var expected = new HashMap<ContractState.Id, ContractState>();
+        var random = new Random(1L);
+
+        for (int i = 0; i < 100_000; i++) {
+            long contractId = random.nextInt(100);
+            var slot = new byte[random.nextInt(33)];
+            if (slot.length > 0) {
+                slot[random.nextInt(slot.length)] = (byte) random.nextInt(16);
+            }
+            var value = new byte[] {(byte) i};
+            var current = contractState(contractId, DomainUtils.leftPadBytes(slot, 32), value, i, i);
+
+            accumulator.merge(contractId, slot, value, i);
+            expected.merge(current.getId(), current, (a, b) -> {
+                a.setModifiedTimestamp(b.getModifiedTimestamp());
+                a.setValue(b.getValue());
+                return a;
+            });
+        }
+
+        assertThat(accumulator.size()).isEqualTo(expected.size());
+        assertThat(getContractStates()).containsExactlyInAnyOrderElementsOf(expected.values());
+    }
+
+    private ContractState contractState(
+            long contractId, byte[] slot, byte[] value, long createdTimestamp, long modifiedTimestamp) {
+        return ContractState.builder()
+                .contractId(contractId)
+                .createdTimestamp(createdTimestamp)
+                .modifiedTimestamp(modifiedTimestamp)
+                .slot(slot)
+                .value(value)
+                .build();
+    }
+
+    private List<ContractState> getContractStates() {
+        var contractStates = new ArrayList<ContractState>();
+        accumulator.forEach(contractStates::add);
+        return contractStates;
+    }
+}
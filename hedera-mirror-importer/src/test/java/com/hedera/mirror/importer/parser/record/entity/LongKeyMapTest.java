@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LongKeyMapTest {
+
+    @Test
+    void invalidWidth() {
+        assertThatThrownBy(() -> new LongKeyMap<>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LongKeyMap<>(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void clear() {
+        var map = new LongKeyMap<String>(1);
+        map.merge(1L, 0L, "a", (a, b) -> b);
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(1L, 0L)).isNull();
+    }
+
+    @Test
+    void merge() {
+        var map = new LongKeyMap<String>(2);
+        assertThat(map.merge(1L, 2L, "a", (a, b) -> a + b)).isEqualTo("a");
+        assertThat(map.merge(1L, 2L, "b", (a, b) -> a + b)).isEqualTo("ab");
+        assertThat(map.merge(2L, 1L, "c", (a, b) -> a + b)).isEqualTo("c");
+        assertThat(map.get(1L, 2L)).isEqualTo("ab");
+        assertThat(map.get(2L, 1L)).isEqualTo("c");
+        assertThat(map.size()).isEqualTo(2);
+
+        // A null merge result removes the mapping like Map.merge
+        assertThat(map.merge(1L, 2L, "d", (a, b) -> null)).isNull();
+        assertThat(map.get(1L, 2L)).isNull();
+        assertThat(map.get(2L, 1L)).isEqualTo("c");
+        assertThat(map.size()).isOne();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2})
+    void sameAsHashMap(int width) {
+        var map = new LongKeyMap<Long>(width);
+        var expected = new HashMap<List<Long>, Long>();
+        var random = new Random(width);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key1 = random.nextInt(10_000);
+            long key2 = width == 2 ? random.nextInt(4) : 0L;
+            long value = random.nextInt(100);
+            // Remove the mapping when the merged value is a multiple of 10
+            var merged = map.merge(key1, key2, value, (a, b) -> (a + b) % 10 == 0 ? null : a + b);
+            var expectedMerged =
+                    expected.merge(List.of(key1, key2), value, (a, b) -> (a + b) % 10 == 0 ? null : a + b);
+            assertThat(merged).isEqualTo(expectedMerged);
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key.get(0), key.get(1)))
+                .isEqualTo(value));
+    }
+}
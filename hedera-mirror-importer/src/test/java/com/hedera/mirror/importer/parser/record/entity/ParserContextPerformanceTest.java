@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the memory allocated to merge token accounts by their boxed composite id in a HashMap with the primitive
+ * keyed state of the ParserContext.
+ */
+@CustomLog
+@Tag("performance")
+class ParserContextPerformanceTest {
+
+    private static final int ITERATIONS = 5;
+    private static final int ROWS = 500_000;
+
+    @Test
+    void compare() {
+        var tokenAccounts = tokenAccounts();
+        long hashMapBytes = 0L;
+        long parserContextBytes = 0L;
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            hashMapBytes += allocated(() -> {
+                var state = new HashMap<Object, TokenAccount>();
+                var inserts = new ArrayList<TokenAccount>();
+                for (var tokenAccount : tokenAccounts) {
+                    if (state.merge(tokenAccount.getId(), tokenAccount, (a, b) -> a) == tokenAccount) {
+                        inserts.add(tokenAccount);
+                    }
+                }
+            });
+
+            parserContextBytes += allocated(() -> {
+                var parserContext = new ParserContext();
+                for (var tokenAccount : tokenAccounts) {
+                    parserContext.merge(
+                            tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount, (a, b) -> a);
+                }
+            });
+        }
+
+        log.info(
+                "Merged {} token accounts {} times allocating {} MiB with HashMap and {} MiB with ParserContext",
+                ROWS,
+                ITERATIONS,
+                hashMapBytes / 1024 / 1024,
+                parserContextBytes / 1024 / 1024);
+        assertThat(parserContextBytes).isLessThan(hashMapBytes);
+    }
+
+    private long allocated(Runnable runnable) {
+        var threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        runnable.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private List<TokenAccount> tokenAccounts() {
+        var tokenAccounts = new ArrayList<TokenAccount>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            var tokenAccount = new TokenAccount();
+            tokenAccount.setAccountId(1000L + i / 4);
+            tokenAccount.setTokenId(2000L + i % 4);
+            tokenAccounts.add(tokenAccount);
+        }
+        return tokenAccounts;
+    }
+}
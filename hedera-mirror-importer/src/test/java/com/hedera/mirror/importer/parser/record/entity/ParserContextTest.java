@@ -20,7 +20,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.util.DomainUtils;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -78,16 +81,134 @@ class ParserContextTest {
         assertThat(parserContext.get(Entity.class)).containsExactly(domain);
     }
 
+    @Test
+    void getLong() {
+        assertThat(parserContext.get(Entity.class, 1L)).isNull();
+
+        var domain = domainBuilder.entity().get();
+        parserContext.merge(domain.getId().longValue(), domain, (a, b) -> a);
+        assertThat(parserContext.get(Entity.class, domain.getId().longValue())).isEqualTo(domain);
+        assertThat(parserContext.get(Entity.class, (Object) domain.getId())).isEqualTo(domain);
+    }
+
+    @Test
+    void getPair() {
+        var domain = domainBuilder.tokenAccount().get();
+        assertThat(parserContext.get(TokenAccount.class, domain.getAccountId(), domain.getTokenId()))
+                .isNull();
+
+        parserContext.merge(domain.getAccountId(), domain.getTokenId(), domain, (a, b) -> a);
+        assertThat(parserContext.get(TokenAccount.class, domain.getAccountId(), domain.getTokenId()))
+                .isEqualTo(domain);
+        assertThat(parserContext.get(TokenAccount.class, domain.getTokenId(), domain.getAccountId()))
+                .isNull();
+    }
+
+    @Test
+    void merge() {
+        var domain1 = domainBuilder.entity().get();
+        var domain2 = domainBuilder.entity().customize(e -> e.id(domain1.getId())).get();
+        var domain3 = domainBuilder.entity().get();
+
+        // Boxed and primitive keys are interchangeable
+        parserContext.merge(domain1.getId(), domain1, (a, b) -> a);
+        parserContext.merge(domain2.getId().longValue(), domain2, (a, b) -> a);
+        parserContext.merge(domain3.getId().longValue(), domain3, (a, b) -> a);
+
+        assertThat(parserContext.get(Entity.class, domain1.getId().longValue())).isEqualTo(domain1);
+        assertThat(parserContext.get(Entity.class)).containsExactly(domain1, domain3);
+    }
+
+    @Test
+    void mergeContractState() {
+        var slot = domainBuilder.bytes(15);
+        var longSlot = domainBuilder.bytes(33);
+        var value1 = domainBuilder.bytes(32);
+        var value2 = domainBuilder.bytes(32);
+
+        parserContext.mergeContractState(1L, slot, value1, 10L);
+        parserContext.mergeContractState(1L, DomainUtils.leftPadBytes(slot, 32), value2, 11L);
+        parserContext.mergeContractState(1L, longSlot, value1, 12L);
+        parserContext.mergeContractState(1L, longSlot, value2, 13L);
+
+        var expected1 = ContractState.builder()
+                .contractId(1L)
+                .createdTimestamp(10L)
+                .modifiedTimestamp(11L)
+                .slot(DomainUtils.leftPadBytes(slot, 32))
+                .value(value2)
+                .build();
+        var expected2 = ContractState.builder()
+                .contractId(1L)
+                .createdTimestamp(12L)
+                .modifiedTimestamp(13L)
+                .slot(longSlot)
+                .value(value2)
+                .build();
+        assertThat(parserContext.get(ContractState.class)).containsExactlyInAnyOrder(expected1, expected2);
+        assertThat(getItems()).containsExactly(List.of(expected2, expected1));
+
+        parserContext.clear();
+        assertThat(parserContext.get(ContractState.class)).isEmpty();
+    }
+
+    @Test
+    void mergePair() {
+        var domain1 = domainBuilder.tokenAccount().get();
+        var domain2 = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.accountId(domain1.getAccountId()).tokenId(domain1.getTokenId()))
+                .get();
+
+        parserContext.merge(domain1.getAccountId(), domain1.getTokenId(), domain1, (a, b) -> a);
+        parserContext.merge(domain2.getAccountId(), domain2.getTokenId(), domain2, (a, b) -> a);
+
+        assertThat(parserContext.get(TokenAccount.class, domain1.getAccountId(), domain1.getTokenId()))
+                .isEqualTo(domain1);
+        assertThat(parserContext.get(TokenAccount.class)).containsExactly(domain1);
+    }
+
     @Test
     void remove() {
         parserContext.remove(Entity.class);
         assertThatThrownBy(() -> parserContext.remove(null)).isInstanceOf(NullPointerException.class);
         var domain = domainBuilder.entity().get();
         parserContext.add(domain);
-        parserContext.remove(Entity.class);
+        assertThat(parserContext.remove(Entity.class)).containsExactly(domain);
         assertThat(getItems()).containsExactly(List.of());
     }
 
+    @Test
+    void stage() {
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        parserContext.merge(entity1.getId(), entity1, (a, b) -> a);
+        parserContext.merge(tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount, (a, b) -> a);
+
+        var staged = parserContext.stage();
+        parserContext.merge(entity2.getId(), entity2, (a, b) -> a);
+
+        // Staged domain objects are still visible to lookups but not persisted with the current state
+        assertThat(getItems()).containsExactly(List.of(entity2));
+        assertThat(parserContext.get(Entity.class, entity1.getId().longValue())).isEqualTo(entity1);
+        assertThat(parserContext.get(TokenAccount.class, tokenAccount.getAccountId(), tokenAccount.getTokenId()))
+                .isEqualTo(tokenAccount);
+        assertThat(parserContext.get(Entity.class)).containsExactly(entity1, entity2);
+        assertThat(parserContext.remove(Entity.class)).containsExactly(entity2);
+        assertThat(parserContext.get(Entity.class)).containsExactly(entity1);
+
+        // A bound staged state only sees its own domain objects
+        parserContext.bind(staged);
+        assertThat(getItems()).containsExactlyInAnyOrder(List.of(entity1), List.of(tokenAccount));
+        assertThat(parserContext.get(Entity.class, entity2.getId().longValue())).isNull();
+        parserContext.unbind();
+
+        parserContext.clear();
+        assertThat(parserContext.get(Entity.class, entity1.getId().longValue())).isNull();
+        assertThat(parserContext.get(Entity.class)).isEmpty();
+    }
+
     private Collection<Collection<?>> getItems() {
         var items = new ArrayList<Collection<?>>();
         parserContext.forEach(items::add);
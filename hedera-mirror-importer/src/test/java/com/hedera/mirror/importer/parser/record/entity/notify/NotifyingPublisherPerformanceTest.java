@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.notify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.entity.notify.NotifyProperties.NotifyFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the notifications built for the topic messages of a record file with a payload per message to those with a
+ * payload per range of messages.
+ */
+@CustomLog
+@Tag("performance")
+class NotifyingPublisherPerformanceTest {
+
+    private static final int ITERATIONS = 20;
+    private static final int MESSAGES = 10_000;
+    private static final int TOPICS = 100;
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Test
+    void compare() {
+        var topicMessages = topicMessages();
+        var message = run(NotifyFormat.MESSAGE, topicMessages);
+        var range = run(NotifyFormat.RANGE, topicMessages);
+
+        log.info(
+                "Built {} notifications of {} KiB in {} ms per message and {} of {} KiB in {} ms per range",
+                message.notifications(),
+                message.bytes() / 1024,
+                message.millis(),
+                range.notifications(),
+                range.bytes() / 1024,
+                range.millis());
+        assertThat(range.bytes()).isLessThan(message.bytes());
+        assertThat(range.millis()).isLessThanOrEqualTo(message.millis());
+    }
+
+    private Result run(NotifyFormat format, List<TopicMessage> topicMessages) {
+        var properties = new NotifyProperties();
+        properties.setFormat(format);
+        var publisher = new NotifyingPublisher(properties, null, new SimpleMeterRegistry(), new ParserContext());
+        publisher.getPayloads(topicMessages); // Warm up
+
+        long bytes = 0L;
+        int notifications = 0;
+        var stopwatch = Stopwatch.createStarted();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            var payloads = publisher.getPayloads(topicMessages);
+            notifications = payloads.size();
+            bytes = payloads.stream().mapToLong(String::length).sum();
+        }
+
+        return new Result(bytes, stopwatch.elapsed(TimeUnit.MILLISECONDS) / ITERATIONS, notifications);
+    }
+
+    private List<TopicMessage> topicMessages() {
+        var topicMessages = new ArrayList<TopicMessage>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            var topicId = EntityId.of(1000L + i % TOPICS);
+            topicMessages.add(
+                    domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get());
+        }
+        return topicMessages;
+    }
+
+    private record Result(long bytes, long millis, int notifications) {}
+}
@@ -18,15 +18,21 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 import static com.hedera.mirror.common.util.CommonUtils.nextBytes;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.topic.TopicMessageRange;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherTest;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.entity.notify.NotifyProperties.NotifyFormat;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
 import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.postgresql.jdbc.PgConnection;
 import reactor.core.publisher.Flux;
@@ -36,6 +42,8 @@ import reactor.test.StepVerifier;
 class NotifyingPublisherTest extends BatchPublisherTest {
 
     private final DataSource dataSource;
+    private final NotifyingPublisher notifyingPublisher;
+    private final NotifyProperties notifyProperties;
 
     public NotifyingPublisherTest(
             NotifyingPublisher entityListener,
@@ -44,6 +52,73 @@ class NotifyingPublisherTest extends BatchPublisherTest {
             DataSource dataSource) {
         super(entityListener, parserContext, properties);
         this.dataSource = dataSource;
+        this.notifyingPublisher = entityListener;
+        this.notifyProperties = properties;
+    }
+
+    @AfterEach
+    void cleanup() {
+        notifyProperties.setFormat(NotifyFormat.MESSAGE);
+        notifyProperties.setMaxJsonPayloadSize(new NotifyProperties().getMaxJsonPayloadSize());
+    }
+
+    @Test
+    void getPayloadsRange() throws Exception {
+        // given
+        notifyProperties.setFormat(NotifyFormat.RANGE);
+        var topicMessage1 = domainBuilder.topicMessage().get();
+        var topicMessage2 = domainBuilder.topicMessage().get();
+        var topicMessage3 = domainBuilder
+                .topicMessage()
+                .customize(t -> t.topicId(topicMessage1.getTopicId()))
+                .get();
+
+        // when
+        var payloads = notifyingPublisher.getPayloads(List.of(topicMessage1, topicMessage2, topicMessage3));
+
+        // then
+        var expected = TopicMessageRange.builder()
+                .consensusEnd(topicMessage3.getConsensusTimestamp())
+                .consensusStart(topicMessage1.getConsensusTimestamp())
+                .topicIds(List.of(
+                        topicMessage1.getTopicId().getId(),
+                        topicMessage2.getTopicId().getId()))
+                .build();
+        assertThat(payloads).hasSize(1);
+        assertThat(OBJECT_MAPPER.readValue(payloads.getFirst(), StreamMessage.class))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void getPayloadsRangeSplit() throws Exception {
+        // given
+        notifyProperties.setFormat(NotifyFormat.RANGE);
+        notifyProperties.setMaxJsonPayloadSize(150);
+        var topicMessages = new ArrayList<TopicMessage>();
+        for (int i = 0; i < 16; i++) {
+            topicMessages.add(domainBuilder.topicMessage().get());
+        }
+
+        // when
+        var payloads = notifyingPublisher.getPayloads(topicMessages);
+
+        // then
+        var topicIds = new ArrayList<Long>();
+        for (var payload : payloads) {
+            assertThat(payload.length()).isLessThan(150);
+            var range = (TopicMessageRange) OBJECT_MAPPER.readValue(payload, StreamMessage.class);
+            assertThat(range)
+                    .returns(topicMessages.getFirst().getConsensusTimestamp(), TopicMessageRange::getConsensusStart)
+                    .returns(topicMessages.getLast().getConsensusTimestamp(), TopicMessageRange::getConsensusEnd);
+            topicIds.addAll(range.getTopicIds());
+        }
+
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(topicIds)
+                .containsExactlyElementsOf(topicMessages.stream()
+                        .map(t -> t.getTopicId().getId())
+                        .sorted()
+                        .toList());
     }
 
     @Test
@@ -16,25 +16,34 @@
 
 package com.hedera.mirror.importer.parser.record.entity.redis;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
@@ -49,15 +58,20 @@ class RedisPublisherTest {
     @Mock
     private RedisOperations<String, StreamMessage> redisOperations;
 
+    @Mock
+    private RedisSerializer<StreamMessage> redisSerializer;
+
     private RedisPublisher entityListener;
+    private MeterRegistry meterRegistry;
     private ParserContext parserContext;
     private RedisProperties redisProperties;
 
     @BeforeEach
     void setup() {
+        meterRegistry = new SimpleMeterRegistry();
         parserContext = new ParserContext();
         redisProperties = new RedisProperties();
-        entityListener = new RedisPublisher(redisProperties, redisOperations, new SimpleMeterRegistry(), parserContext);
+        entityListener = newRedisPublisher();
     }
 
     @Test
@@ -70,7 +84,7 @@ class RedisPublisherTest {
         });
 
         // when
-        when(redisOperations.executePipelined(any(SessionCallback.class))).then((callback) -> {
+        when(redisOperations.executePipelined(any(RedisCallback.class))).then((callback) -> {
             Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(50L));
             sink.tryEmitNext(callback);
             return null;
@@ -93,7 +107,7 @@ class RedisPublisherTest {
 
         redisVerifier.verify(TIMEOUT);
         verify(redisOperations, timeout(TIMEOUT.toMillis() * 5).times(publishCount))
-                .executePipelined(any(SessionCallback.class));
+                .executePipelined(any(RedisCallback.class));
     }
 
     @Test
@@ -104,13 +118,65 @@ class RedisPublisherTest {
         // submitAndSave two messages, verify publish logic called twice
         submitAndSave(topicMessage1);
         submitAndSave(topicMessage2);
-        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
+        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shardByTopic() {
+        // given
+        redisProperties.setParallelism(2);
+        entityListener = newRedisPublisher();
+        var topicMessage1 = topicMessage(2L);
+        var topicMessage2 = topicMessage(3L);
+        var topicMessage3 = topicMessage(2L);
+        when(redisSerializer.serialize(any())).then(i -> body(i.getArgument(0)));
+
+        // when
+        parserContext.add(topicMessage1);
+        parserContext.add(topicMessage2);
+        parserContext.add(topicMessage3);
+        entityListener.onEnd(null);
+
+        // then
+        var callbacks = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(callbacks.capture());
+        var connection = mock(RedisConnection.class);
+        callbacks.getAllValues().forEach(c -> c.doInRedis(connection));
+
+        var ordered = inOrder(connection);
+        ordered.verify(connection).publish(channel(topicMessage1), body(topicMessage1));
+        ordered.verify(connection).publish(channel(topicMessage3), body(topicMessage3));
+        verify(connection).publish(channel(topicMessage2), body(topicMessage2));
+        assertThat(meterRegistry.find("hedera.mirror.importer.publish.queue").gauges())
+                .hasSize(2);
+        assertThat(meterRegistry.find("hedera.mirror.importer.publish.latency").timer())
+                .isNotNull();
+    }
+
+    private byte[] body(TopicMessage topicMessage) {
+        return new byte[] {(byte) topicMessage.getSequenceNumber()};
+    }
+
+    private byte[] channel(TopicMessage topicMessage) {
+        return ("topic." + topicMessage.getTopicId().getId()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private RedisPublisher newRedisPublisher() {
+        return new RedisPublisher(redisProperties, redisOperations, redisSerializer, meterRegistry, parserContext);
     }
 
     protected TopicMessage topicMessage() {
         return domainBuilder.topicMessage().get();
     }
 
+    private TopicMessage topicMessage(long topicId) {
+        return domainBuilder
+                .topicMessage()
+                .customize(t -> t.topicId(EntityId.of(topicId)))
+                .get();
+    }
+
     private void submitAndSave(TopicMessage topicMessage) {
         parserContext.add(topicMessage);
         entityListener.onEnd(null);
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.batch.ParallelTxManager;
+import com.hedera.mirror.importer.repository.ContractLogRepository;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.TokenTransferRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+class ParallelBatchPersisterTest extends ImporterIntegrationTest {
+
+    private final BatchPersister batchPersister;
+    private final ContractLogRepository contractLogRepository;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final EntityRepository entityRepository;
+    private final ParallelTxManager parallelTxManager;
+    private final TokenTransferRepository tokenTransferRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry simpleMeterRegistry;
+    private ParallelBatchPersister parallelBatchPersister;
+
+    @BeforeEach
+    void setup() {
+        var sqlProperties = new SqlProperties();
+        sqlProperties.setParallelism(4);
+        simpleMeterRegistry = new SimpleMeterRegistry();
+        parallelBatchPersister =
+                new ParallelBatchPersister(batchPersister, simpleMeterRegistry, sqlProperties, parallelTxManager);
+    }
+
+    @Test
+    void persist() {
+        var contractLogs = List.of(domainBuilder.contractLog().get(), domainBuilder.contractLog().get());
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get(), domainBuilder.cryptoTransfer().get());
+        var entities = List.of(domainBuilder.entity().get(), domainBuilder.entity().get());
+        var tokenTransfers = List.of(domainBuilder.tokenTransfer().get());
+        List<Collection<?>> batches = List.of(contractLogs, cryptoTransfers, entities, tokenTransfers);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            parallelBatchPersister.persist(batches);
+            // Rows copied by the workers aren't visible until the parent transaction commits
+            assertThat(cryptoTransferRepository.count()).isZero();
+        });
+
+        assertThat(contractLogRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractLogs);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(entityRepository.findAll()).containsExactlyInAnyOrderElementsOf(entities);
+        assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
+        assertThat(simpleMeterRegistry.find(ParallelBatchPersister.LATENCY_METRIC).timers()).hasSize(3);
+    }
+
+    @Test
+    void persistRollback() {
+        var contractLogs = List.of(domainBuilder.contractLog().get());
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get());
+        var entities = List.of(domainBuilder.entity().get());
+        List<Collection<?>> batches = List.of(contractLogs, cryptoTransfers, entities);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            parallelBatchPersister.persist(batches);
+            status.setRollbackOnly();
+        });
+
+        assertThat(contractLogRepository.count()).isZero();
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(entityRepository.count()).isZero();
+    }
+
+    @Test
+    void persistWithoutTransaction() {
+        var contractLogs = List.of(domainBuilder.contractLog().get());
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get());
+        List<Collection<?>> batches = List.of(contractLogs, cryptoTransfers);
+
+        parallelBatchPersister.persist(batches);
+
+        assertThat(contractLogRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractLogs);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(simpleMeterRegistry.find(ParallelBatchPersister.LATENCY_METRIC).timers()).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceChangeTrackerTest {
+
+    private BalanceChangeTracker balanceChangeTracker;
+    private HistoricalBalanceProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new HistoricalBalanceProperties(mock(BalanceDownloaderProperties.class));
+        properties.setIncremental(true);
+        balanceChangeTracker = new BalanceChangeTracker(properties);
+    }
+
+    @Test
+    void getChanges() {
+        // given
+        balanceChangeTracker.onSnapshot(100L);
+        balanceChangeTracker.onAccount(1001L, 150L);
+        balanceChangeTracker.onAccount(1000L, 110L);
+        balanceChangeTracker.onAccount(1002L, 210L);
+        balanceChangeTracker.onTokenAccount(1000L, 120L);
+        balanceChangeTracker.onTokenAccount(1003L, 220L);
+
+        // when
+        var changes = balanceChangeTracker.getChanges(100L, 200L);
+
+        // then changes after the snapshot timestamp are excluded
+        assertThat(changes).hasValueSatisfying(c -> {
+            assertThat(c.accountIds()).containsExactly(2L, 1000L, 1001L);
+            assertThat(c.tokenAccountIds()).containsExactly(1000L);
+        });
+    }
+
+    @Test
+    void getChangesNoPreviousSnapshot() {
+        balanceChangeTracker.onAccount(1000L, 110L);
+        assertThat(balanceChangeTracker.getChanges(100L, 200L)).isEmpty();
+    }
+
+    @Test
+    void getChangesSnapshotMismatch() {
+        balanceChangeTracker.onSnapshot(100L);
+        balanceChangeTracker.onAccount(1000L, 110L);
+        assertThat(balanceChangeTracker.getChanges(50L, 200L)).isEmpty();
+    }
+
+    @Test
+    void disabled() {
+        properties.setIncremental(false);
+        balanceChangeTracker.onSnapshot(100L);
+        balanceChangeTracker.onAccount(1000L, 110L);
+        assertThat(balanceChangeTracker.getChanges(100L, 200L)).isEmpty();
+
+        properties.setIncremental(true);
+        balanceChangeTracker.onSnapshot(100L);
+        assertThat(balanceChangeTracker.getChanges(100L, 200L))
+                .hasValueSatisfying(c -> assertThat(c.accountIds()).containsExactly(2L));
+    }
+
+    @Test
+    void onSnapshot() {
+        // given
+        balanceChangeTracker.onSnapshot(100L);
+        balanceChangeTracker.onAccount(1000L, 110L);
+        balanceChangeTracker.onAccount(1001L, 110L);
+        balanceChangeTracker.onAccount(1001L, 210L);
+        balanceChangeTracker.onTokenAccount(1000L, 110L);
+        balanceChangeTracker.onTokenAccount(1002L, 210L);
+
+        // when
+        balanceChangeTracker.onSnapshot(200L);
+
+        // then the changes after the snapshot are kept for the next one
+        assertThat(balanceChangeTracker.getChanges(200L, 300L)).hasValueSatisfying(c -> {
+            assertThat(c.accountIds()).containsExactly(2L, 1001L);
+            assertThat(c.tokenAccountIds()).containsExactly(1002L);
+        });
+    }
+}
@@ -57,7 +57,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
@@ -75,6 +75,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
     private final @Owner JdbcTemplate jdbcTemplate;
@@ -160,14 +161,16 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.setIncremental(false);
         properties.setTokenBalances(true);
     }
 
     @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void generate(boolean tokenBalances) {
+    @CsvSource({"true, false", "false, false", "true, true", "false, true"})
+    void generate(boolean tokenBalances, boolean incremental) {
         // given
         setup();
+        properties.setIncremental(incremental);
         properties.setTokenBalances(tokenBalances);
         var existinigAccountBalanceFile = domainBuilder
                 .accountBalanceFile()
@@ -215,6 +218,10 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
                 .persist();
         updatedEntities = List.of(treasuryAccount, account, newAccount);
         var updatedTokenAccounts = List.of(tokenAccount, newTokenAccount);
+        // the changes tracked while parsing the transfers
+        balanceChangeTracker.onAccount(account.getId(), account.getBalanceTimestamp());
+        balanceChangeTracker.onAccount(newAccount.getId(), newAccount.getBalanceTimestamp());
+        balanceChangeTracker.onTokenAccount(account.getId(), account.getBalanceTimestamp());
 
         // process a record file which doesn't reach the next balances snapshot interval
         var existingAccountBalanceFiles = Lists.newArrayList(accountBalanceFileRepository.findAll());
@@ -69,6 +69,7 @@ class HistoricalBalanceServiceTest {
         var service = new HistoricalBalanceService(
                 accountBalanceFileRepository,
                 accountBalanceRepository,
+                new BalanceChangeTracker(historicalBalanceProperties),
                 new SimpleMeterRegistry(),
                 platformTransactionManager,
                 historicalBalanceProperties,
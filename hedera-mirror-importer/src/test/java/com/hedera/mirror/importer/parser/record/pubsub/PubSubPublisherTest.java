@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import static com.hedera.mirror.importer.parser.record.pubsub.PubSubPublisher.CONSENSUS_TIMESTAMP_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.GcpPubSubHeaders;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.awaitility.Durations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PubSubPublisherTest {
+
+    private static final String TOPIC_NAME = "topic-name";
+
+    @Mock
+    private Publisher publisher;
+
+    @Mock
+    private PublisherFactory publisherFactory;
+
+    @Mock
+    private PubSubTemplate pubSubTemplate;
+
+    private PubSubProperties properties;
+
+    @BeforeEach
+    void setup() {
+        properties = new PubSubProperties();
+        properties.setBatchSize(2);
+        properties.setMaxSendAttempts(3);
+        properties.setTopicName(TOPIC_NAME);
+    }
+
+    @Test
+    void batches() {
+        // given
+        var pubSubPublisher = pubSubPublisher();
+        var message1 = message(1L, 10L);
+        var message2 = message(2L, 11L);
+        var message3 = message(3L, 12L);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenAnswer(i -> CompletableFuture.completedFuture("id"));
+
+        // when
+        pubSubPublisher.publish(message1);
+        pubSubPublisher.publish(message2);
+        pubSubPublisher.publish(message3);
+
+        // then
+        verify(pubSubTemplate, times(2)).publish(eq(TOPIC_NAME), any(PubSubMessage.class), any());
+
+        // when
+        pubSubPublisher.await();
+
+        // then
+        assertThat(publishedMessages(3)).containsExactly(message1, message2, message3);
+        assertThat(publishedHeaders()).containsExactly(headers(1L), headers(2L), headers(3L));
+    }
+
+    @Test
+    void awaitEmpty() {
+        pubSubPublisher().await();
+        verify(pubSubTemplate, never()).publish(any(), any(PubSubMessage.class), any());
+    }
+
+    @Test
+    void maxInFlight() {
+        // given
+        properties.setBatchSize(1);
+        properties.setMaxInFlight(1);
+        var pubSubPublisher = pubSubPublisher();
+        var future = new CompletableFuture<String>();
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenReturn(future)
+                .thenAnswer(i -> CompletableFuture.completedFuture("id"));
+        pubSubPublisher.publish(message(1L, 10L));
+
+        // when
+        var second = CompletableFuture.runAsync(() -> pubSubPublisher.publish(message(2L, 11L)));
+
+        // then
+        await().pollDelay(Duration.ofMillis(200)).atMost(Durations.ONE_SECOND).until(() -> !second.isDone());
+        verify(pubSubTemplate, times(1)).publish(eq(TOPIC_NAME), any(PubSubMessage.class), any());
+
+        // when
+        future.complete("id");
+
+        // then
+        await().atMost(Durations.ONE_SECOND).until(second::isDone);
+        pubSubPublisher.await();
+        verify(pubSubTemplate, times(2)).publish(eq(TOPIC_NAME), any(PubSubMessage.class), any());
+    }
+
+    @Test
+    void ordered() {
+        // given
+        properties.setOrdered(true);
+        var pubSubPublisher = pubSubPublisher();
+        var message1 = message(1L, 10L);
+        var message2 = message(2L, 10L);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("paused")))
+                .thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("paused")))
+                .thenAnswer(i -> CompletableFuture.completedFuture("id"));
+        doReturn(publisher).when(publisherFactory).createPublisher(TOPIC_NAME);
+
+        // when
+        pubSubPublisher.publish(message2);
+        pubSubPublisher.publish(message1);
+        pubSubPublisher.await();
+
+        // then the failed messages are resent in consensus order once their ordering key is resumed
+        var orderingKey = EntityId.of(10L).toString();
+        assertThat(publishedMessages(4)).containsExactly(message2, message1, message1, message2);
+        assertThat(publishedHeaders())
+                .allSatisfy(headers -> assertThat(headers).containsEntry(GcpPubSubHeaders.ORDERING_KEY, orderingKey));
+        verify(publisher).resumePublish(orderingKey);
+    }
+
+    @Test
+    void retriesFailedMessages() {
+        // given
+        var pubSubPublisher = pubSubPublisher();
+        var message1 = message(1L, 10L);
+        var message2 = message(2L, 11L);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenAnswer(i -> CompletableFuture.completedFuture("id"));
+
+        // when
+        pubSubPublisher.publish(message1);
+        pubSubPublisher.publish(message2);
+        pubSubPublisher.await();
+
+        // then
+        assertThat(publishedMessages(3)).containsExactly(message1, message2, message1);
+        verify(publisherFactory, never()).createPublisher(any());
+    }
+
+    @Test
+    void retriesExhausted() {
+        // given
+        var pubSubPublisher = pubSubPublisher();
+        var message = message(1L, 10L);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("error")));
+        pubSubPublisher.publish(message);
+
+        // when, then
+        assertThatThrownBy(pubSubPublisher::await)
+                .isInstanceOf(ParserException.class)
+                .hasMessage("Failed to send 1 messages to PubSub after 3 attempts");
+        assertThat(publishedMessages(3)).containsOnly(message);
+
+        // when the failed messages were given up
+        pubSubPublisher.await();
+
+        // then
+        verify(pubSubTemplate, times(3)).publish(eq(TOPIC_NAME), any(PubSubMessage.class), any());
+    }
+
+    @Test
+    void nonRetryableError() {
+        // given
+        properties.setBatchSize(1);
+        var pubSubPublisher = pubSubPublisher();
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenThrow(RuntimeException.class);
+
+        // when, then
+        assertThatThrownBy(() -> pubSubPublisher.publish(message(1L, 10L)))
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Error sending transaction to pubsub");
+        pubSubPublisher.await();
+        verify(pubSubTemplate, times(1)).publish(eq(TOPIC_NAME), any(PubSubMessage.class), any());
+    }
+
+    @Test
+    void reset() {
+        // given
+        var pubSubPublisher = pubSubPublisher();
+        var message1 = message(1L, 10L);
+        var message2 = message(2L, 11L);
+        var message3 = message(3L, 12L);
+        var message4 = message(4L, 13L);
+        when(pubSubTemplate.publish(eq(TOPIC_NAME), any(PubSubMessage.class), any()))
+                .thenAnswer(i -> CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenAnswer(i -> CompletableFuture.completedFuture("id"));
+        pubSubPublisher.publish(message1);
+        pubSubPublisher.publish(message2);
+        pubSubPublisher.publish(message3);
+
+        // when
+        pubSubPublisher.reset();
+        pubSubPublisher.publish(message4);
+        pubSubPublisher.await();
+
+        // then neither the failed nor the unsent messages of the failed parse are published
+        assertThat(publishedMessages(3)).containsExactly(message1, message2, message4);
+    }
+
+    private Map<String, String> headers(long consensusTimestamp) {
+        return Map.of(CONSENSUS_TIMESTAMP_HEADER, String.valueOf(consensusTimestamp));
+    }
+
+    private PubSubMessage message(long consensusTimestamp, long entityId) {
+        return new PubSubMessage(consensusTimestamp, EntityId.of(entityId), 14, null, null, null);
+    }
+
+    private List<PubSubMessage> publishedMessages(int count) {
+        var captor = ArgumentCaptor.forClass(PubSubMessage.class);
+        verify(pubSubTemplate, times(count)).publish(eq(TOPIC_NAME), captor.capture(), any());
+        return captor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, String>> publishedHeaders() {
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(pubSubTemplate, atLeastOnce()).publish(eq(TOPIC_NAME), any(PubSubMessage.class), captor.capture());
+        return captor.getAllValues();
+    }
+
+    private PubSubPublisher pubSubPublisher() {
+        return new PubSubPublisher(properties, publisherFactory, pubSubTemplate);
+    }
+}
@@ -17,10 +17,8 @@
 package com.hedera.mirror.importer.parser.record.pubsub;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mock.Strictness.LENIENT;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -29,7 +27,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.google.cloud.spring.pubsub.core.PubSubTemplate;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -38,7 +35,6 @@ import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.exception.InvalidEntityException;
 import com.hedera.mirror.importer.addressbook.AddressBookService;
-import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.domain.PubSubMessage;
 import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandler;
 import com.hedera.mirror.importer.parser.record.transactionhandler.TransactionHandlerFactory;
@@ -65,9 +61,6 @@ import com.hederahashgraph.api.proto.java.TransferList;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -93,18 +86,15 @@ class PubSubRecordItemListenerTest {
 
     private static final NodeAddressBook UPDATED = addressBook(3);
 
-    private static final String TOPIC_NAME = "topic-name";
-
     @Mock(strictness = LENIENT)
     private AddressBookService addressBookService;
 
     @Mock
-    private PubSubTemplate pubSubTemplate;
+    private PubSubPublisher pubSubPublisher;
 
     @Mock
     private TransactionHandler transactionHandler;
 
-    private PubSubProperties pubSubProperties;
     private PubSubRecordItemListener pubSubRecordItemListener;
 
     private static AccountAmount buildAccountAmount(long accountNum, long amount) {
@@ -161,18 +151,12 @@ class PubSubRecordItemListenerTest {
     @BeforeEach
     void beforeEach() {
         TransactionHandlerFactory transactionHandlerFactory = mock(TransactionHandlerFactory.class);
-        pubSubProperties = new PubSubProperties();
-        pubSubProperties.setTopicName(TOPIC_NAME);
         when(transactionHandlerFactory.get(any())).thenReturn(transactionHandler);
         doReturn(true).when(addressBookService).isAddressBook(EntityId.of(ADDRESS_BOOK_FILE_ID));
-        when(transactionHandlerFactory.get(any())).thenReturn(transactionHandler);
-        var responseFuture = mock(CompletableFuture.class);
-        doReturn(responseFuture).when(pubSubTemplate).publish(any(), any(), any());
-        pubSubRecordItemListener = new PubSubRecordItemListener(
-                pubSubProperties, pubSubTemplate, addressBookService, transactionHandlerFactory);
+        pubSubRecordItemListener =
+                new PubSubRecordItemListener(pubSubPublisher, addressBookService, transactionHandlerFactory);
     }
 
-    @SuppressWarnings("unchecked")
     @Test
     void testPubSubMessage() throws Exception {
         // given
@@ -187,15 +171,6 @@ class PubSubRecordItemListenerTest {
 
         // when
         doReturn(topicIdEntity).when(transactionHandler).getEntity(any());
-        var successFuture = mock(CompletableFuture.class);
-        when(pubSubTemplate.publish(any(), any(), any())).thenReturn(successFuture);
-        doAnswer(invocationOnMock -> {
-                    BiConsumer<String, Throwable> callback = invocationOnMock.getArgument(0);
-                    callback.accept("{}", null);
-                    return null;
-                })
-                .when(successFuture)
-                .whenComplete(any());
 
         var recordItem = RecordItem.builder()
                 .transactionRecord(DEFAULT_RECORD)
@@ -204,8 +179,7 @@ class PubSubRecordItemListenerTest {
         pubSubRecordItemListener.onItem(recordItem);
 
         // then
-        verify(successFuture).whenComplete(any());
-        var pubSubMessage = assertPubSubMessage(buildPubSubTransaction(recordItem, transaction), 1);
+        var pubSubMessage = assertPubSubMessage(buildPubSubTransaction(recordItem, transaction));
         assertThat(pubSubMessage.getEntity()).isEqualTo(topicIdEntity);
         assertThat(pubSubMessage.getNonFeeTransfers()).isNull();
     }
@@ -229,7 +203,7 @@ class PubSubRecordItemListenerTest {
         pubSubRecordItemListener.onItem(recordItem);
 
         // then
-        var pubSubMessage = assertPubSubMessage(buildPubSubTransaction(recordItem, transaction), 1);
+        var pubSubMessage = assertPubSubMessage(buildPubSubTransaction(recordItem, transaction));
         assertThat(pubSubMessage.getEntity()).isNull();
         assertThat(pubSubMessage.getNonFeeTransfers()).isNull();
     }
@@ -256,63 +230,11 @@ class PubSubRecordItemListenerTest {
         pubSubRecordItemListener.onItem(recordItem);
 
         // then
-        var pubSubMessage = assertPubSubMessage(buildPubSubTransaction(recordItem, transaction), 1);
+        var pubSubMessage = assertPubSubMessage(buildPubSubTransaction(recordItem, transaction));
         assertThat(pubSubMessage.getEntity()).isNull();
         assertThat(pubSubMessage.getNonFeeTransfers()).isEqualTo(nonFeeTransfers);
     }
 
-    @Test
-    void testNonRetryableError() {
-        // when
-        CryptoTransferTransactionBody cryptoTransfer = CryptoTransferTransactionBody.newBuilder()
-                .setTransfers(TransferList.newBuilder().build())
-                .build();
-        Transaction transaction = buildTransaction(builder -> builder.setCryptoTransfer(cryptoTransfer));
-        RecordItem recordItem = RecordItem.builder()
-                .transactionRecord(DEFAULT_RECORD)
-                .transaction(transaction)
-                .build();
-
-        // when
-        when(pubSubTemplate.publish(any(), any(), any())).thenThrow(RuntimeException.class);
-
-        // then
-        assertThatThrownBy(() -> pubSubRecordItemListener.onItem(recordItem))
-                .isInstanceOf(ParserException.class)
-                .hasMessageContaining("Error sending transaction to pubsub");
-        verify(pubSubTemplate, times(1)).publish(any(), any(), any());
-    }
-
-    @SuppressWarnings("unchecked")
-    @Test
-    void testSendRetries() throws Exception {
-        CryptoTransferTransactionBody cryptoTransfer = CryptoTransferTransactionBody.newBuilder()
-                .setTransfers(TransferList.newBuilder().build())
-                .build();
-        Transaction transaction = buildTransaction(builder -> builder.setCryptoTransfer(cryptoTransfer));
-        pubSubProperties.setMaxSendAttempts(3);
-
-        // when
-        var failFuture = mock(CompletableFuture.class);
-        when(pubSubTemplate.publish(any(), any(), any())).thenReturn(failFuture);
-        doAnswer(invocationOnMock -> {
-                    BiConsumer<String, Throwable> callback = invocationOnMock.getArgument(0);
-                    callback.accept(null, new RuntimeException("error"));
-                    return null;
-                })
-                .when(failFuture)
-                .whenComplete(any());
-
-        var recordItem = RecordItem.builder()
-                .transactionRecord(DEFAULT_RECORD)
-                .transaction(transaction)
-                .build();
-        pubSubRecordItemListener.onItem(recordItem);
-
-        // then
-        assertPubSubMessage(buildPubSubTransaction(recordItem, transaction), 4);
-    }
-
     @Test
     void testNetworkAddressBookAppend() {
         // given
@@ -397,22 +319,12 @@ class PubSubRecordItemListenerTest {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private PubSubMessage assertPubSubMessage(PubSubMessage pubSubMessage, int numSendTries) {
-        Map<String, String> header = Map.of("consensusTimestamp", CONSENSUS_TIMESTAMP.toString());
-        ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
+    private PubSubMessage assertPubSubMessage(PubSubMessage pubSubMessage) {
         ArgumentCaptor<PubSubMessage> pubSubMessageCaptor = ArgumentCaptor.forClass(PubSubMessage.class);
-        ArgumentCaptor<Map<String, String>> headerCaptor = ArgumentCaptor.forClass(Map.class);
-        verify(pubSubTemplate, times(numSendTries))
-                .publish(topicCaptor.capture(), pubSubMessageCaptor.capture(), headerCaptor.capture());
-
-        var actualTopic = topicCaptor.getValue();
-        assertThat(actualTopic).isEqualTo(TOPIC_NAME);
-
-        var actualHeader = headerCaptor.getValue();
-        assertThat(actualHeader).isEqualTo(header);
+        verify(pubSubPublisher).publish(pubSubMessageCaptor.capture());
 
         var actualPubSubMessage = pubSubMessageCaptor.getValue();
+        assertThat(actualPubSubMessage.getConsensusTimestamp()).isEqualTo(CONSENSUS_TIMESTAMP);
         assertThat(actualPubSubMessage.getTransaction()).isEqualTo(pubSubMessage.getTransaction());
         assertThat(actualPubSubMessage.getTransactionRecord()).isEqualTo(DEFAULT_RECORD);
         return actualPubSubMessage;
@@ -255,7 +255,7 @@ abstract class CsvBalanceFileReaderTest {
 
     protected void assertAccountBalanceFile(AccountBalanceFile accountBalanceFile) {
         assertThat(accountBalanceFile).isNotNull();
-        assertThat(accountBalanceFile.getBytes()).isNotEmpty();
+        assertThat(accountBalanceFile.getBytes()).isNull();
         assertThat(accountBalanceFile.getCount()).isEqualTo(expectedCount);
         assertThat(accountBalanceFile.getConsensusTimestamp()).isEqualTo(consensusTimestamp);
         assertThat(accountBalanceFile.getLoadStart()).isNotNull().isPositive();
@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.reader.balance;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.UnknownFieldSet;
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
@@ -28,10 +29,13 @@ import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.mirror.importer.exception.StreamFileReaderException;
 import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
 import com.hederahashgraph.api.proto.java.Timestamp;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.List;
@@ -41,6 +45,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.util.CloseableIterator;
 
 class ProtoBalanceFileReaderTest {
 
@@ -66,11 +71,60 @@ class ProtoBalanceFileReaderTest {
         AccountBalanceFile actual = protoBalanceFileReader.read(streamFileData);
         assertThat(actual)
                 .usingRecursiveComparison()
-                .ignoringFields("loadStart", "nodeAccountId")
+                .ignoringFields("items", "loadStart", "nodeAccountId")
                 .isEqualTo(expected);
+        assertThat(actual.getItems()).hasSize(10).containsExactlyElementsOf(expected.getItems());
         assertThat(actual.getLoadStart()).isNotNull().isPositive();
     }
 
+    @Test
+    void readItemsRepeatedly() {
+        var actual = protoBalanceFileReader.read(streamFileData);
+        var iterator = actual.getItems().iterator();
+        assertThat(iterator.next()).isEqualTo(expected.getItems().iterator().next());
+
+        // Each iteration decodes the balances again from the start of the file
+        assertThat(actual.getItems()).containsExactlyElementsOf(expected.getItems());
+        assertThat(actual.getItems()).containsExactlyElementsOf(expected.getItems());
+        assertThat(iterator).toIterable().hasSize(9);
+        assertThat(iterator.hasNext()).isFalse();
+    }
+
+    @Test
+    void closeItems() {
+        var actual = protoBalanceFileReader.read(streamFileData);
+        var iterator = (CloseableIterator<AccountBalance>) actual.getItems().iterator();
+        assertThat(iterator.next()).isEqualTo(expected.getItems().iterator().next());
+
+        iterator.close();
+        iterator.close();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(actual.getItems()).containsExactlyElementsOf(expected.getItems());
+    }
+
+    @Test
+    void corruptItem() throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        var output = CodedOutputStream.newInstance(outputStream);
+        output.writeMessage(
+                AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER,
+                Timestamp.newBuilder().setSeconds(1L).build());
+        output.writeMessage(
+                AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER,
+                SingleAccountBalances.newBuilder().setHbarBalance(1L).build());
+        output.writeByteArray(AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER, new byte[] {(byte) 0xff, (byte) 0xff});
+        output.flush();
+        var streamFileData = StreamFileData.from(TIMESTAMP + "_Balances.pb", outputStream.toByteArray());
+
+        // The entries are only decoded when iterated, so a corrupt entry passes the up front validation
+        var accountBalanceFile = protoBalanceFileReader.read(streamFileData);
+        assertThat(accountBalanceFile.getItems()).hasSize(2);
+
+        var iterator = accountBalanceFile.getItems().iterator();
+        assertThat(iterator.next().getBalance()).isEqualTo(1L);
+        assertThrows(StreamFileReaderException.class, iterator::next);
+    }
+
     @Test
     void emptyProtobuf() {
         AllAccountBalances allAccountBalances = AllAccountBalances.newBuilder().build();
@@ -158,8 +212,8 @@ class ProtoBalanceFileReaderTest {
                 })
                 .collect(Collectors.toList());
         return AccountBalanceFile.builder()
-                .bytes(streamFileData.getBytes())
                 .consensusTimestamp(consensusTimestamp)
+                .count(10L)
                 .fileHash(
                         "67c2fd054621366dd5a37b6ee36a51bc590361379d539fdac2265af08cb8097729218c7d9ff1f1e354c85b820c5b8cf8")
                 .items(accountBalances)
@@ -22,6 +22,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.google.common.primitives.Bytes;
 import com.google.common.primitives.Ints;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
@@ -37,10 +39,12 @@ import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
 import java.util.function.Function;
 import lombok.SneakyThrows;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.util.Version;
 
 class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
 
@@ -96,6 +100,31 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
         assertThat(recordFile.getDigestAlgorithm()).isEqualTo(DigestAlgorithm.SHA_384);
     }
 
+    @SneakyThrows
+    @Test
+    void testItemsBeforeHapiVersion() {
+        // Concatenated protobuf messages are merged, so the record stream items are encoded before the hapi version
+        var recordStreamFile = ProtoRecordStreamFile.getDefaultRecordStreamFileBuilder().build();
+        var items = RecordStreamFile.newBuilder()
+                .addAllRecordStreamItems(recordStreamFile.getRecordStreamItemsList())
+                .build();
+        var others = recordStreamFile.toBuilder().clearRecordStreamItems().build();
+        var data = Bytes.concat(Ints.toByteArray(6), items.toByteArray(), others.toByteArray());
+        var streamFileData = StreamFileData.from(FILENAME, gzip(data));
+        var recordFile = new ProtoRecordFileReader().read(streamFileData);
+
+        assertThat(recordFile)
+                .returns(1L, RecordFile::getCount)
+                .returns(27, RecordFile::getHapiVersionMajor)
+                .returns(100L, RecordFile::getIndex)
+                .returns(
+                        DomainUtils.bytesToHex(MessageDigest.getInstance("SHA-384").digest(data)),
+                        RecordFile::getFileHash);
+        assertThat(recordFile.getItems())
+                .singleElement()
+                .returns(new Version(27, 0, 0), RecordItem::getHapiVersion);
+    }
+
     @SneakyThrows
     private byte[] gzip(byte[] data) {
         try (var byteArrayOutputStream = new ByteArrayOutputStream();
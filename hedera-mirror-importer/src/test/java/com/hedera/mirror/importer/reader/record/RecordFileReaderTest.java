@@ -80,7 +80,7 @@ abstract class RecordFileReaderTest {
                             .usingRecursiveComparison()
                             .ignoringFields("bytes", "items", "loadStart", "logsBloomAggregator")
                             .isEqualTo(recordFile);
-                    assertThat(actual.getBytes()).isNotEmpty().isEqualTo(streamFileData.getBytes());
+                    assertThat(actual.getBytes()).isNull();
                     assertThat(actual.getLoadStart()).isNotNull().isPositive();
 
                     List<Version> hapiVersions = actual.getItems().stream()
@@ -26,8 +26,10 @@ import com.hedera.mirror.importer.TestRecordFiles;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.junit.jupiter.api.BeforeEach;
@@ -71,10 +73,64 @@ class SidecarFileReaderImplTest {
         sidecarFileReader.read(sidecar, streamFileData);
 
         assertThat(sidecar)
-                .returns(streamFileData.getBytes(), SidecarFile::getBytes)
+                .returns(null, SidecarFile::getBytes)
                 .isEqualTo(expected);
     }
 
+    @Test
+    void readStreaming() {
+        var expected = TestRecordFiles.getAll()
+                .get(RECORD_FILENAME)
+                .getSidecars()
+                .iterator()
+                .next();
+        var sidecar = expected.toBuilder()
+                .actualHash(null)
+                .bytes(null)
+                .count(null)
+                .size(null)
+                .records(null)
+                .build();
+        var streamFileData = StreamFileData.from(TestUtils.getResource(SIDECAR_FILE_PATH));
+        var records = new ArrayList<TransactionSidecarRecord>();
+
+        sidecarFileReader.read(sidecar, streamFileData, type -> true, records::add);
+
+        assertThat(records).isEqualTo(expected.getRecords());
+        assertThat(sidecar)
+                .returns(expected.getActualHash(), SidecarFile::getActualHash)
+                .returns(expected.getCount(), SidecarFile::getCount)
+                .returns(expected.getSize(), SidecarFile::getSize)
+                .returns(null, SidecarFile::getRecords);
+    }
+
+    @Test
+    void readStreamingFiltered() {
+        var expected = TestRecordFiles.getAll()
+                .get(RECORD_FILENAME)
+                .getSidecars()
+                .iterator()
+                .next();
+        var sidecar = expected.toBuilder()
+                .actualHash(null)
+                .count(null)
+                .records(null)
+                .build();
+        var streamFileData = StreamFileData.from(TestUtils.getResource(SIDECAR_FILE_PATH));
+        var records = new ArrayList<TransactionSidecarRecord>();
+
+        int stateChanges = TransactionSidecarRecord.STATE_CHANGES_FIELD_NUMBER;
+        sidecarFileReader.read(sidecar, streamFileData, type -> type == stateChanges, records::add);
+
+        var expectedRecords = expected.getRecords().stream()
+                .filter(TransactionSidecarRecord::hasStateChanges)
+                .toList();
+        assertThat(records).isEqualTo(expectedRecords);
+        assertThat(sidecar)
+                .returns(expected.getActualHash(), SidecarFile::getActualHash)
+                .returns(expected.getCount(), SidecarFile::getCount);
+    }
+
     @Test
     void readCorruptedGzipFile() {
         var streamFileData = StreamFileData.from(SIDECAR_FILENAME, domainBuilder.bytes(256));
@@ -198,6 +198,34 @@ class AccountBalanceRepositoryTest extends AbstractRepositoryTest {
         assertThat(accountBalanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    void balanceSnapshotIncremental() {
+        // given
+        var treasuryAccount = domainBuilder
+                .entity()
+                .customize(e -> e.id(2L).num(2L).balanceTimestamp(1L))
+                .persist();
+        var account = domainBuilder.entity().customize(e -> e.balanceTimestamp(150L)).persist();
+        var account2 = domainBuilder.entity().customize(e -> e.balanceTimestamp(150L)).persist();
+        var staleAccount =
+                domainBuilder.entity().customize(e -> e.balanceTimestamp(50L)).persist();
+        domainBuilder
+                .entity()
+                .customize(e -> e.balance(null).balanceTimestamp(null))
+                .persist();
+        var ids = List.of(2L, account.getId(), staleAccount.getId());
+
+        // when
+        int count = accountBalanceRepository.balanceSnapshotIncremental(100L, 200L, ids);
+
+        // then only the treasury account and the given accounts changed after the previous snapshot are included
+        assertThat(count).isEqualTo(2);
+        assertThat(accountBalanceRepository.findAll())
+                .containsExactlyInAnyOrder(
+                        buildAccountBalance(treasuryAccount, 200L), buildAccountBalance(account, 200L))
+                .doesNotContain(buildAccountBalance(account2, 200L));
+    }
+
     @Test
     void getMaxConsensusTimestampInRange() {
         // With no account balances present the max consensus timestamp is 0
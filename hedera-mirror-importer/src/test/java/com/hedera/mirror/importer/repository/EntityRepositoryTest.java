@@ -109,6 +109,17 @@ class EntityRepositoryTest extends AbstractRepositoryTest {
         assertThat(entityRepository.findByAlias(alias)).get().isEqualTo(entity.getId());
     }
 
+    @Test
+    void findByAliasIn() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        var entityDeleted =
+                domainBuilder.entity().customize(b -> b.deleted(true)).persist();
+        var aliases = List.of(entity1.getAlias(), entity2.getAlias(), entityDeleted.getAlias(), new byte[] {1, 2, 3});
+
+        assertThat(entityRepository.findByAliasIn(aliases)).containsExactlyInAnyOrder(entity1, entity2);
+    }
+
     @Test
     void findByEvmAddress() {
         Entity entity = domainBuilder.entity().persist();
@@ -122,6 +133,29 @@ class EntityRepositoryTest extends AbstractRepositoryTest {
         assertThat(entityRepository.findByEvmAddress(new byte[] {1, 2, 3})).isEmpty();
     }
 
+    @Test
+    void findByEvmAddressIn() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        var entityDeleted =
+                domainBuilder.entity().customize(b -> b.deleted(true)).persist();
+        var evmAddresses = List.of(
+                entity1.getEvmAddress(), entity2.getEvmAddress(), entityDeleted.getEvmAddress(), new byte[] {1, 2, 3});
+
+        assertThat(entityRepository.findByEvmAddressIn(evmAddresses)).containsExactlyInAnyOrder(entity1, entity2);
+    }
+
+    @Test
+    void findLatestWithAlias() {
+        var entity1 = domainBuilder.entity().persist();
+        var entity2 = domainBuilder.entity().persist();
+        domainBuilder.entity().customize(b -> b.alias(null).evmAddress(null)).persist();
+        domainBuilder.entity().customize(b -> b.deleted(true)).persist();
+
+        assertThat(entityRepository.findLatestWithAlias(10)).containsExactly(entity2, entity1);
+        assertThat(entityRepository.findLatestWithAlias(1)).containsExactly(entity2);
+    }
+
     @Test
     void updateContractType() {
         Entity entity = domainBuilder.entity().persist();
@@ -156,6 +156,30 @@ class TokenBalanceRepositoryTest extends AbstractRepositoryTest {
         assertThat(tokenBalanceRepository.findAll()).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    void balanceSnapshotIncremental() {
+        // given
+        var tokenAccount = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.balanceTimestamp(150L))
+                .persist();
+        var tokenAccount2 = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.accountId(tokenAccount.getAccountId()).balanceTimestamp(50L))
+                .persist();
+        domainBuilder.tokenAccount().customize(t -> t.balanceTimestamp(150L)).persist();
+
+        // when
+        int count =
+                tokenBalanceRepository.balanceSnapshotIncremental(100L, 200L, List.of(tokenAccount.getAccountId()));
+
+        // then only the token accounts of the given accounts changed after the previous snapshot are included
+        assertThat(count).isOne();
+        assertThat(tokenBalanceRepository.findAll())
+                .containsExactly(buildTokenBalance(tokenAccount, 200L))
+                .doesNotContain(buildTokenBalance(tokenAccount2, 200L));
+    }
+
     @Test
     void save() {
         var tokenBalance1 = domainBuilder.tokenBalance().get();
@@ -25,6 +25,7 @@ import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.token.CustomFee;
 import com.hedera.mirror.common.domain.token.Token;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import jakarta.persistence.Id;
 import java.util.Objects;
@@ -85,6 +86,25 @@ class EntityMetadataRegistryTest extends ImporterIntegrationTest {
                         .satisfies(d -> assertThat(entity.getAlias()).isEqualTo(newValue)));
     }
 
+    @Test
+    void lookupEntity() {
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        var metadata = registry.lookupEntity(TokenTransfer.class);
+
+        assertThat(metadata)
+                .isNotNull()
+                .returns("token_transfer", EntityMetadata::getTableName)
+                .returns(null, EntityMetadata::getUpsertable)
+                .returns("account_id,consensus_timestamp,token_id", e -> e.columns(ColumnMetadata::isId, "{0}"))
+                .extracting(e -> e.getColumns().stream()
+                        .filter(c -> c.getName().equals("account_id"))
+                        .findFirst()
+                        .get())
+                .returns("int8", ColumnMetadata::getDataType)
+                .satisfies(cm -> assertThat(cm.getGetter().apply(tokenTransfer))
+                        .isEqualTo(tokenTransfer.getId().getAccountId()));
+    }
+
     @Test
     @Transactional
     void lookupSameColumnNameFromMultipleDomainClasses() {
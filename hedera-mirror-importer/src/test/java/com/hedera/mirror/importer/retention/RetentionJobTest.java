@@ -41,9 +41,12 @@ class RetentionJobTest extends ImporterIntegrationTest {
     @BeforeEach
     void setup() {
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
+        retentionProperties.setParallelism(4);
         retentionProperties.setPeriod(Duration.ofDays(-1L));
+        retentionProperties.setTargetLatency(Duration.ofSeconds(10L));
         retentionProperties.setEnabled(true);
     }
 
@@ -182,6 +185,58 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void pruneDropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        recordFile();
+        recordFile();
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    void pruneSerially() {
+        // given
+        retentionProperties.setParallelism(1);
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile3);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void pruneTargetLatency() {
+        // given
+        retentionProperties.setBatchPeriod(Duration.ofDays(1L));
+        retentionProperties.setTargetLatency(Duration.ofMillis(1L));
+        var recordFile1 = recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile1.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactlyInAnyOrder(recordFile2, recordFile3);
+        assertThat(transactionRepository.count()).isEqualTo(2);
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
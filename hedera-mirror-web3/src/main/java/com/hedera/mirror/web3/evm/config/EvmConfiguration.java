@@ -85,6 +85,8 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_RECORD_FILE_EARLIEST = "recordFileEarliest";
     public static final String CACHE_MANAGER_RECORD_FILE_INDEX = "recordFileIndex";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
+    public static final String CACHE_MANAGER_STATE = "evmState";
+    public static final String CACHE_MANAGER_STATE_HISTORICAL = "evmStateHistorical";
     public static final String CACHE_MANAGER_SYSTEM_FILE = "systemFile";
     public static final String CACHE_MANAGER_TOKEN = "token";
     public static final String CACHE_NAME = "default";
@@ -94,6 +96,7 @@ public class EvmConfiguration {
     public static final String CACHE_NAME_NFT_ALLOWANCE = "nftAllowance";
     public static final String CACHE_NAME_RECORD_FILE_LATEST = "latest";
     public static final String CACHE_NAME_RECORD_FILE_LATEST_INDEX = "latestIndex";
+    public static final String CACHE_NAME_STORAGE = "storage";
     public static final String CACHE_NAME_TOKEN = "token";
     public static final String CACHE_NAME_TOKEN_ACCOUNT = "tokenAccount";
     public static final String CACHE_NAME_TOKEN_ALLOWANCE = "tokenAllowance";
@@ -143,6 +146,22 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_STATE)
+    CacheManager cacheManagerEvmState() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getState());
+        return caffeineCacheManager;
+    }
+
+    @Bean(CACHE_MANAGER_STATE_HISTORICAL)
+    CacheManager cacheManagerEvmStateHistorical() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME, CACHE_NAME_STORAGE));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getStateHistorical());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_SYSTEM_FILE)
     CacheManager cacheManagerSystemFile() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -70,6 +70,11 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private double estimateGasIterationThresholdPercent = 0.10d;
 
+    @Getter
+    @Max(16)
+    @Min(1)
+    private int estimateGasParallelism = 1;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -93,6 +98,9 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @NotBlank
     private String fundingAccount = "0x0000000000000000000000000000000000000062";
 
+    @Getter
+    private boolean historicalStatePrefetch = false;
+
     @Getter
     private long htsDefaultGasCost = 10000;
 
@@ -16,11 +16,17 @@
 
 package com.hedera.mirror.web3.evm.store;
 
+import static com.hedera.mirror.web3.evm.store.impl.UpdatableReferenceCacheLineState.ValueState.NOT_YET_FETCHED;
+
 import com.hedera.mirror.web3.evm.exception.WrongTypeException;
+import com.hedera.mirror.web3.evm.store.impl.UpdatableReferenceCacheLineState.Entry;
 import java.util.Optional;
 import lombok.NonNull;
 
-/** A CachingStateFrame that holds reads (falling through to an upstream cache) and disallows updates/deletes. */
+/**
+ * A CachingStateFrame that holds reads (falling through to an upstream cache) and disallows updates/deletes. Since it
+ * is never written to other than to fill it from upstream, it can be shared as the stack base of concurrent executions.
+ */
 public class ROCachingStateFrame<K> extends CachingStateFrame<K> {
 
     public ROCachingStateFrame(
@@ -32,14 +38,25 @@ public class ROCachingStateFrame<K> extends CachingStateFrame<K> {
     @NonNull
     public Optional<Object> getValue(
             @NonNull final Class<?> klass, @NonNull final UpdatableReferenceCache<K> cache, @NonNull final K key) {
-        final var entry = cache.get(key);
+        final Entry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+        }
+
         return switch (entry.state()) {
             case NOT_YET_FETCHED -> upstreamFrame.flatMap(upstreamFrame -> {
                 final var upstreamAccessor = upstreamFrame.getAccessor(klass);
                 try {
+                    // Read upstream outside the lock and keep the first value filled by a concurrent reader
                     final var upstreamValue = upstreamAccessor.get(key);
-                    cache.fill(key, upstreamValue.orElse(null));
-                    return upstreamValue;
+                    synchronized (cache) {
+                        final var current = cache.get(key);
+                        if (current.state() == NOT_YET_FETCHED) {
+                            cache.fill(key, upstreamValue.orElse(null));
+                            return upstreamValue;
+                        }
+                        return Optional.ofNullable(current.value());
+                    }
                 } catch (final WrongTypeException e) {
                     throw new CacheAccessIncorrectTypeException(e.getMessage());
                 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store;
+
+import java.util.Optional;
+import lombok.NonNull;
+
+/** A CachingStateFrame that answers reads from the {@link SharedStateCache}, falling through to the database-backed
+ * frame below it, and disallows all local updates/deletes. */
+public class SharedCachingStateFrame<K> extends CachingStateFrame<K> {
+
+    private final long blockIndex;
+    private final boolean historical;
+    private final SharedStateCache sharedStateCache;
+
+    /** Create a frame reading the state at the end of the given block if historical, else the latest state */
+    public SharedCachingStateFrame(
+            @NonNull final Optional<CachingStateFrame<K>> upstreamFrame,
+            @NonNull final SharedStateCache sharedStateCache,
+            final long blockIndex,
+            final boolean historical,
+            @NonNull final Class<?>... klassesToCache) {
+        super(upstreamFrame, klassesToCache);
+        this.blockIndex = blockIndex;
+        this.historical = historical;
+        this.sharedStateCache = sharedStateCache;
+    }
+
+    @Override
+    @NonNull
+    public Optional<Object> getValue(
+            @NonNull final Class<?> klass, @NonNull final UpdatableReferenceCache<K> cache, @NonNull final K key) {
+        return upstreamFrame.flatMap(upstreamFrame -> sharedStateCache.get(
+                blockIndex, historical, klass, key, () -> upstreamFrame.getAccessor(klass).get(key)));
+    }
+
+    @Override
+    public void setValue(
+            @NonNull final Class<?> klass,
+            @NonNull final UpdatableReferenceCache<K> cache,
+            @NonNull final K key,
+            @NonNull final Object value) {
+        throw new UnsupportedOperationException("Cannot write value to a shared cache");
+    }
+
+    @Override
+    public void deleteValue(
+            @NonNull final Class<?> klass, @NonNull final UpdatableReferenceCache<K> cache, @NonNull final K key) {
+        throw new UnsupportedOperationException("Cannot delete value from a shared cache");
+    }
+
+    @Override
+    public void updatesFromDownstream(@NonNull final CachingStateFrame<K> childFrame) {
+        throw new UnsupportedOperationException("Cannot commit to a shared cache");
+    }
+
+    @Override
+    public void commit() {
+        throw new UnsupportedOperationException("Cannot commit to a shared cache");
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_STATE_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
+import com.hedera.services.store.models.Account;
+import com.hedera.services.store.models.Token;
+import com.hedera.services.store.models.TokenRelationship;
+import com.hedera.services.store.models.UniqueToken;
+import jakarta.inject.Named;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import org.apache.tuweni.bytes.Bytes;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Process-wide caches of the state read from the database, shared by all requests so that hot accounts, tokens and
+ * storage slots are not read and mapped again on every call. Entries are keyed by the index of the block they were read
+ * at.
+ * <p>
+ * The state of the latest block is cleared once a newer record file index is seen. The state of a historical block
+ * never changes so it is only bounded by the size and expiry of its cache, and the storage slots a contract touched
+ * within the block can optionally be prefetched together on the first storage read of the contract.
+ * <p>
+ * Hit ratio and eviction metrics are published for the cache managers like for the other caches.
+ */
+@CustomLog
+@Named
+public class SharedStateCache {
+
+    static final Set<Class<?>> CACHED_TYPES =
+            Set.of(Account.class, Token.class, TokenRelationship.class, UniqueToken.class);
+
+    private final AtomicLong blockIndex = new AtomicLong(-1L);
+    private final ContractStateRepository contractStateRepository;
+    private final Cache historicalCache;
+    private final Cache historicalStorageCache;
+    private final Cache latestCache;
+    private final MirrorNodeEvmProperties properties;
+    private final RecordFileRepository recordFileRepository;
+
+    public SharedStateCache(
+            @Qualifier(CACHE_MANAGER_STATE) CacheManager cacheManager,
+            @Qualifier(CACHE_MANAGER_STATE_HISTORICAL) CacheManager historicalCacheManager,
+            ContractStateRepository contractStateRepository,
+            MirrorNodeEvmProperties properties,
+            RecordFileRepository recordFileRepository) {
+        this.contractStateRepository = contractStateRepository;
+        this.historicalCache = historicalCacheManager.getCache(CACHE_NAME);
+        this.historicalStorageCache = historicalCacheManager.getCache(CACHE_NAME_STORAGE);
+        this.latestCache = cacheManager.getCache(CACHE_NAME);
+        this.properties = properties;
+        this.recordFileRepository = recordFileRepository;
+    }
+
+    /**
+     * Gets the latest block index, clearing the cache of the latest block if it is newer than the block index the
+     * cached entries were read at.
+     *
+     * @return the latest block index or empty if there are no blocks yet
+     */
+    public OptionalLong refresh() {
+        var latest = recordFileRepository.findLatestIndex();
+        if (latest.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        long index = latest.get();
+        long previous = blockIndex.getAndAccumulate(index, Math::max);
+        if (index > previous) {
+            latestCache.clear();
+            log.debug("Cleared state cache after block index changed from {} to {}", previous, index);
+        }
+
+        return OptionalLong.of(index);
+    }
+
+    /**
+     * Gets the value of the given type and key at the given block index, loading it if it is not cached.
+     *
+     * @param index      the block index the value is read at
+     * @param historical whether the value is read at the end of the block rather than the latest state
+     * @param klass      the type of the value
+     * @param key        the key of the value
+     * @param loader     reads the value from the database
+     * @return the cached or loaded value
+     */
+    public Optional<Object> get(
+            long index, boolean historical, Class<?> klass, Object key, Supplier<? extends Optional<?>> loader) {
+        if (!CACHED_TYPES.contains(klass)) {
+            return Optional.ofNullable(loader.get().orElse(null));
+        }
+
+        var cache = historical ? historicalCache : latestCache;
+        var stateKey = new StateKey(index, klass, key);
+        return Optional.ofNullable(get(cache, stateKey, () -> loader.get().orElse(null)));
+    }
+
+    /**
+     * Gets the storage value of the contract slot at the end of the historical block, loading it if it is not cached.
+     *
+     * @param recordFile the historical block
+     * @param contractId the ID of the contract
+     * @param slot       the slot with its leading zeros trimmed
+     * @param loader     reads the storage value from the database
+     * @return the cached or loaded storage value
+     */
+    public Optional<byte[]> getHistoricalStorage(
+            RecordFile recordFile, long contractId, Bytes slot, Supplier<Optional<byte[]>> loader) {
+        long index = recordFile.getIndex();
+        if (properties.isHistoricalStatePrefetch()) {
+            prefetch(recordFile, contractId);
+        }
+
+        var storageKey = new StorageKey(index, contractId, slot);
+        return Optional.ofNullable(get(historicalStorageCache, storageKey, () -> loader.get().orElse(null)));
+    }
+
+    private <T> T get(Cache cache, Object key, Callable<T> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * Loads every slot the contract read or wrote within the block with a single query. Slots untouched within the
+     * block are still read individually. A key without a slot marks the contract as prefetched.
+     */
+    private void prefetch(RecordFile recordFile, long contractId) {
+        long index = recordFile.getIndex();
+        if (historicalStorageCache.putIfAbsent(new StorageKey(index, contractId, null), Boolean.TRUE) != null) {
+            return;
+        }
+
+        var slots = contractStateRepository.findStorageChangesByBlock(
+                contractId, recordFile.getConsensusStart(), recordFile.getConsensusEnd());
+        for (var slot : slots) {
+            var key = new StorageKey(index, contractId, Bytes.wrap(slot.getSlot()));
+            historicalStorageCache.putIfAbsent(key, slot.getValue());
+        }
+
+        log.debug("Prefetched {} slots of contract {} in block {}", slots.size(), contractId, index);
+    }
+
+    private record StateKey(long index, Class<?> klass, Object key) {}
+
+    private record StorageKey(long index, long contractId, Bytes slot) {}
+}
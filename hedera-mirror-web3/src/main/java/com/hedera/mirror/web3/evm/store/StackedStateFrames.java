@@ -19,9 +19,12 @@ package com.hedera.mirror.web3.evm.store;
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import lombok.NonNull;
 
 @Named
@@ -33,12 +36,26 @@ public class StackedStateFrames {
     /** All the `Class`es for the value types this stacked cache can hold */
     @NonNull
     protected final Class<?>[] valueClasses;
+    /** The cache shared by all calls against the latest block, if any */
+    @Nullable
+    protected final SharedStateCache sharedStateCache;
 
     /** Create a `StackedStackFrames` stacked cache at base level given the database accessors for all the value
      * types this cache will hold.
      */
     public StackedStateFrames(@NonNull final List<DatabaseAccessor<Object, ?>> accessors) {
+        this(accessors, null);
+    }
+
+    /** Create a `StackedStackFrames` stacked cache at base level given the database accessors for all the value
+     * types this cache will hold and the cache shared between calls against the latest block.
+     */
+    @Inject
+    public StackedStateFrames(
+            @NonNull final List<DatabaseAccessor<Object, ?>> accessors,
+            @Nullable final SharedStateCache sharedStateCache) {
         this.accessors = accessors;
+        this.sharedStateCache = sharedStateCache;
         this.valueClasses = accessors.stream()
                 .map(DatabaseAccessor::getValueClass)
                 .distinct()
@@ -62,8 +79,29 @@ public class StackedStateFrames {
     }
 
     public CachingStateFrame<Object> getInitializedStackBase(final Optional<Long> timestamp) {
-        final var database = new DatabaseBackedStateFrame<>(accessors, valueClasses, timestamp);
-        return new ROCachingStateFrame<>(Optional.of(database), valueClasses);
+        final CachingStateFrame<Object> database = new DatabaseBackedStateFrame<>(accessors, valueClasses, timestamp);
+        final var blockIndex = sharedStateCache != null ? getBlockIndex(timestamp) : OptionalLong.empty();
+        if (blockIndex.isEmpty()) {
+            return new ROCachingStateFrame<>(Optional.of(database), valueClasses);
+        }
+
+        final var shared = new SharedCachingStateFrame<>(
+                Optional.of(database), sharedStateCache, blockIndex.getAsLong(), timestamp.isPresent(), valueClasses);
+        return new ROCachingStateFrame<>(Optional.of(shared), valueClasses);
+    }
+
+    /** Get the index of the block the state is read at: the latest block, or the block of the historical call */
+    private OptionalLong getBlockIndex(final Optional<Long> timestamp) {
+        if (timestamp.isEmpty()) {
+            return sharedStateCache.refresh();
+        }
+
+        final var recordFile = ContractCallContext.get().getRecordFile();
+        if (recordFile == null || !timestamp.get().equals(recordFile.getConsensusEnd())) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(recordFile.getIndex());
     }
 
     /** Return the "visible"/"effective" height of the stacked cache _only including_ those frames you've pushed on top
@@ -275,15 +275,13 @@ public class StoreImpl implements Store {
     @SuppressWarnings("unchecked")
     @Override
     public Optional<Long> getHistoricalTimestamp() {
-        return stackedStateFrames
-                .top()
-                .upstreamFrame
-                // flatten the nested Optional<UpstreamFrame>
-                .flatMap(CachingStateFrame::getUpstream)
-                // filter out non-DatabaseBackedStateFrame instances
-                .filter(DatabaseBackedStateFrame.class::isInstance)
-                // cast the filtered object to DatabaseBackedStateFrame
-                .map(DatabaseBackedStateFrame.class::cast)
+        // walk down to the DatabaseBackedStateFrame at the bottom of the stack, below any shared cache frame
+        var frame = stackedStateFrames.top().getUpstream();
+        while (frame.isPresent() && !(frame.get() instanceof DatabaseBackedStateFrame)) {
+            frame = frame.get().getUpstream();
+        }
+
+        return frame.map(DatabaseBackedStateFrame.class::cast)
                 // return the timestamp
                 .flatMap(databaseBackedStateFrame -> databaseBackedStateFrame.timestamp);
     }
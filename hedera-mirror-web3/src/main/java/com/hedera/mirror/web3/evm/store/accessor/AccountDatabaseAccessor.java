@@ -22,18 +22,21 @@ import static com.hedera.mirror.web3.evm.store.accessor.TokenRelationshipDatabas
 import static com.hedera.services.utils.EntityIdUtils.idFromEntityId;
 import static com.hedera.services.utils.MiscUtils.asFcKeyUnchecked;
 
+import com.google.common.base.Suppliers;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.common.domain.entity.AbstractTokenAllowance;
 import com.hedera.mirror.common.domain.entity.CryptoAllowance;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.web3.evm.exception.WrongTypeException;
 import com.hedera.mirror.web3.evm.store.DatabaseBackedStateFrame.DatabaseAccessIncorrectKeyTypeException;
 import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
@@ -43,7 +46,10 @@ import com.hedera.services.store.models.FcTokenAllowanceId;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SortedMap;
 import java.util.SortedSet;
@@ -51,15 +57,25 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.hyperledger.besu.datatypes.Address;
 
 @Named
-@RequiredArgsConstructor
 public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     public static final long DEFAULT_AUTO_RENEW_PERIOD = 7776000L;
+    static final String LOAD_METRIC = "hedera.mirror.web3.evm.account.load";
+
+    static final String FIELD_ACCOUNT = "account";
+    static final String FIELD_APPROVE_FOR_ALL_NFTS = "approveForAllNfts";
+    static final String FIELD_BALANCE = "balance";
+    static final String FIELD_CRYPTO_ALLOWANCES = "cryptoAllowances";
+    static final String FIELD_FUNGIBLE_TOKEN_ALLOWANCES = "fungibleTokenAllowances";
+    static final String FIELD_OWNED_NFTS = "ownedNfts";
+    static final String FIELD_TOKEN_ASSOCIATIONS = "tokenAssociations";
 
     private static final BinaryOperator<Long> NO_DUPLICATE_MERGE_FUNCTION = (v1, v2) -> {
         throw new IllegalStateException(String.format("Duplicate key for values %s and %s", v1, v2));
@@ -72,6 +88,41 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final TokenAccountRepository tokenAccountRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final RecordFileRepository recordFileRepository;
+    private final Map<String, Counter> loadCounters;
+
+    @SuppressWarnings("java:S107")
+    public AccountDatabaseAccessor(
+            EntityDatabaseAccessor entityDatabaseAccessor,
+            NftAllowanceRepository nftAllowanceRepository,
+            NftRepository nftRepository,
+            TokenAllowanceRepository tokenAllowanceRepository,
+            CryptoAllowanceRepository cryptoAllowanceRepository,
+            TokenAccountRepository tokenAccountRepository,
+            AccountBalanceRepository accountBalanceRepository,
+            RecordFileRepository recordFileRepository,
+            MeterRegistry meterRegistry) {
+        this.entityDatabaseAccessor = entityDatabaseAccessor;
+        this.nftAllowanceRepository = nftAllowanceRepository;
+        this.nftRepository = nftRepository;
+        this.tokenAllowanceRepository = tokenAllowanceRepository;
+        this.cryptoAllowanceRepository = cryptoAllowanceRepository;
+        this.tokenAccountRepository = tokenAccountRepository;
+        this.accountBalanceRepository = accountBalanceRepository;
+        this.recordFileRepository = recordFileRepository;
+        this.loadCounters = Stream.of(
+                        FIELD_ACCOUNT,
+                        FIELD_APPROVE_FOR_ALL_NFTS,
+                        FIELD_BALANCE,
+                        FIELD_CRYPTO_ALLOWANCES,
+                        FIELD_FUNGIBLE_TOKEN_ALLOWANCES,
+                        FIELD_OWNED_NFTS,
+                        FIELD_TOKEN_ASSOCIATIONS)
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), field -> Counter.builder(LOAD_METRIC)
+                        .description("The number of accounts and lazily loaded account fields read from the database")
+                        .tag("field", field)
+                        .register(meterRegistry)));
+    }
 
     @Override
     public @NonNull Optional<Account> get(@NonNull Object key, final Optional<Long> timestamp) {
@@ -82,30 +133,39 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                 .formatted(Account.class.getTypeName(), key.getClass().getTypeName()));
     }
 
+    /**
+     * Maps the entity to an account whose fields that require additional queries are only loaded when first accessed,
+     * since most calls only need the balance or nonce of the accounts they touch. The fields are loaded at the block
+     * timestamp of the call, which is captured when the account is mapped.
+     */
     private Account accountFromEntity(Entity entity, final Optional<Long> timestamp) {
         if (!ACCOUNT.equals(entity.getType()) && !CONTRACT.equals(entity.getType())) {
             throw new WrongTypeException("Trying to map an account/contract from a different type");
         }
-        final var tokenAssociationsCounts =
-                getNumberOfAllAndPositiveBalanceTokenAssociations(entity.getId(), timestamp);
+
+        loadCounters.get(FIELD_ACCOUNT).increment();
+        final var id = entity.getId();
+        final var blockTimestamp = timestamp.isPresent() ? timestamp : getLatestBlockTimestamp(entity);
+        final var tokenAssociationsCounts = lazy(
+                FIELD_TOKEN_ASSOCIATIONS, () -> getNumberOfAllAndPositiveBalanceTokenAssociations(id, blockTimestamp));
         return new Account(
                 entity.getEvmAddress() != null && entity.getEvmAddress().length > 0
                         ? ByteString.copyFrom(entity.getEvmAddress())
                         : ByteString.EMPTY,
-                entity.getId(),
+                id,
                 new Id(entity.getShard(), entity.getRealm(), entity.getNum()),
                 TimeUnit.SECONDS.convert(entity.getEffectiveExpiration(), TimeUnit.NANOSECONDS),
-                getAccountBalance(entity, timestamp),
+                lazy(FIELD_BALANCE, () -> getAccountBalance(entity, timestamp)),
                 Optional.ofNullable(entity.getDeleted()).orElse(false),
-                getOwnedNfts(entity.getId(), timestamp),
+                lazy(FIELD_OWNED_NFTS, () -> getOwnedNfts(id, blockTimestamp)),
                 Optional.ofNullable(entity.getAutoRenewPeriod()).orElse(DEFAULT_AUTO_RENEW_PERIOD),
                 idFromEntityId(entity.getProxyAccountId()),
                 Optional.ofNullable(entity.getMaxAutomaticTokenAssociations()).orElse(0),
-                getCryptoAllowances(entity.getId(), timestamp),
-                getFungibleTokenAllowances(entity.getId(), timestamp),
-                getApproveForAllNfts(entity.getId(), timestamp),
-                tokenAssociationsCounts.all(),
-                tokenAssociationsCounts.positive(),
+                lazy(FIELD_CRYPTO_ALLOWANCES, () -> getCryptoAllowances(id, blockTimestamp)),
+                lazy(FIELD_FUNGIBLE_TOKEN_ALLOWANCES, () -> getFungibleTokenAllowances(id, blockTimestamp)),
+                lazy(FIELD_APPROVE_FOR_ALL_NFTS, () -> getApproveForAllNfts(id, blockTimestamp)),
+                () -> tokenAssociationsCounts.get().all(),
+                () -> tokenAssociationsCounts.get().positive(),
                 0,
                 Optional.ofNullable(entity.getEthereumNonce()).orElse(0L),
                 entity.getType().equals(CONTRACT),
@@ -115,6 +175,27 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                         : 0L);
     }
 
+    /**
+     * Gets the timestamp of the latest block for a call at the latest state, so that the fields loaded later in the
+     * call, or by a later call sharing the account, don't see the changes of the blocks imported in the meantime. The
+     * latest state is read instead if there's no block yet or if the entity was modified after the latest block seen.
+     */
+    private Optional<Long> getLatestBlockTimestamp(Entity entity) {
+        final var timestampLower = entity.getTimestampLower();
+        return recordFileRepository
+                .findLatest()
+                .map(RecordFile::getConsensusEnd)
+                .filter(consensusEnd -> timestampLower == null || timestampLower <= consensusEnd);
+    }
+
+    private <T> Supplier<T> lazy(String field, Supplier<T> loader) {
+        var counter = loadCounters.get(field);
+        return Suppliers.memoize(() -> {
+            counter.increment();
+            return loader.get();
+        });
+    }
+
     private long getOwnedNfts(Long accountId, final Optional<Long> timestamp) {
         return timestamp
                 .map(t -> nftRepository.countByAccountIdAndTimestampNotDeleted(accountId, t))
@@ -20,12 +20,15 @@ import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.entityIdNumFromEvmA
 import static com.hedera.node.app.service.evm.accounts.HederaEvmContractAliases.isMirror;
 
 import com.google.protobuf.ByteString;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.evm.store.SharedStateCache;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.Store.OnMissing;
 import com.hedera.mirror.web3.repository.ContractRepository;
 import com.hedera.mirror.web3.repository.ContractStateRepository;
 import com.hedera.node.app.service.evm.store.contracts.HederaEvmEntityAccess;
 import jakarta.inject.Named;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
@@ -35,6 +38,7 @@ import org.hyperledger.besu.datatypes.Address;
 public class MirrorEntityAccess implements HederaEvmEntityAccess {
     private final ContractStateRepository contractStateRepository;
     private final ContractRepository contractRepository;
+    private final SharedStateCache sharedStateCache;
     private final Store store;
 
     // An account is usable if it isn't deleted or if it has balance==0 but is not the 0-address
@@ -119,13 +123,26 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
         }
 
         return store.getHistoricalTimestamp()
-                .map(t -> contractStateRepository.findStorageByBlockTimestamp(
-                        entityId, key.trimLeadingZeros().toArrayUnsafe(), t))
+                .map(t -> getHistoricalStorage(entityId, key.trimLeadingZeros(), t))
                 .orElseGet(() -> contractStateRepository.findStorage(entityId, key.toArrayUnsafe()))
                 .map(Bytes::wrap)
                 .orElse(Bytes.EMPTY);
     }
 
+    private Optional<byte[]> getHistoricalStorage(final long entityId, final Bytes slot, final long timestamp) {
+        final var recordFile = ContractCallContext.get().getRecordFile();
+        if (recordFile == null || recordFile.getConsensusEnd() != timestamp) {
+            return contractStateRepository.findStorageByBlockTimestamp(entityId, slot.toArrayUnsafe(), timestamp);
+        }
+
+        // The state at the end of a historical block never changes so it's shared between calls against the block
+        return sharedStateCache.getHistoricalStorage(
+                recordFile,
+                entityId,
+                slot,
+                () -> contractStateRepository.findStorageByBlockTimestamp(entityId, slot.toArrayUnsafe(), timestamp));
+    }
+
     @Override
     public Bytes fetchCodeIfPresent(final Address address) {
         final var entityId = fetchEntityId(address);
@@ -20,6 +20,8 @@ import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_C
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 
 import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
@@ -59,4 +61,28 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             """,
             nativeQuery = true)
     Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * This method retrieves the storage value at the end of the block of every slot of the contract read or written
+     * within the block.
+     *
+     * @param id                The ID of the contract.
+     * @param consensusStart    The consensus start of the block.
+     * @param consensusEnd      The consensus end of the block.
+     * @return The slots and their storage value at the end of the block.
+     */
+    @Query(
+            value =
+                    """
+            select distinct on (slot)
+                slot,
+                coalesce(value_written, value_read) as value
+            from contract_state_change
+            where contract_id = ?1
+            and consensus_timestamp >= ?2
+            and consensus_timestamp <= ?3
+            order by slot, consensus_timestamp desc
+            """,
+            nativeQuery = true)
+    List<ContractSlotValue> findStorageChangesByBlock(long id, long consensusStart, long consensusEnd);
 }
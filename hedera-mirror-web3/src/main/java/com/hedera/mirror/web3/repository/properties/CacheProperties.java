@@ -40,6 +40,12 @@ public class CacheProperties {
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
+    @NotBlank
+    private String state = "expireAfterWrite=10s,maximumSize=5000,recordStats";
+
+    @NotBlank
+    private String stateHistorical = "expireAfterAccess=10m,maximumSize=50000,recordStats";
+
     @NotBlank
     private String token = ENTITY_CACHE_CONFIG;
 }
@@ -20,6 +20,12 @@ import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +40,10 @@ public class BinaryGasEstimator {
             final LongFunction<HederaEvmTransactionProcessingResult> call,
             long lo,
             long hi) {
+        if (properties.getEstimateGasParallelism() > 1) {
+            return parallelSearch(metricUpdater, call, lo, hi);
+        }
+
         long prevGasLimit = lo;
         int iterationsMade = 0;
         long totalGasUsed = 0;
@@ -71,4 +81,94 @@ public class BinaryGasEstimator {
         metricUpdater.accept(totalGasUsed, iterationsMade);
         return hi;
     }
+
+    /**
+     * Narrows the interval k-ary instead of binary by executing the call with several evenly spaced gas limits per
+     * round, each on its own virtual thread. Every execution gets its own {@link ContractCallContext} with a fresh
+     * stack on top of the read-only stack base of the current context, so values already read from the database are
+     * shared while writes stay private to each execution. The number of concurrent executions per request is capped
+     * by the estimateGasParallelism property and the total by maxGasEstimateRetriesCount.
+     */
+    private long parallelSearch(
+            final ObjIntConsumer<Long> metricUpdater,
+            final LongFunction<HederaEvmTransactionProcessingResult> call,
+            long lo,
+            long hi) {
+        final int maxIterations = properties.getMaxGasEstimateRetriesCount();
+        final long estimateIterationThreshold = (long) (lo * properties.getEstimateGasIterationThresholdPercent());
+        final var parentContext = ContractCallContext.get();
+        final var recordFile = parentContext.getRecordFile();
+        final var stackBase = parentContext.getStackBase();
+        int iterationsMade = 0;
+        long totalGasUsed = 0;
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (lo + 1 < hi && iterationsMade < maxIterations) {
+                int probes = (int) Math.min(
+                        Math.min(properties.getEstimateGasParallelism(), maxIterations - iterationsMade), hi - lo - 1);
+                long step = (hi - lo) / (probes + 1);
+                var gasLimits = new long[probes];
+                var tasks = new ArrayList<Callable<HederaEvmTransactionProcessingResult>>(probes);
+
+                for (int i = 0; i < probes; i++) {
+                    long gasLimit = lo + step * (i + 1);
+                    gasLimits[i] = gasLimit;
+                    tasks.add(() -> ContractCallContext.run(ctx -> {
+                        ctx.setRecordFile(recordFile);
+                        ctx.setStack(stackBase);
+                        return call.apply(gasLimit);
+                    }));
+                }
+
+                var results = await(executor.invokeAll(tasks));
+                iterationsMade += probes;
+
+                // Probes are in ascending order of gas limit so the first success is the new upper bound and the probe
+                // preceding it the new lower bound. Every probe was executed, so all of them count towards the gas used
+                long newLo = lo;
+                long newHi = hi;
+                for (int i = 0; i < probes; i++) {
+                    var result = results.get(i);
+                    boolean err = !result.isSuccessful() || result.getGasUsed() <= 0;
+                    totalGasUsed += err ? gasLimits[i] : result.getGasUsed();
+                    if (newHi < hi) {
+                        continue;
+                    }
+
+                    if (err) {
+                        newLo = gasLimits[i];
+                    } else {
+                        newHi = gasLimits[i];
+                    }
+                }
+
+                lo = newLo;
+                hi = newHi;
+                if (hi - lo < estimateIterationThreshold) {
+                    lo = hi;
+                }
+            }
+        }
+
+        metricUpdater.accept(totalGasUsed, iterationsMade);
+        return hi;
+    }
+
+    private List<HederaEvmTransactionProcessingResult> await(
+            List<Future<HederaEvmTransactionProcessingResult>> futures) {
+        var results = new ArrayList<HederaEvmTransactionProcessingResult>(futures.size());
+
+        try {
+            for (var future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        return results;
+    }
 }
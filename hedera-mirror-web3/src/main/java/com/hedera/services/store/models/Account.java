@@ -33,6 +33,7 @@ import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import lombok.Getter;
 import org.hyperledger.besu.datatypes.Address;
 
@@ -49,6 +50,7 @@ import org.hyperledger.besu.datatypes.Address;
  * 4. Added constructors and set methods for creating new instances and achieve immutability
  * 6. Added factory method that returns empty instance
  * 7. Added isEmptyAccount() method
+ * 8. Balance, owned NFTs, allowances and token association counts can be computed lazily on first access
  */
 @Getter
 public class Account extends HederaEvmAccount {
@@ -58,11 +60,11 @@ public class Account extends HederaEvmAccount {
 
     private final long expiry;
 
-    private final long balance;
+    private final Supplier<Long> balance;
 
     private final boolean deleted;
 
-    private final long ownedNfts;
+    private final Supplier<Long> ownedNfts;
 
     private final long autoRenewSecs;
 
@@ -72,15 +74,15 @@ public class Account extends HederaEvmAccount {
 
     private final int autoAssociationMetadata;
 
-    private final SortedMap<EntityNum, Long> cryptoAllowances;
+    private final Supplier<SortedMap<EntityNum, Long>> cryptoAllowances;
 
-    private final SortedMap<FcTokenAllowanceId, Long> fungibleTokenAllowances;
+    private final Supplier<SortedMap<FcTokenAllowanceId, Long>> fungibleTokenAllowances;
 
-    private final SortedSet<FcTokenAllowanceId> approveForAllNfts;
+    private final Supplier<SortedSet<FcTokenAllowanceId>> approveForAllNfts;
 
-    private final int numAssociations;
+    private final Supplier<Integer> numAssociations;
 
-    private final int numPositiveBalances;
+    private final Supplier<Integer> numPositiveBalances;
 
     private final int numTreasuryTitles;
 
@@ -114,6 +116,56 @@ public class Account extends HederaEvmAccount {
             boolean isSmartContract,
             JKey key,
             long createdTimestamp) {
+        this(
+                alias,
+                entityId,
+                id,
+                expiry,
+                () -> balance,
+                deleted,
+                () -> ownedNfts,
+                autoRenewSecs,
+                proxy,
+                autoAssociationMetadata,
+                () -> cryptoAllowances,
+                () -> fungibleTokenAllowances,
+                () -> approveForAllNfts,
+                () -> numAssociations,
+                () -> numPositiveBalances,
+                numTreasuryTitles,
+                ethereumNonce,
+                isSmartContract,
+                key,
+                createdTimestamp);
+    }
+
+    /**
+     * Create an account whose balance, owned NFTs, allowances and token association counts are only computed when
+     * first accessed. The suppliers are shared with the accounts derived from this one, so they should be memoized to
+     * be computed at most once.
+     */
+    @SuppressWarnings("java:S107")
+    public Account(
+            ByteString alias,
+            Long entityId,
+            Id id,
+            long expiry,
+            Supplier<Long> balance,
+            boolean deleted,
+            Supplier<Long> ownedNfts,
+            long autoRenewSecs,
+            Id proxy,
+            int autoAssociationMetadata,
+            Supplier<SortedMap<EntityNum, Long>> cryptoAllowances,
+            Supplier<SortedMap<FcTokenAllowanceId, Long>> fungibleTokenAllowances,
+            Supplier<SortedSet<FcTokenAllowanceId>> approveForAllNfts,
+            Supplier<Integer> numAssociations,
+            Supplier<Integer> numPositiveBalances,
+            int numTreasuryTitles,
+            long ethereumNonce,
+            boolean isSmartContract,
+            JKey key,
+            long createdTimestamp) {
         super(id.asEvmAddress());
         setAlias(alias);
         this.entityId = entityId;
@@ -223,7 +275,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.expiry,
                 oldAccount.balance,
                 oldAccount.deleted,
-                ownedNfts,
+                () -> ownedNfts,
                 oldAccount.autoRenewSecs,
                 oldAccount.proxy,
                 oldAccount.autoAssociationMetadata,
@@ -262,7 +314,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.cryptoAllowances,
                 oldAccount.fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
-                numAssociations,
+                () -> numAssociations,
                 oldAccount.numPositiveBalances,
                 oldAccount.numTreasuryTitles,
                 oldAccount.ethereumNonce,
@@ -295,7 +347,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
                 oldAccount.numAssociations,
-                newNumPositiveBalances,
+                () -> newNumPositiveBalances,
                 oldAccount.numTreasuryTitles,
                 oldAccount.ethereumNonce,
                 oldAccount.isSmartContract,
@@ -414,7 +466,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.entityId,
                 oldAccount.id,
                 oldAccount.expiry,
-                newBalance,
+                () -> newBalance,
                 oldAccount.deleted,
                 oldAccount.ownedNfts,
                 oldAccount.autoRenewSecs,
@@ -453,7 +505,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.autoRenewSecs,
                 oldAccount.proxy,
                 oldAccount.autoAssociationMetadata,
-                cryptoAllowances,
+                () -> cryptoAllowances,
                 oldAccount.fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
                 oldAccount.numAssociations,
@@ -487,7 +539,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.proxy,
                 oldAccount.autoAssociationMetadata,
                 oldAccount.cryptoAllowances,
-                fungibleTokenAllowances,
+                () -> fungibleTokenAllowances,
                 oldAccount.approveForAllNfts,
                 oldAccount.numAssociations,
                 oldAccount.numPositiveBalances,
@@ -521,7 +573,7 @@ public class Account extends HederaEvmAccount {
                 oldAccount.autoAssociationMetadata,
                 oldAccount.cryptoAllowances,
                 oldAccount.fungibleTokenAllowances,
-                newApproveForAllNfts,
+                () -> newApproveForAllNfts,
                 oldAccount.numAssociations,
                 oldAccount.numPositiveBalances,
                 oldAccount.numTreasuryTitles,
@@ -595,6 +647,34 @@ public class Account extends HederaEvmAccount {
                 oldAccount.createdTimestamp);
     }
 
+    public long getBalance() {
+        return balance.get();
+    }
+
+    public long getOwnedNfts() {
+        return ownedNfts.get();
+    }
+
+    public SortedMap<EntityNum, Long> getCryptoAllowances() {
+        return cryptoAllowances.get();
+    }
+
+    public SortedMap<FcTokenAllowanceId, Long> getFungibleTokenAllowances() {
+        return fungibleTokenAllowances.get();
+    }
+
+    public SortedSet<FcTokenAllowanceId> getApproveForAllNfts() {
+        return approveForAllNfts.get();
+    }
+
+    public int getNumAssociations() {
+        return numAssociations.get();
+    }
+
+    public int getNumPositiveBalances() {
+        return numPositiveBalances.get();
+    }
+
     public int getMaxAutomaticAssociations() {
         return getMaxAutomaticAssociationsFrom(autoAssociationMetadata);
     }
@@ -673,14 +753,12 @@ public class Account extends HederaEvmAccount {
         if (o == null || getClass() != o.getClass()) return false;
         if (!super.equals(o)) return false;
         Account account = (Account) o;
+        // Compare the lazily computed fields last so they're only computed when everything else matches and the
+        // accounts don't share the same supplier
         return expiry == account.expiry
-                && balance == account.balance
                 && deleted == account.deleted
-                && ownedNfts == account.ownedNfts
                 && autoRenewSecs == account.autoRenewSecs
                 && autoAssociationMetadata == account.autoAssociationMetadata
-                && numAssociations == account.numAssociations
-                && numPositiveBalances == account.numPositiveBalances
                 && numTreasuryTitles == account.numTreasuryTitles
                 && ethereumNonce == account.ethereumNonce
                 && isSmartContract == account.isSmartContract
@@ -689,12 +767,20 @@ public class Account extends HederaEvmAccount {
                 && Objects.equals(id, account.id)
                 && Objects.equals(proxy, account.proxy)
                 && Objects.equals(accountAddress, account.accountAddress)
-                && Objects.equals(cryptoAllowances, account.cryptoAllowances)
-                && Objects.equals(fungibleTokenAllowances, account.fungibleTokenAllowances)
-                && Objects.equals(approveForAllNfts, account.approveForAllNfts)
-                && Objects.equals(key, account.key);
+                && Objects.equals(key, account.key)
+                && lazyEquals(balance, account.balance)
+                && lazyEquals(ownedNfts, account.ownedNfts)
+                && lazyEquals(numAssociations, account.numAssociations)
+                && lazyEquals(numPositiveBalances, account.numPositiveBalances)
+                && lazyEquals(cryptoAllowances, account.cryptoAllowances)
+                && lazyEquals(fungibleTokenAllowances, account.fungibleTokenAllowances)
+                && lazyEquals(approveForAllNfts, account.approveForAllNfts);
     }
 
+    /**
+     * The lazily computed fields are left out so that hashing an account never loads them. Equal accounts still have
+     * equal hash codes since equals compares a superset of these fields.
+     */
     @Override
     public int hashCode() {
         return Objects.hash(
@@ -702,18 +788,11 @@ public class Account extends HederaEvmAccount {
                 entityId,
                 id,
                 expiry,
-                balance,
                 deleted,
-                ownedNfts,
                 autoRenewSecs,
                 proxy,
                 accountAddress,
                 autoAssociationMetadata,
-                cryptoAllowances,
-                fungibleTokenAllowances,
-                approveForAllNfts,
-                numAssociations,
-                numPositiveBalances,
                 numTreasuryTitles,
                 ethereumNonce,
                 isSmartContract,
@@ -721,25 +800,25 @@ public class Account extends HederaEvmAccount {
                 createdTimestamp);
     }
 
+    /**
+     * The lazily computed fields are left out so that logging an account never loads them.
+     */
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(Account.class)
                 .add("id", id)
                 .add("expiry", expiry)
-                .add("balance", balance)
                 .add("deleted", deleted)
-                .add("ownedNfts", ownedNfts)
                 .add("alreadyUsedAutoAssociations", getAlreadyUsedAutomaticAssociations())
                 .add("maxAutoAssociations", getMaxAutomaticAssociations())
                 .add("alias", getAlias().toStringUtf8())
-                .add("cryptoAllowances", cryptoAllowances)
-                .add("fungibleTokenAllowances", fungibleTokenAllowances)
-                .add("approveForAllNfts", approveForAllNfts)
-                .add("numAssociations", numAssociations)
-                .add("numPositiveBalances", numPositiveBalances)
                 .toString();
     }
 
+    private static <T> boolean lazyEquals(Supplier<T> supplier, Supplier<T> other) {
+        return supplier == other || Objects.equals(supplier.get(), other.get());
+    }
+
     private boolean isValidAlreadyUsedCount(int alreadyUsedCount) {
         return alreadyUsedCount >= 0 && alreadyUsedCount <= getMaxAutomaticAssociations();
     }
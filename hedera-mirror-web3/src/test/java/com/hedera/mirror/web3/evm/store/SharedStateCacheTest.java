@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2024 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.store;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import com.hedera.services.store.models.Account;
+import com.hedera.services.store.models.Id;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class SharedStateCacheTest {
+
+    private static final Address ADDRESS = Address.fromHexString("0x00000000000000000000000000000000000004e4");
+    private static final Bytes SLOT = Bytes.of(1);
+    private static final byte[] VALUE = new byte[] {1, 2, 3};
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Account account = new Account(1234L, new Id(0, 0, 1234), 100L);
+
+    private final MirrorNodeEvmProperties properties = new MirrorNodeEvmProperties();
+    private final RecordFile recordFile = RecordFile.builder()
+            .consensusEnd(2000L)
+            .consensusStart(1000L)
+            .index(1L)
+            .build();
+
+    @Mock
+    private ContractStateRepository contractStateRepository;
+
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
+    private SharedStateCache sharedStateCache;
+
+    @BeforeEach
+    void setup() {
+        var cacheManager = new CaffeineCacheManager(CACHE_NAME);
+        cacheManager.setCacheSpecification("maximumSize=100,recordStats");
+        var historicalCacheManager = new CaffeineCacheManager(CACHE_NAME, CACHE_NAME_STORAGE);
+        historicalCacheManager.setCacheSpecification("maximumSize=100,recordStats");
+        sharedStateCache = new SharedStateCache(
+                cacheManager, historicalCacheManager, contractStateRepository, properties, recordFileRepository);
+    }
+
+    @Test
+    void refreshWithoutBlocks() {
+        when(recordFileRepository.findLatestIndex()).thenReturn(Optional.empty());
+        assertThat(sharedStateCache.refresh()).isEmpty();
+    }
+
+    @Test
+    void getCachesPerBlockIndex() {
+        when(recordFileRepository.findLatestIndex()).thenReturn(Optional.of(1L), Optional.of(1L), Optional.of(2L));
+
+        assertThat(sharedStateCache.refresh()).isEqualTo(OptionalLong.of(1L));
+        assertThat(get(1L)).contains(account);
+        assertThat(sharedStateCache.refresh()).isEqualTo(OptionalLong.of(1L));
+        assertThat(get(1L)).contains(account);
+        assertThat(loads).hasValue(1);
+
+        assertThat(sharedStateCache.refresh()).isEqualTo(OptionalLong.of(2L));
+        assertThat(get(2L)).contains(account);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getHistoricalNotCleared() {
+        when(recordFileRepository.findLatestIndex()).thenReturn(Optional.of(2L));
+
+        assertThat(sharedStateCache.get(1L, true, Account.class, ADDRESS, () -> load(account)))
+                .contains(account);
+        assertThat(sharedStateCache.refresh()).isEqualTo(OptionalLong.of(2L));
+        assertThat(sharedStateCache.get(1L, true, Account.class, ADDRESS, () -> load(account)))
+                .contains(account);
+        assertThat(sharedStateCache.get(1L, false, Account.class, ADDRESS, () -> load(account)))
+                .contains(account);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getHistoricalStorage() {
+        assertThat(sharedStateCache.getHistoricalStorage(recordFile, 10L, SLOT, () -> loadStorage(VALUE)))
+                .contains(VALUE);
+        assertThat(sharedStateCache.getHistoricalStorage(recordFile, 10L, SLOT, () -> loadStorage(VALUE)))
+                .contains(VALUE);
+        assertThat(sharedStateCache.getHistoricalStorage(recordFile, 11L, SLOT, Optional::empty))
+                .isEmpty();
+        assertThat(loads).hasValue(1);
+        verifyNoInteractions(contractStateRepository);
+    }
+
+    @Test
+    void getHistoricalStoragePrefetch() {
+        properties.setHistoricalStatePrefetch(true);
+        var slotValue = mock(ContractSlotValue.class);
+        when(slotValue.getSlot()).thenReturn(SLOT.toArrayUnsafe());
+        when(slotValue.getValue()).thenReturn(VALUE);
+        when(contractStateRepository.findStorageChangesByBlock(10L, 1000L, 2000L))
+                .thenReturn(List.of(slotValue));
+
+        assertThat(sharedStateCache.getHistoricalStorage(recordFile, 10L, SLOT, () -> loadStorage(null)))
+                .contains(VALUE);
+        assertThat(sharedStateCache.getHistoricalStorage(recordFile, 10L, Bytes.of(2), () -> loadStorage(null)))
+                .isEmpty();
+        assertThat(loads).hasValue(1);
+        verify(contractStateRepository).findStorageChangesByBlock(10L, 1000L, 2000L);
+    }
+
+    @Test
+    void getCachesMissing() {
+        assertThat(sharedStateCache.get(1L, false, Account.class, ADDRESS, this::loadEmpty)).isEmpty();
+        assertThat(sharedStateCache.get(1L, false, Account.class, ADDRESS, this::loadEmpty)).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getUncachedType() {
+        assertThat(sharedStateCache.get(1L, false, Long.class, ADDRESS, () -> load(5L))).contains(5L);
+        assertThat(sharedStateCache.get(1L, false, Long.class, ADDRESS, () -> load(5L))).contains(5L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getRethrowsLoaderException() {
+        var exception = new IllegalArgumentException("error");
+        assertThatThrownBy(() -> sharedStateCache.get(1L, false, Account.class, ADDRESS, () -> {
+                    throw exception;
+                }))
+                .isSameAs(exception);
+    }
+
+    private Optional<Object> get(long index) {
+        return sharedStateCache.get(index, false, Account.class, ADDRESS, () -> load(account));
+    }
+
+    private Optional<Object> load(Object value) {
+        loads.incrementAndGet();
+        return Optional.of(value);
+    }
+
+    private Optional<byte[]> loadStorage(byte[] value) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(value);
+    }
+
+    private Optional<Object> loadEmpty() {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+}
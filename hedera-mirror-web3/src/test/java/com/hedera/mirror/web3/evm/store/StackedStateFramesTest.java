@@ -19,6 +19,9 @@ package com.hedera.mirror.web3.evm.store;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.web3.ContextExtension;
 import com.hedera.mirror.web3.common.ContractCallContext;
@@ -27,6 +30,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.EmptyStackException;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -59,6 +63,25 @@ public class StackedStateFramesTest {
                 .isThrownBy(sut::pop);
     }
 
+    @Test
+    void constructionWithSharedStateCache() {
+        final var accessors = List.<DatabaseAccessor<Object, ?>>of(new BareDatabaseAccessor<Object, Character>() {});
+        final var sharedStateCache = mock(SharedStateCache.class);
+        when(sharedStateCache.refresh()).thenReturn(OptionalLong.of(1L));
+
+        final var sut = new StackedStateFrames(accessors, sharedStateCache);
+
+        final var latest = sut.getInitializedStackBase(Optional.empty());
+        assertThat(latest).isInstanceOf(ROCachingStateFrame.class);
+        assertThat(latest.getUpstream()).containsInstanceOf(SharedCachingStateFrame.class);
+        assertThat(latest.getUpstream().flatMap(CachingStateFrame::getUpstream))
+                .containsInstanceOf(DatabaseBackedStateFrame.class);
+
+        final var historical = sut.getInitializedStackBase(Optional.of(1234L));
+        assertThat(historical.getUpstream()).containsInstanceOf(DatabaseBackedStateFrame.class);
+        verify(sharedStateCache).refresh();
+    }
+
     @Test
     void constructWithDuplicatedValueTypesFails() {
         final var accessors = List.<DatabaseAccessor<Object, ?>>of(
@@ -20,8 +20,12 @@ import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.entityIdNumFromEvmA
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.AbstractEntity;
 import com.hedera.mirror.common.domain.entity.CryptoAllowance;
 import com.hedera.mirror.common.domain.entity.Entity;
@@ -29,10 +33,12 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
@@ -40,6 +46,8 @@ import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.FcTokenAllowanceId;
 import com.hedera.services.store.models.Id;
 import com.hedera.services.utils.EntityNum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -54,6 +62,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -119,6 +128,12 @@ class AccountDatabaseAccessorTest {
     @Mock
     private TokenAccountRepository tokenAccountRepository;
 
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setup() {
         final var entityNum = entityIdNumFromEvmAddress(ADDRESS);
@@ -406,4 +421,63 @@ class AccountDatabaseAccessorTest {
                 .returns(POSITIVE_BALANCES + NEGATIVE_BALANCES, Account::getNumAssociations)
                 .returns(POSITIVE_BALANCES, Account::getNumPositiveBalances));
     }
+
+    @Test
+    void latestFieldsLoadedAtLatestBlock() {
+        long consensusEnd = 2000L;
+        entity.setTimestampRange(Range.atLeast(consensusEnd - 1));
+        when(entityDatabaseAccessor.get(ADDRESS, Optional.empty())).thenReturn(Optional.ofNullable(entity));
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder().consensusEnd(consensusEnd).build()));
+        long ownedNfts = 20;
+        when(nftRepository.countByAccountIdAndTimestampNotDeleted(entity.getId(), consensusEnd))
+                .thenReturn(ownedNfts);
+
+        assertThat(accountAccessor.get(ADDRESS, Optional.empty())).hasValueSatisfying(account -> assertThat(account)
+                .returns(BALANCE, Account::getBalance)
+                .returns(ownedNfts, Account::getOwnedNfts));
+        verify(nftRepository, never()).countByAccountIdNotDeleted(anyLong());
+    }
+
+    @Test
+    void latestFieldsLoadedAtLatestStateWhenEntityIsNewerThanLatestBlock() {
+        long consensusEnd = 2000L;
+        entity.setTimestampRange(Range.atLeast(consensusEnd + 1));
+        when(entityDatabaseAccessor.get(ADDRESS, Optional.empty())).thenReturn(Optional.ofNullable(entity));
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder().consensusEnd(consensusEnd).build()));
+        long ownedNfts = 20;
+        when(nftRepository.countByAccountIdNotDeleted(entity.getId())).thenReturn(ownedNfts);
+
+        assertThat(accountAccessor.get(ADDRESS, Optional.empty()))
+                .hasValueSatisfying(account -> assertThat(account).returns(ownedNfts, Account::getOwnedNfts));
+        verify(nftRepository, never()).countByAccountIdAndTimestampNotDeleted(anyLong(), anyLong());
+    }
+
+    @Test
+    void fieldsAreLoadedLazilyOnce() {
+        when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
+        long ownedNfts = 20;
+        when(nftRepository.countByAccountIdAndTimestampNotDeleted(entity.getId(), timestamp.get()))
+                .thenReturn(ownedNfts);
+
+        var account = accountAccessor.get(ADDRESS, timestamp).orElseThrow();
+        verify(nftRepository, never()).countByAccountIdAndTimestampNotDeleted(anyLong(), anyLong());
+        assertThat(loadCount(AccountDatabaseAccessor.FIELD_ACCOUNT)).isEqualTo(1.0);
+        assertThat(loadCount(AccountDatabaseAccessor.FIELD_OWNED_NFTS)).isZero();
+
+        assertThat(account.getOwnedNfts()).isEqualTo(ownedNfts);
+        assertThat(account.setBalance(1L).getOwnedNfts()).isEqualTo(ownedNfts);
+        verify(nftRepository, times(1)).countByAccountIdAndTimestampNotDeleted(entity.getId(), timestamp.get());
+        assertThat(loadCount(AccountDatabaseAccessor.FIELD_OWNED_NFTS)).isEqualTo(1.0);
+        assertThat(loadCount(AccountDatabaseAccessor.FIELD_CRYPTO_ALLOWANCES)).isZero();
+    }
+
+    private double loadCount(String field) {
+        return meterRegistry
+                .get(AccountDatabaseAccessor.LOAD_METRIC)
+                .tag("field", field)
+                .counter()
+                .count();
+    }
 }
@@ -38,6 +38,7 @@ import com.hedera.mirror.web3.evm.store.accessor.TokenRelationshipDatabaseAccess
 import com.hedera.mirror.web3.evm.store.accessor.UniqueTokenDatabaseAccessor;
 import com.hedera.mirror.web3.repository.EntityRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenBalanceRepository;
 import com.hedera.mirror.web3.repository.TokenRepository;
@@ -48,6 +49,7 @@ import com.hedera.node.app.service.evm.store.contracts.HederaEvmEntityAccess;
 import com.hedera.node.app.service.evm.store.tokens.TokenAccessor;
 import com.hedera.services.store.models.Id;
 import com.hederahashgraph.api.proto.java.ContractID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
 import org.hyperledger.besu.datatypes.Address;
@@ -64,6 +66,9 @@ class HederaEvmWorldStateTest {
     final long balance = 1_234L;
     private final Address address = Address.fromHexString("0x000000000000000000000000000000000000077e");
 
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
     @Mock
     AccountAccessor accountAccessor;
 
@@ -112,8 +117,16 @@ class HederaEvmWorldStateTest {
 
     @BeforeEach
     void setUp() {
-        final var accountDatabaseAccessor =
-                new AccountDatabaseAccessor(entityDatabaseAccessor, null, null, null, null, null, null);
+        final var accountDatabaseAccessor = new AccountDatabaseAccessor(
+                entityDatabaseAccessor,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                recordFileRepository,
+                new SimpleMeterRegistry());
         final var tokenDatabaseAccessor = new TokenDatabaseAccessor(
                 tokenRepository, entityDatabaseAccessor, entityRepository, customFeeDatabaseAccessor, nftRepository);
         final var tokenRelationshipDatabaseAccessor = new TokenRelationshipDatabaseAccessor(
@@ -20,11 +20,18 @@ import static com.google.protobuf.ByteString.EMPTY;
 import static com.hedera.mirror.common.domain.entity.AbstractEntity.DEFAULT_EXPIRY_TIMESTAMP;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hyperledger.besu.datatypes.Address.ZERO;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.web3.ContextExtension;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.evm.store.SharedStateCache;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.Store.OnMissing;
 import com.hedera.mirror.web3.repository.ContractRepository;
@@ -43,7 +50,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
+@ExtendWith({ContextExtension.class, MockitoExtension.class})
 class MirrorEntityAccessTest {
     private static final String HEX = "0x00000000000000000000000000000000000004e4";
     private static final Bytes BYTES = Bytes.fromHexString(HEX);
@@ -68,6 +75,9 @@ class MirrorEntityAccessTest {
     @Mock
     private Token token;
 
+    @Mock
+    private SharedStateCache sharedStateCache;
+
     @Mock
     private Store store;
 
@@ -75,7 +85,8 @@ class MirrorEntityAccessTest {
 
     @BeforeEach
     void setUp() {
-        mirrorEntityAccess = new MirrorEntityAccess(contractStateRepository, contractRepository, store);
+        mirrorEntityAccess =
+                new MirrorEntityAccess(contractStateRepository, contractRepository, sharedStateCache, store);
     }
 
     @Test
@@ -242,6 +253,21 @@ class MirrorEntityAccessTest {
         assertThat(result).isEqualTo(UInt256.fromHexString(HEX));
     }
 
+    @Test
+    void getStorageHistoricalBlock() {
+        final var recordFile = new RecordFile();
+        recordFile.setConsensusEnd(timestamp.get());
+        recordFile.setIndex(1L);
+        ContractCallContext.get().setRecordFile(recordFile);
+        final var slot = Bytes.of(0x04, 0xE4);
+        when(store.getHistoricalTimestamp()).thenReturn(timestamp);
+        when(sharedStateCache.getHistoricalStorage(eq(recordFile), eq(ENTITY_ID.longValue()), eq(slot), any()))
+                .thenReturn(Optional.of(DATA));
+        final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES));
+        assertThat(result).isEqualTo(UInt256.fromHexString(HEX));
+        verifyNoInteractions(contractStateRepository);
+    }
+
     @Test
     void getStorageFailsForNonMirrorAddress() {
         when(store.getAccount(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(Account.getEmptyAccount());
@@ -58,6 +58,7 @@ import com.hedera.mirror.web3.repository.CustomFeeRepository;
 import com.hedera.mirror.web3.repository.EntityRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.TokenBalanceRepository;
@@ -65,6 +66,7 @@ import com.hedera.mirror.web3.repository.TokenRepository;
 import com.hedera.node.app.service.evm.store.contracts.precompile.codec.EvmNftInfo;
 import com.hedera.node.app.service.evm.store.contracts.precompile.codec.TokenKeyType;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
 import java.util.Optional;
 import org.hyperledger.besu.datatypes.Address;
@@ -90,6 +92,9 @@ class TokenAccessorImplTest {
     private final DomainBuilder domainBuilder = new DomainBuilder();
     public TokenAccessorImpl tokenAccessor;
 
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
     @Mock
     private EntityRepository entityRepository;
 
@@ -148,7 +153,9 @@ class TokenAccessorImplTest {
                 tokenAllowanceRepository,
                 cryptoAllowanceRepository,
                 tokenAccountRepository,
-                accountBalanceRepository);
+                accountBalanceRepository,
+                recordFileRepository,
+                new SimpleMeterRegistry());
         accessors = List.of(
                 entityAccessor,
                 customFeeAccessor,
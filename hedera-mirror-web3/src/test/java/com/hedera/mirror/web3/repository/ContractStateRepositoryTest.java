@@ -17,10 +17,12 @@
 package com.hedera.mirror.web3.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.contract.ContractStateChange;
 import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 
@@ -100,4 +102,30 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
         assertThat(contractStateRepository.findStorage(contractState.getContractId(), new byte[20]))
                 .isEmpty();
     }
+
+    @Test
+    void findStorageChangesByBlock() {
+        var first = domainBuilder.contractStateChange().persist();
+        var contractId = first.getContractId();
+        var latest = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).slot(first.getSlot()))
+                .persist();
+        var readOnly = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).valueWritten(null))
+                .persist();
+        domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).slot(first.getSlot()))
+                .persist();
+        domainBuilder.contractStateChange().persist();
+
+        assertThat(contractStateRepository.findStorageChangesByBlock(
+                        contractId, first.getConsensusTimestamp(), readOnly.getConsensusTimestamp()))
+                .extracting(ContractSlotValue::getSlot, ContractSlotValue::getValue)
+                .containsExactlyInAnyOrder(
+                        tuple(latest.getSlot(), latest.getValueWritten()),
+                        tuple(readOnly.getSlot(), readOnly.getValueRead()));
+    }
 }
@@ -17,15 +17,18 @@
 package com.hedera.mirror.web3.service.utils;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import com.hedera.mirror.web3.Web3IntegrationTest;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.data.Percentage;
 import org.hyperledger.besu.datatypes.Address;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -97,6 +100,70 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isGreaterThan(regularCallGasUsage);
     }
 
+    @DisplayName("parallelSearch")
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, parallelism {2}")
+    @CsvSource({
+        "23850, 100000, 2",
+        "35000, 15_000_000, 4",
+        "55555, 55555, 4",
+        "77777, 77778, 4",
+        "21000, 50_000_000, 8",
+        "1_000_000, 1_000_000_000, 16"
+    })
+    void parallelSearch(final long low, final long high, final int parallelism) {
+        properties.setEstimateGasParallelism(parallelism);
+        final var required = low + low / 20;
+
+        final var result = binaryGasEstimator.search(
+                (a, b) -> iterations.addAndGet(b), gas -> createTxnResult(low, gas >= required), low, high);
+
+        assertThat(result).as("result must not go out of bounds").isBetween(low, high);
+        if (high > required) {
+            assertThat(result)
+                    .as("result must be sufficient and within the 20% range of the initial gasUsed(low param)")
+                    .isGreaterThanOrEqualTo(required)
+                    .isCloseTo(low, Percentage.withPercentage(20));
+        }
+        assertThat(iterations.get())
+                .as("iteration limit")
+                .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
+    }
+
+    @Test
+    void parallelSearchCountsAllProbes() {
+        properties.setEstimateGasParallelism(4);
+        final var gasUsed = new AtomicLong();
+
+        // A single round with probes at 108_000, 116_000, 124_000 and 132_000 where all but the first succeed
+        final var result = binaryGasEstimator.search(
+                (a, b) -> {
+                    gasUsed.set(a);
+                    iterations.addAndGet(b);
+                },
+                gas -> createTxnResult(gas / 2, gas >= 110_000L),
+                100_000L,
+                140_000L);
+
+        assertThat(result).isEqualTo(116_000L);
+        assertThat(iterations.get()).isEqualTo(4);
+        assertThat(gasUsed.get()).isEqualTo(108_000L + 58_000L + 62_000L + 66_000L);
+    }
+
+    @Test
+    void parallelSearchPropagatesException() {
+        properties.setEstimateGasParallelism(4);
+        final var exception = new IllegalStateException("error");
+
+        assertThatThrownBy(() -> binaryGasEstimator.search(
+                        (a, b) -> iterations.addAndGet(b),
+                        gas -> {
+                            throw exception;
+                        },
+                        21_000L,
+                        15_000_000L))
+                .isSameAs(exception);
+    }
+
     @Test
     void searchDoesntExceedMaxIterations() {
         /*
@@ -112,6 +179,11 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @AfterEach
+    void cleanup() {
+        properties.setEstimateGasParallelism(1);
+    }
+
     private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
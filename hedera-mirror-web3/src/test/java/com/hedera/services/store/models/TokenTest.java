@@ -657,9 +657,8 @@ class TokenTest {
     @Test
     void toStringWorks() {
         final var desired = "Token{id=1.2.3, type=FUNGIBLE_COMMON, deleted=false, autoRemoved=false, "
-                + "treasury=Account{id=0.0.0, expiry=0, balance=0, deleted=false, ownedNfts=0,"
-                + " alreadyUsedAutoAssociations=0, maxAutoAssociations=0, alias=, cryptoAllowances=null, "
-                + "fungibleTokenAllowances=null, approveForAllNfts=null, numAssociations=2, numPositiveBalances=1},"
+                + "treasury=Account{id=0.0.0, expiry=0, deleted=false,"
+                + " alreadyUsedAutoAssociations=0, maxAutoAssociations=0, alias=},"
                 + " autoRenewAccount=null, kycKey=null, freezeKey=null, frozenByDefault=false, supplyKey=null, currentSerialNumber=0,"
                 + " pauseKey=null, paused=false}";
 
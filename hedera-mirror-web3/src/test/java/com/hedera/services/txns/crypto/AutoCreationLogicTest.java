@@ -42,6 +42,7 @@ import com.hedera.mirror.web3.evm.store.accessor.AccountDatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.contract.EntityAddressSequencer;
+import com.hedera.mirror.web3.repository.RecordFileRepository;
 import com.hedera.node.app.service.evm.contracts.execution.EvmProperties;
 import com.hedera.node.app.service.evm.utils.EthSigsUtils;
 import com.hedera.services.fees.FeeCalculator;
@@ -56,6 +57,7 @@ import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.security.InvalidKeyException;
 import java.util.List;
 import org.apache.commons.lang3.tuple.Pair;
@@ -82,6 +84,9 @@ class AutoCreationLogicTest {
             Hex.decode("3a21033a514176466fa815ed481ffad09110a2d344f6c9b78c1d14afc351c3a51be33d");
     private final Timestamp at = Timestamp.newBuilder().setSeconds(1_234_567L).build();
 
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
     @Mock
     private EntityDatabaseAccessor entityDatabaseAccessor;
 
@@ -107,7 +112,16 @@ class AutoCreationLogicTest {
     @BeforeEach
     void setUp() {
         final List<DatabaseAccessor<Object, ?>> accessors =
-                List.of(new AccountDatabaseAccessor(entityDatabaseAccessor, null, null, null, null, null, null));
+                List.of(new AccountDatabaseAccessor(
+                        entityDatabaseAccessor,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        recordFileRepository,
+                        new SimpleMeterRegistry()));
         final var stackedStateFrames = new StackedStateFrames(accessors);
         store = new StoreImpl(stackedStateFrames);
         subject = new AutoCreationLogic(feeCalculator, evmProperties, syntheticTxnFactory, aliasManager);